@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.binding;
+
+import java.util.Arrays;
+import java.util.Objects;
+import javafx.beans.value.DoubleChangeListener;
+import javafx.beans.value.ObservableDoubleValue;
+
+/**
+ * A helper class that manages the {@link DoubleChangeListener DoubleChangeListeners} of an
+ * {@link ObservableDoubleValue}. It mirrors the change listener handling of
+ * {@link ExpressionHelper}, but keeps the current value as a primitive {@code double}, so
+ * that no boxing takes place when the listeners are notified.
+ */
+public final class DoubleChangeHelper extends ExpressionHelperBase {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Static methods
+
+    public static DoubleChangeHelper addListener(DoubleChangeHelper helper, ObservableDoubleValue observable, DoubleChangeListener listener) {
+        Objects.requireNonNull(observable, "observable");
+        Objects.requireNonNull(listener, "listener");
+        if (helper == null) {
+            helper = new DoubleChangeHelper(observable);
+        }
+        helper.add(listener);
+        return helper;
+    }
+
+    public static DoubleChangeHelper removeListener(DoubleChangeHelper helper, DoubleChangeListener listener) {
+        Objects.requireNonNull(listener, "listener");
+        if (helper == null) {
+            return null;
+        }
+        helper.remove(listener);
+        return helper.size == 0 ? null : helper;
+    }
+
+    public static void fireValueChangedEvent(DoubleChangeHelper helper) {
+        if (helper != null) {
+            helper.fireValueChangedEvent();
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Common implementations
+
+    private final ObservableDoubleValue observable;
+    private DoubleChangeListener[] listeners;
+    private int size;
+    private boolean locked;
+    private double currentValue;
+
+    private DoubleChangeHelper(ObservableDoubleValue observable) {
+        this.observable = observable;
+        this.listeners = new DoubleChangeListener[1];
+    }
+
+    private void add(DoubleChangeListener listener) {
+        final int oldCapacity = listeners.length;
+        if (locked) {
+            final int newCapacity = (size < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
+            listeners = Arrays.copyOf(listeners, newCapacity);
+        } else if (size == oldCapacity) {
+            size = trim(size, listeners);
+            if (size == oldCapacity) {
+                final int newCapacity = (oldCapacity * 3)/2 + 1;
+                listeners = Arrays.copyOf(listeners, newCapacity);
+            }
+        }
+        listeners[size++] = listener;
+        if (size == 1) {
+            currentValue = observable.get();
+        }
+    }
+
+    private void remove(DoubleChangeListener listener) {
+        for (int index = 0; index < size; index++) {
+            if (listener.equals(listeners[index])) {
+                final int numMoved = size - index - 1;
+                final DoubleChangeListener[] oldListeners = listeners;
+                if (locked) {
+                    listeners = new DoubleChangeListener[listeners.length];
+                    System.arraycopy(oldListeners, 0, listeners, 0, index);
+                }
+                if (numMoved > 0) {
+                    System.arraycopy(oldListeners, index+1, listeners, index, numMoved);
+                }
+                size--;
+                if (!locked) {
+                    listeners[size] = null; // Let gc do its work
+                }
+                break;
+            }
+        }
+    }
+
+    private void fireValueChangedEvent() {
+        final DoubleChangeListener[] curListeners = listeners;
+        final int curSize = size;
+        final double oldValue = currentValue;
+        final double newValue = observable.get();
+        currentValue = newValue;
+
+        if (Double.compare(oldValue, newValue) == 0) {
+            return;
+        }
+
+        final boolean wasLocked = locked;
+        try {
+            locked = true;
+            for (int i = 0; i < curSize; i++) {
+                try {
+                    curListeners[i].changed(observable, oldValue, newValue);
+                } catch (Exception e) {
+                    Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                }
+            }
+        } finally {
+            locked = wasLocked;
+        }
+    }
+}
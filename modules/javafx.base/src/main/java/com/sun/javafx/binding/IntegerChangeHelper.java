@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.binding;
+
+import java.util.Arrays;
+import java.util.Objects;
+import javafx.beans.value.IntegerChangeListener;
+import javafx.beans.value.ObservableIntegerValue;
+
+/**
+ * A helper class that manages the {@link IntegerChangeListener IntegerChangeListeners} of an
+ * {@link ObservableIntegerValue}. It mirrors the change listener handling of
+ * {@link ExpressionHelper}, but keeps the current value as a primitive {@code int}, so
+ * that no boxing takes place when the listeners are notified.
+ */
+public final class IntegerChangeHelper extends ExpressionHelperBase {
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Static methods
+
+    public static IntegerChangeHelper addListener(IntegerChangeHelper helper, ObservableIntegerValue observable, IntegerChangeListener listener) {
+        Objects.requireNonNull(observable, "observable");
+        Objects.requireNonNull(listener, "listener");
+        if (helper == null) {
+            helper = new IntegerChangeHelper(observable);
+        }
+        helper.add(listener);
+        return helper;
+    }
+
+    public static IntegerChangeHelper removeListener(IntegerChangeHelper helper, IntegerChangeListener listener) {
+        Objects.requireNonNull(listener, "listener");
+        if (helper == null) {
+            return null;
+        }
+        helper.remove(listener);
+        return helper.size == 0 ? null : helper;
+    }
+
+    public static void fireValueChangedEvent(IntegerChangeHelper helper) {
+        if (helper != null) {
+            helper.fireValueChangedEvent();
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Common implementations
+
+    private final ObservableIntegerValue observable;
+    private IntegerChangeListener[] listeners;
+    private int size;
+    private boolean locked;
+    private int currentValue;
+
+    private IntegerChangeHelper(ObservableIntegerValue observable) {
+        this.observable = observable;
+        this.listeners = new IntegerChangeListener[1];
+    }
+
+    private void add(IntegerChangeListener listener) {
+        final int oldCapacity = listeners.length;
+        if (locked) {
+            final int newCapacity = (size < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
+            listeners = Arrays.copyOf(listeners, newCapacity);
+        } else if (size == oldCapacity) {
+            size = trim(size, listeners);
+            if (size == oldCapacity) {
+                final int newCapacity = (oldCapacity * 3)/2 + 1;
+                listeners = Arrays.copyOf(listeners, newCapacity);
+            }
+        }
+        listeners[size++] = listener;
+        if (size == 1) {
+            currentValue = observable.get();
+        }
+    }
+
+    private void remove(IntegerChangeListener listener) {
+        for (int index = 0; index < size; index++) {
+            if (listener.equals(listeners[index])) {
+                final int numMoved = size - index - 1;
+                final IntegerChangeListener[] oldListeners = listeners;
+                if (locked) {
+                    listeners = new IntegerChangeListener[listeners.length];
+                    System.arraycopy(oldListeners, 0, listeners, 0, index);
+                }
+                if (numMoved > 0) {
+                    System.arraycopy(oldListeners, index+1, listeners, index, numMoved);
+                }
+                size--;
+                if (!locked) {
+                    listeners[size] = null; // Let gc do its work
+                }
+                break;
+            }
+        }
+    }
+
+    private void fireValueChangedEvent() {
+        final IntegerChangeListener[] curListeners = listeners;
+        final int curSize = size;
+        final int oldValue = currentValue;
+        final int newValue = observable.get();
+        currentValue = newValue;
+
+        if (oldValue == newValue) {
+            return;
+        }
+
+        final boolean wasLocked = locked;
+        try {
+            locked = true;
+            for (int i = 0; i < curSize; i++) {
+                try {
+                    curListeners[i].changed(observable, oldValue, newValue);
+                } catch (Exception e) {
+                    Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                }
+            }
+        } finally {
+            locked = wasLocked;
+        }
+    }
+}
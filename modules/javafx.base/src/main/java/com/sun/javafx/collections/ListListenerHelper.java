@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -76,6 +76,10 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
         return helper != null;
     }
 
+    public static <E> boolean hasChangeListeners(ListListenerHelper<E> helper) {
+        return helper != null && helper.hasChangeListeners();
+    }
+
     //------------------------------------------------------------------------------------------------------------------
     // Common implementations
 
@@ -87,6 +91,8 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
 
     protected abstract void fireValueChangedEvent(ListChangeListener.Change<? extends E> change);
 
+    protected abstract boolean hasChangeListeners();
+
     //------------------------------------------------------------------------------------------------------------------
     // Implementations
 
@@ -118,6 +124,11 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
             return this;
         }
 
+        @Override
+        protected boolean hasChangeListeners() {
+            return false;
+        }
+
         @Override
         protected void fireValueChangedEvent(ListChangeListener.Change<? extends E> change) {
             try {
@@ -156,6 +167,11 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
             return (listener.equals(this.listener))? null : this;
         }
 
+        @Override
+        protected boolean hasChangeListeners() {
+            return true;
+        }
+
         @Override
         protected void fireValueChangedEvent(ListChangeListener.Change<? extends E> change) {
             try {
@@ -305,6 +321,11 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
             return this;
         }
 
+        @Override
+        protected boolean hasChangeListeners() {
+            return changeSize > 0;
+        }
+
         @Override
         protected void fireValueChangedEvent(ListChangeListener.Change<? extends E> change) {
             final InvalidationListener[] curInvalidationList = invalidationListeners;
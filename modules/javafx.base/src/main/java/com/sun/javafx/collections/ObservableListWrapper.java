@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,7 @@ import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Objects;
 import java.util.RandomAccess;
 
@@ -53,6 +54,17 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E> im
         elementObserver = null;
     }
 
+    /**
+     * Returns whether the backing list supports fast random access. This
+     * wrapper is always marked as {@link RandomAccess}, but its {@code get}
+     * is only as fast as the one of the backing list.
+     *
+     * @return true if the backing list implements {@code RandomAccess}
+     */
+    public boolean isBackingListRandomAccess() {
+        return backingList instanceof RandomAccess;
+    }
+
     public ObservableListWrapper(List<E> list, Callback<E, Observable[]> extractor) {
         backingList = list;
         this.elementObserver = new ElementObserver<>(extractor, new Callback<E, InvalidationListener>() {
@@ -162,8 +174,16 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E> im
     public void remove(int fromIndex, int toIndex) {
         Objects.checkFromToIndex(fromIndex, toIndex, size());
         beginChange();
-        for (int i = fromIndex; i < toIndex; ++i) {
-            remove(fromIndex);
+        if (fromIndex < toIndex) {
+            List<E> range = backingList.subList(fromIndex, toIndex);
+            if (elementObserver != null) {
+                for (int i = 0, max = range.size(); i < max; ++i) {
+                    elementObserver.detachListener(range.get(i));
+                }
+            }
+            nextRemove(fromIndex, range);
+            range.clear();
+            ++modCount;
         }
         endChange();
     }
@@ -183,10 +203,7 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E> im
             }
         }
         if (!bs.isEmpty()) {
-            int cur = size();
-            while ((cur = bs.previousSetBit(cur - 1)) >= 0) {
-                remove(cur);
-            }
+            removeAll(bs);
         }
         endChange();
         return !bs.isEmpty();
@@ -212,15 +229,51 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E> im
             }
         }
         if (!bs.isEmpty()) {
-            int cur = size();
-            while ((cur = bs.previousSetBit(cur - 1)) >= 0) {
-                remove(cur);
-            }
+            removeAll(bs);
         }
         endChange();
         return !bs.isEmpty();
     }
 
+    /**
+     * Removes the elements at the indices that are set in the specified bit set. The removals
+     * are reported from the last to the first index, but the backing list is compacted in a
+     * single pass, which avoids shifting the tail of the list once for every removed element.
+     * A backing list without fast random access is compacted with a single iterator pass.
+     */
+    private void removeAll(BitSet bs) {
+        int cur = size();
+        while ((cur = bs.previousSetBit(cur - 1)) >= 0) {
+            E removed = backingList.get(cur);
+            if (elementObserver != null) {
+                elementObserver.detachListener(removed);
+            }
+            nextRemove(cur, removed);
+        }
+
+        final int size = size();
+        if (isBackingListRandomAccess()) {
+            int dst = bs.nextSetBit(0);
+            for (int src = dst + 1; src < size; ++src) {
+                if (!bs.get(src)) {
+                    backingList.set(dst++, backingList.get(src));
+                }
+            }
+            backingList.subList(dst, size).clear();
+        } else {
+            // Indexed access is linear in a sequential list, so remove the
+            // elements while walking the list once.
+            ListIterator<E> it = backingList.listIterator(bs.nextSetBit(0));
+            for (int i = it.nextIndex(); it.hasNext(); ++i) {
+                it.next();
+                if (bs.get(i)) {
+                    it.remove();
+                }
+            }
+        }
+        ++modCount;
+    }
+
     private SortHelper helper;
 
     @Override
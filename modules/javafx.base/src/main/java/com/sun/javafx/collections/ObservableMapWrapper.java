@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,7 +31,9 @@ import javafx.collections.ObservableMap;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -46,6 +48,16 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V>{
     private MapListenerHelper<K, V> listenerHelper;
     private final Map<K, V> backingMap;
 
+    private int batchDepth;
+
+    /**
+     * The keys that were modified during the current batch, mapped to the state
+     * of their mapping before the batch began.
+     */
+    private Map<K, BatchedChange<V>> batchedChanges;
+
+    private record BatchedChange<V>(boolean wasPresent, V oldValue) {}
+
     public ObservableMapWrapper(Map<K, V> map) {
         this.backingMap = map;
     }
@@ -112,9 +124,60 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V>{
     }
 
     protected void callObservers(MapChangeListener.Change<K,V> change) {
+        if (batchDepth > 0) {
+            if (MapListenerHelper.hasListeners(listenerHelper)) {
+                if (batchedChanges == null) {
+                    batchedChanges = new LinkedHashMap<>();
+                }
+                batchedChanges.putIfAbsent(change.getKey(),
+                        new BatchedChange<>(change.wasRemoved(), change.getValueRemoved()));
+            }
+            return;
+        }
         MapListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
+    /**
+     * Begins a batch of modifications. Listeners are not notified of modifications
+     * that are made until the matching call to {@link #endBatch()}. When the batch
+     * ends, a single change is reported for every key whose mapping differs from
+     * its mapping before the batch began. Keys that were modified and restored to
+     * their original mapping within the batch are not reported at all.
+     * <p>
+     * Batches can be nested, in which case listeners are notified when the outer-most
+     * batch ends.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch of modifications that was started with {@link #beginBatch()}.
+     *
+     * @throws IllegalStateException if no batch was started
+     */
+    public void endBatch() {
+        if (batchDepth <= 0) {
+            throw new IllegalStateException("Called endBatch before beginBatch");
+        }
+        if (--batchDepth > 0 || batchedChanges == null) {
+            return;
+        }
+
+        final Map<K, BatchedChange<V>> changes = batchedChanges;
+        batchedChanges = null;
+        for (Map.Entry<K, BatchedChange<V>> entry : changes.entrySet()) {
+            final K key = entry.getKey();
+            final BatchedChange<V> change = entry.getValue();
+            final boolean isPresent = backingMap.containsKey(key);
+            final V value = isPresent ? backingMap.get(key) : null;
+            if (isPresent == change.wasPresent() && (!isPresent || Objects.equals(value, change.oldValue()))) {
+                continue;
+            }
+            callObservers(new SimpleChange(key, change.oldValue(), value, isPresent, change.wasPresent()));
+        }
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         listenerHelper = MapListenerHelper.addListener(listenerHelper, listener);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,6 +31,8 @@ import javafx.collections.SetChangeListener;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -42,6 +44,14 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
 
     private SetListenerHelper<E> listenerHelper;
 
+    private int batchDepth;
+
+    /**
+     * The elements that were added or removed during the current batch, mapped to
+     * whether they were contained in the set before the batch began.
+     */
+    private Map<E, Boolean> batchedChanges;
+
     /**
      * Creates new instance of ObservableSet that wraps
      * the particular set specified by the parameter set.
@@ -125,9 +135,57 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
     }
 
     private void callObservers(SetChangeListener.Change<E> change) {
+        if (batchDepth > 0) {
+            if (SetListenerHelper.hasListeners(listenerHelper)) {
+                E element = change.wasAdded() ? change.getElementAdded() : change.getElementRemoved();
+                if (batchedChanges == null) {
+                    batchedChanges = new LinkedHashMap<>();
+                }
+                batchedChanges.putIfAbsent(element, change.wasRemoved());
+            }
+            return;
+        }
         SetListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
+    /**
+     * Begins a batch of modifications. Listeners are not notified of modifications
+     * that are made until the matching call to {@link #endBatch()}. When the batch
+     * ends, a single change is reported for every element that was added or removed
+     * as the net effect of the batch. Elements that were added and removed again
+     * within the batch are not reported at all.
+     * <p>
+     * Batches can be nested, in which case listeners are notified when the outer-most
+     * batch ends.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch of modifications that was started with {@link #beginBatch()}.
+     *
+     * @throws IllegalStateException if no batch was started
+     */
+    public void endBatch() {
+        if (batchDepth <= 0) {
+            throw new IllegalStateException("Called endBatch before beginBatch");
+        }
+        if (--batchDepth > 0 || batchedChanges == null) {
+            return;
+        }
+
+        final Map<E, Boolean> changes = batchedChanges;
+        batchedChanges = null;
+        for (Map.Entry<E, Boolean> entry : changes.entrySet()) {
+            final E element = entry.getKey();
+            final boolean wasContained = entry.getValue();
+            if (backingSet.contains(element) != wasContained) {
+                callObservers(wasContained ? new SimpleRemoveChange(element) : new SimpleAddChange(element));
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,16 +32,23 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.Set;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 public abstract class VetoableListDecorator<E> implements ObservableList<E>, SortableList<E> {
 
+    /**
+     * The size above which the argument of a bulk removal is copied into a hash set.
+     */
+    private static final int HASHED_COLLECTION_THRESHOLD = 16;
+
     private final ObservableList<E> list;
     private int modCount;
     private ListListenerHelper<E> helper;
@@ -149,9 +156,9 @@ public abstract class VetoableListDecorator<E> implements ObservableList<E>, Sor
                     if (toBeRemoved[pointer] == offset + i) {
                         toBeRemoved[pointer] = offset + i + 1;
                     } else {
-                        int[] tmp = new int[toBeRemoved.length + 2];
-                        System.arraycopy(toBeRemoved, 0, tmp, 0, toBeRemoved.length);
-                        toBeRemoved = tmp;
+                        if (pointer + 2 >= toBeRemoved.length) {
+                            toBeRemoved = Arrays.copyOf(toBeRemoved, toBeRemoved.length * 2);
+                        }
                         toBeRemoved[pointer + 1] = offset + i;
                         toBeRemoved[pointer + 2] = offset + i + 1;
                         pointer += 2;
@@ -160,6 +167,9 @@ public abstract class VetoableListDecorator<E> implements ObservableList<E>, Sor
             }
         }
         if (pointer != -1) {
+            if (pointer + 1 < toBeRemoved.length) {
+                toBeRemoved = Arrays.copyOf(toBeRemoved, pointer + 1);
+            }
             onProposedChange(Collections.<E>emptyList(), toBeRemoved);
         }
     }
@@ -413,9 +423,15 @@ public abstract class VetoableListDecorator<E> implements ObservableList<E>, Sor
     /**
      * Returns a collection that can safely be used in the {@link #removeAll(Collection)} and
      * {@link #retainAll(Collection)} operations without triggering {@link ConcurrentModificationException}.
+     * Large collections that are not sets are copied into a {@code HashSet}, as both operations query
+     * the collection once for every element of this list.
      */
     private <T> Collection<T> safeCollection(Collection<T> c) {
         Objects.requireNonNull(c);
+        if (!(c instanceof Set<?>) && c.size() > HASHED_COLLECTION_THRESHOLD) {
+            return new HashSet<>(c);
+        }
+
         return c instanceof VetoableSubListDecorator<?> d && d.parent == this
             ? (List<T>)Arrays.asList(c.toArray())
             : c;
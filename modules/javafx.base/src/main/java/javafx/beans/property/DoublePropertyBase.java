@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,9 +31,11 @@ import javafx.beans.binding.DoubleBinding;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
+import com.sun.javafx.binding.DoubleChangeHelper;
 import com.sun.javafx.binding.ExpressionHelper;
 import java.lang.ref.WeakReference;
 import javafx.beans.WeakListener;
+import javafx.beans.value.DoubleChangeListener;
 import javafx.beans.value.ObservableDoubleValue;
 import javafx.beans.value.ObservableNumberValue;
 
@@ -57,6 +59,7 @@ public abstract class DoublePropertyBase extends DoubleProperty {
     private InvalidationListener listener = null;
     private boolean valid = true;
     private ExpressionHelper<Number> helper = null;
+    private DoubleChangeHelper primitiveHelper = null;
 
     /**
      * The constructor of the {@code DoublePropertyBase}.
@@ -94,10 +97,43 @@ public abstract class DoublePropertyBase extends DoubleProperty {
         helper = ExpressionHelper.removeListener(helper, listener);
     }
 
+    /**
+     * Adds a {@link DoubleChangeListener} which will be notified whenever the value of this
+     * property changes. In contrast to a {@link ChangeListener}, the old and the new value
+     * are passed as primitive values, so no {@code Number} objects are allocated when the
+     * listener is notified.
+     * <p>
+     * Like a {@code ChangeListener}, a {@code DoubleChangeListener} forces the eager
+     * computation of the value, even if the property is bound and the binding is invalid.
+     *
+     * @param listener the listener to register
+     * @throws NullPointerException if the listener is null
+     * @see #removeDoubleChangeListener(DoubleChangeListener)
+     * @since 28
+     */
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        primitiveHelper = DoubleChangeHelper.addListener(primitiveHelper, this, listener);
+    }
+
+    /**
+     * Removes the given {@link DoubleChangeListener}. If the listener was not registered
+     * for this property, this method has no effect. If it was registered multiple times,
+     * only the first occurrence is removed.
+     *
+     * @param listener the listener to remove
+     * @throws NullPointerException if the listener is null
+     * @see #addDoubleChangeListener(DoubleChangeListener)
+     * @since 28
+     */
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        primitiveHelper = DoubleChangeHelper.removeListener(primitiveHelper, listener);
+    }
+
     /**
      * Sends notifications to all attached
      * {@link javafx.beans.InvalidationListener InvalidationListeners} and
-     * {@link javafx.beans.value.ChangeListener ChangeListeners}.
+     * {@link javafx.beans.value.ChangeListener ChangeListeners} and
+     * {@link DoubleChangeListener DoubleChangeListeners}.
      *
      * This method is called when the value is changed, either manually by
      * calling {@link #set(double)} or in case of a bound property, if the
@@ -105,6 +141,7 @@ public abstract class DoublePropertyBase extends DoubleProperty {
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        DoubleChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
     private void markInvalid() {
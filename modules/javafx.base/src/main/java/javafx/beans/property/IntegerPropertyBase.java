@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,9 +31,11 @@ import javafx.beans.binding.IntegerBinding;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
+import com.sun.javafx.binding.IntegerChangeHelper;
 import com.sun.javafx.binding.ExpressionHelper;
 import java.lang.ref.WeakReference;
 import javafx.beans.WeakListener;
+import javafx.beans.value.IntegerChangeListener;
 import javafx.beans.value.ObservableIntegerValue;
 import javafx.beans.value.ObservableNumberValue;
 
@@ -57,6 +59,7 @@ public abstract class IntegerPropertyBase extends IntegerProperty {
     private InvalidationListener listener = null;
     private boolean valid = true;
     private ExpressionHelper<Number> helper = null;
+    private IntegerChangeHelper primitiveHelper = null;
 
     /**
      * The constructor of the {@code IntegerPropertyBase}.
@@ -94,10 +97,43 @@ public abstract class IntegerPropertyBase extends IntegerProperty {
         helper = ExpressionHelper.removeListener(helper, listener);
     }
 
+    /**
+     * Adds an {@link IntegerChangeListener} which will be notified whenever the value of this
+     * property changes. In contrast to a {@link ChangeListener}, the old and the new value
+     * are passed as primitive values, so no {@code Number} objects are allocated when the
+     * listener is notified.
+     * <p>
+     * Like a {@code ChangeListener}, an {@code IntegerChangeListener} forces the eager
+     * computation of the value, even if the property is bound and the binding is invalid.
+     *
+     * @param listener the listener to register
+     * @throws NullPointerException if the listener is null
+     * @see #removeIntegerChangeListener(IntegerChangeListener)
+     * @since 28
+     */
+    public void addIntegerChangeListener(IntegerChangeListener listener) {
+        primitiveHelper = IntegerChangeHelper.addListener(primitiveHelper, this, listener);
+    }
+
+    /**
+     * Removes the given {@link IntegerChangeListener}. If the listener was not registered
+     * for this property, this method has no effect. If it was registered multiple times,
+     * only the first occurrence is removed.
+     *
+     * @param listener the listener to remove
+     * @throws NullPointerException if the listener is null
+     * @see #addIntegerChangeListener(IntegerChangeListener)
+     * @since 28
+     */
+    public void removeIntegerChangeListener(IntegerChangeListener listener) {
+        primitiveHelper = IntegerChangeHelper.removeListener(primitiveHelper, listener);
+    }
+
     /**
      * Sends notifications to all attached
      * {@link javafx.beans.InvalidationListener InvalidationListeners} and
-     * {@link javafx.beans.value.ChangeListener ChangeListeners}.
+     * {@link javafx.beans.value.ChangeListener ChangeListeners} and
+     * {@link IntegerChangeListener IntegerChangeListeners}.
      *
      * This method is called when the value is changed, either manually by
      * calling {@link #set(int)} or in case of a bound property, if the
@@ -105,6 +141,7 @@ public abstract class IntegerPropertyBase extends IntegerProperty {
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        IntegerChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
     private void markInvalid() {
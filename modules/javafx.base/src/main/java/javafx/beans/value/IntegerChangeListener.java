@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.beans.value;
+
+/**
+ * An {@code IntegerChangeListener} is notified whenever the value of an
+ * {@link ObservableIntegerValue} changes. Unlike a {@link ChangeListener ChangeListener&lt;Number&gt;},
+ * it receives the old and the new value as primitive {@code int} values, which means
+ * that no boxed {@code Number} objects are allocated when the value changes.
+ * <p>
+ * An {@code IntegerChangeListener} can be registered and unregistered with
+ * {@link javafx.beans.property.IntegerPropertyBase#addIntegerChangeListener(IntegerChangeListener)}
+ * respectively
+ * {@link javafx.beans.property.IntegerPropertyBase#removeIntegerChangeListener(IntegerChangeListener)}.
+ * <p>
+ * The same instance of {@code IntegerChangeListener} can be registered to listen to
+ * multiple {@code ObservableIntegerValues}.
+ *
+ * @see ChangeListener
+ * @since 28
+ */
+@FunctionalInterface
+public interface IntegerChangeListener {
+
+    /**
+     * Called when the value of an {@link ObservableIntegerValue} changes.
+     * <p>
+     * In general, it is considered bad practice to modify the observed value in
+     * this method.
+     *
+     * @param observable
+     *            The {@code ObservableIntegerValue} which value changed
+     * @param oldValue
+     *            The old value
+     * @param newValue
+     *            The new value
+     */
+    void changed(ObservableIntegerValue observable, int oldValue, int newValue);
+}
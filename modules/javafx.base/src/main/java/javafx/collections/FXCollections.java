@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -44,6 +44,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 
@@ -698,6 +699,106 @@ public class FXCollections {
         }
     }
 
+    /**
+     * Runs the given action as a single batch of modifications of the provided observable list.
+     * If the list was created by one of the {@code observableList} or {@code observableArrayList}
+     * methods of this class, or is a {@link ModifiableObservableListBase}, all modifications made by
+     * the action are coalesced and reported to the listeners as <b>one</b> change notification,
+     * which describes the net effect of the batch. For other lists, the action is run and the
+     * listeners are notified as usual.
+     * <p>
+     * Batches can be nested, in which case the listeners are notified when the outer-most batch ends.
+     * If the action throws an exception, the modifications that were made until then are reported
+     * before the exception is propagated to the caller.
+     *
+     * @param <E> the type of elements in the list
+     * @param list the list to modify
+     * @param action the action that modifies the list
+     * @throws NullPointerException if {@code list} or {@code action} is {@code null}
+     * @since 28
+     */
+    public static <E> void batch(ObservableList<E> list, Runnable action) {
+        Objects.requireNonNull(list, "list cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+        if (list instanceof ModifiableObservableListBase<E> modifiableList) {
+            modifiableList.beginChange();
+            try {
+                action.run();
+            } finally {
+                modifiableList.endChange();
+            }
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs the given action as a single batch of modifications of the provided observable map.
+     * If the map was created by one of the {@code observableMap} or {@code observableHashMap}
+     * methods of this class, the listeners are not notified until the action completes. Then,
+     * one change is reported for every key whose mapping differs from its mapping before the
+     * batch began; keys that were modified and restored to their original mapping are not
+     * reported at all. For other maps, the action is run and the listeners are notified as usual.
+     * <p>
+     * Batches can be nested, in which case the listeners are notified when the outer-most batch ends.
+     * If the action throws an exception, the modifications that were made until then are reported
+     * before the exception is propagated to the caller.
+     *
+     * @param <K> the type of keys in the map
+     * @param <V> the type of values in the map
+     * @param map the map to modify
+     * @param action the action that modifies the map
+     * @throws NullPointerException if {@code map} or {@code action} is {@code null}
+     * @since 28
+     */
+    public static <K, V> void batch(ObservableMap<K, V> map, Runnable action) {
+        Objects.requireNonNull(map, "map cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+        if (map instanceof ObservableMapWrapper<K, V> wrapper) {
+            wrapper.beginBatch();
+            try {
+                action.run();
+            } finally {
+                wrapper.endBatch();
+            }
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs the given action as a single batch of modifications of the provided observable set.
+     * If the set was created by one of the {@code observableSet} methods of this class, the
+     * listeners are not notified until the action completes. Then, one change is reported for
+     * every element that was added or removed as the net effect of the batch; elements that were
+     * added and removed again are not reported at all. For other sets, the action is run and the
+     * listeners are notified as usual.
+     * <p>
+     * Batches can be nested, in which case the listeners are notified when the outer-most batch ends.
+     * If the action throws an exception, the modifications that were made until then are reported
+     * before the exception is propagated to the caller.
+     *
+     * @param <E> the type of elements in the set
+     * @param set the set to modify
+     * @param action the action that modifies the set
+     * @throws NullPointerException if {@code set} or {@code action} is {@code null}
+     * @since 28
+     */
+    public static <E> void batch(ObservableSet<E> set, Runnable action) {
+        Objects.requireNonNull(set, "set cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+        if (set instanceof ObservableSetWrapper<E> wrapper) {
+            wrapper.beginBatch();
+            try {
+                action.run();
+            } finally {
+                wrapper.endBatch();
+            }
+        } else {
+            action.run();
+        }
+    }
+
     private static class EmptyObservableList<E> extends AbstractList<E> implements ObservableList<E> {
 
         private final ListIterator<E> iterator = new ListIterator<>() {
@@ -45,6 +45,43 @@ final class ListChangeBuilder<E> {
     private List<SubChange<E>> updateChanges;
     private SubChange<E> permutationChange;
 
+    /*
+     * If no ListChangeListener is registered when the outer-most change block
+     * begins, the individual changes are not recorded at all, since the only
+     * listeners that could be notified are InvalidationListeners, which do not
+     * inspect the change. In this case, only the fact that something changed
+     * is remembered, and a reusable change without any sub-changes is fired.
+     */
+    private boolean discardChanges;
+    private boolean changedWhileDiscarding;
+    private InvalidationChange<E> invalidationChange;
+
+    /*
+     * Called when a ListChangeListener is added to the list. If the changes of
+     * the current block are discarded, they are recorded from now on, since the
+     * new listener cannot inspect the change that would otherwise be fired.
+     * The changes made before the listener was added are not known, so they
+     * are reported as a replacement of the whole list, starting from the
+     * contents that the new listener could observe when it was added.
+     */
+    void changeListenerAdded() {
+        if (discardChanges) {
+            discardChanges = false;
+            if (changedWhileDiscarding) {
+                changedWhileDiscarding = false;
+                nextReplace(0, list.size(), new ArrayList<>(list));
+            }
+        }
+    }
+
+    private boolean discard() {
+        if (discardChanges) {
+            changedWhileDiscarding = true;
+            return true;
+        }
+        return false;
+    }
+
     private void checkAddRemoveList() {
         if (addRemoveChanges == null) {
             addRemoveChanges = new ArrayList<>();
@@ -200,6 +237,9 @@ final class ListChangeBuilder<E> {
 
     public void nextRemove(int idx, E removed) {
         checkState();
+        if (discard()) {
+            return;
+        }
         checkAddRemoveList();
 
         final SubChange<E> last = addRemoveChanges.isEmpty() ? null
@@ -234,6 +274,12 @@ final class ListChangeBuilder<E> {
 
     public void nextRemove(int idx, List<? extends E> removed) {
         checkState();
+        if (discardChanges) {
+            if (!removed.isEmpty()) {
+                changedWhileDiscarding = true;
+            }
+            return;
+        }
 
         for (int i = 0; i < removed.size(); ++i) {
             nextRemove(idx, removed.get(i));
@@ -242,6 +288,9 @@ final class ListChangeBuilder<E> {
 
     public void nextAdd(int from, int to) {
         checkState();
+        if (discard()) {
+            return;
+        }
         checkAddRemoveList();
         final SubChange<E> last = addRemoveChanges.isEmpty() ? null :
                 addRemoveChanges.get(addRemoveChanges.size() - 1);
@@ -276,6 +325,9 @@ final class ListChangeBuilder<E> {
 
     public void nextPermutation(int from, int to, int[] perm) {
         checkState();
+        if (discard()) {
+            return;
+        }
 
         int prePermFrom = from;
         int prePermTo = to;
@@ -458,6 +510,9 @@ final class ListChangeBuilder<E> {
 
     public void nextUpdate(int idx) {
         checkState();
+        if (discard()) {
+            return;
+        }
         if (updateChanges == null) {
             updateChanges = new ArrayList<>();
         }
@@ -470,6 +525,20 @@ final class ListChangeBuilder<E> {
     }
 
     private void commit() {
+        if (discardChanges) {
+            if (changeLock == 0) {
+                discardChanges = false;
+                if (changedWhileDiscarding) {
+                    changedWhileDiscarding = false;
+                    if (invalidationChange == null) {
+                        invalidationChange = new InvalidationChange<>(list);
+                    }
+                    list.fireChange(invalidationChange);
+                }
+            }
+            return;
+        }
+
         final boolean addRemoveNotEmpty = addRemoveChanges != null && !addRemoveChanges.isEmpty();
         final boolean updateNotEmpty = updateChanges != null && !updateChanges.isEmpty();
         if (changeLock == 0
@@ -531,7 +600,9 @@ final class ListChangeBuilder<E> {
     }
 
     public void beginChange() {
-        changeLock++;
+        if (changeLock++ == 0) {
+            discardChanges = !list.hasChangeListeners();
+        }
     }
 
     public void endChange() {
@@ -553,7 +624,7 @@ final class ListChangeBuilder<E> {
         if (c.perm == null) {
             c.perm = EMPTY_PERM;
         }
-        if (c.removed == null) {
+        if (c.removed == null || c.removed.isEmpty()) {
             c.removed = Collections.<E>emptyList();
         } else {
             c.removed = Collections.unmodifiableList(c.removed);
@@ -719,4 +790,50 @@ final class ListChangeBuilder<E> {
         }
 
     }
+
+    /**
+     * The change that is fired when no {@code ListChangeListener} was registered
+     * at the time the change began. It does not contain any sub-changes, and
+     * is reused for all subsequent notifications.
+     */
+    private static class InvalidationChange<E> extends Change<E> {
+
+        private InvalidationChange(ObservableList<E> list) {
+            super(list);
+        }
+
+        @Override
+        public boolean next() {
+            return false;
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public int getFrom() {
+            throw new IllegalStateException("Invalid Change state: the change does not contain any sub-changes.");
+        }
+
+        @Override
+        public int getTo() {
+            throw new IllegalStateException("Invalid Change state: the change does not contain any sub-changes.");
+        }
+
+        @Override
+        public List<E> getRemoved() {
+            throw new IllegalStateException("Invalid Change state: the change does not contain any sub-changes.");
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            throw new IllegalStateException("Invalid Change state: the change does not contain any sub-changes.");
+        }
+
+        @Override
+        public String toString() {
+            return "{ }";
+        }
+    }
 }
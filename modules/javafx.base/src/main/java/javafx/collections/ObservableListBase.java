@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -231,6 +231,9 @@ public abstract class ObservableListBase<E> extends AbstractList<E>  implements
     @Override
     public final void addListener(ListChangeListener<? super E> listener) {
         listenerHelper = ListListenerHelper.addListener(listenerHelper, listener);
+        if (changeBuilder != null) {
+            changeBuilder.changeListenerAdded();
+        }
     }
 
     @Override
@@ -254,6 +257,14 @@ public abstract class ObservableListBase<E> extends AbstractList<E>  implements
         return ListListenerHelper.hasListeners(listenerHelper);
     }
 
+    /**
+     * Returns true if there is at least one {@link ListChangeListener} registered
+     * for this list, as opposed to only {@link InvalidationListener InvalidationListeners}.
+     */
+    boolean hasChangeListeners() {
+        return ListListenerHelper.hasChangeListeners(listenerHelper);
+    }
+
     @Override
     public boolean addAll(E... elements) {
         return addAll(Arrays.asList(elements));
@@ -26,6 +26,7 @@
 package javafx.collections.transformation;
 
 import com.sun.javafx.collections.NonIterableChange.GenericAddRemoveChange;
+import com.sun.javafx.collections.ObservableListWrapper;
 import com.sun.javafx.collections.SortHelper;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,7 +34,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import javafx.beans.NamedArg;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
@@ -51,11 +54,19 @@ import javafx.collections.ObservableList;
  */
 public final class FilteredList<E> extends TransformationList<E, E>{
 
+    /*
+     * The number of consecutive source elements that are tested by a single task
+     * when the predicate is evaluated concurrently.
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 4096;
+
     private int[] filtered;
     private int size;
 
     private SortHelper helper;
 
+    private int parallelThreshold;
+
     /**
      * Constructs a new FilteredList wrapper around the source list.
      * The provided predicate will match the elements in the source list that will be visible.
@@ -88,6 +99,41 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         this(source, null);
     }
 
+    /**
+     * Sets the minimum size of the source list from which the predicate is
+     * evaluated concurrently on the common fork-join pool when the whole list
+     * is refiltered, for example after the predicate has changed. Incremental
+     * changes of the source list are always filtered on the calling thread.
+     * <p>
+     * The concurrent mode is only used if the source list supports fast
+     * random access. It requires the predicate, and reading the source list,
+     * to be safe from multiple threads, so it is disabled by default.
+     *
+     * @param threshold the minimum source list size, or 0 to always evaluate
+     *        the predicate on the calling thread
+     * @throws IllegalArgumentException if {@code threshold} is negative
+     * @since 28
+     */
+    public void setParallelThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must not be negative: " + threshold);
+        }
+        parallelThreshold = threshold;
+    }
+
+    /**
+     * Returns the minimum size of the source list from which the predicate is
+     * evaluated concurrently.
+     *
+     * @return the minimum source list size, or 0 if the predicate is always
+     *         evaluated on the calling thread
+     * @see #setParallelThreshold(int)
+     * @since 28
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
     /**
      * The predicate that will match the elements that will be in this FilteredList.
      * Elements not matching the predicate will be filtered-out.
@@ -322,19 +368,64 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         if (hasListeners()) {
             removed = new ArrayList<>(this);
         }
-        size = 0;
-        int i = 0;
         Predicate<? super E> pred = getPredicateImpl();
-        for (Iterator<? extends E> it = getSource().iterator();it.hasNext(); ) {
-            final E next = it.next();
-            if (pred.test(next)) {
-                filtered[size++] = i;
+        ObservableList<? extends E> source = getSource();
+        if (canRefilterInParallel()) {
+            refilterParallel(source, pred);
+        } else {
+            size = 0;
+            int i = 0;
+            for (Iterator<? extends E> it = source.iterator();it.hasNext(); ) {
+                final E next = it.next();
+                if (pred.test(next)) {
+                    filtered[size++] = i;
+                }
+                ++i;
             }
-            ++i;
         }
         if (hasListeners()) {
             fireChange(new GenericAddRemoveChange<>(0, size, removed, this));
         }
     }
 
+    /*
+     * The source is usually an observable wrapper, which is marked as RandomAccess
+     * even if the list it wraps is not, so the wrapped list is checked instead.
+     */
+    boolean canRefilterInParallel() {
+        ObservableList<? extends E> source = getSource();
+        if (parallelThreshold == 0 || source.size() < parallelThreshold) {
+            return false;
+        }
+        if (source instanceof ObservableListWrapper<?> wrapper) {
+            return wrapper.isBackingListRandomAccess();
+        }
+        return source instanceof RandomAccess;
+    }
+
+    /*
+     * Tests the source elements in chunks on the common fork-join pool. The results are
+     * only copied to the index mapping after all chunks are complete, so the mapping is
+     * never observed in a partially updated state.
+     */
+    private void refilterParallel(List<? extends E> source, Predicate<? super E> pred) {
+        final int sourceSize = source.size();
+        final boolean[] matches = new boolean[sourceSize];
+        final int chunks = (sourceSize + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int from = chunk * PARALLEL_CHUNK_SIZE;
+            final int to = Math.min(from + PARALLEL_CHUNK_SIZE, sourceSize);
+            for (int i = from; i < to; ++i) {
+                matches[i] = pred.test(source.get(i));
+            }
+        });
+
+        size = 0;
+        for (int i = 0; i < sourceSize; ++i) {
+            if (matches[i]) {
+                filtered[size++] = i;
+            }
+        }
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -64,6 +64,12 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
     private final Element<E> tempElement = new Element<>(null, -1);
 
+    /**
+     * Scratch space for {@link #reinsertUpdated(int, int)}, which is kept between calls
+     * to avoid allocating a new array for every update of a large list.
+     */
+    private Element<E>[] scratch;
+
 
     /**
      * Creates a new SortedList wrapped around the source list.
@@ -389,7 +395,12 @@ public final class SortedList<E> extends TransformationList<E, E>{
     }
 
     private void update(Change<? extends E> c) {
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);  // elementComparator is never null here
+        int[] perm;
+        if ((c.getTo() - c.getFrom()) * 2 > size) {
+            perm = helper.sort(sorted, 0, size, elementComparator);  // elementComparator is never null here
+        } else {
+            perm = reinsertUpdated(c.getFrom(), c.getTo());
+        }
         for (int i = 0; i < size; i++) {
             this.perm[sorted[i].index] = i;
         }
@@ -402,20 +413,179 @@ public final class SortedList<E> extends TransformationList<E, E>{
     private void addRemove(Change<? extends E> c) {
         if (c.getFrom() == 0 && c.getRemovedSize() == size) {
             removeAllFromMapping();
-        } else {
-            for (int i = 0, sz = c.getRemovedSize(); i < sz; ++i) {
-                removeFromMapping(c.getFrom(), c.getRemoved().get(i));
-            }
+        } else if (c.getRemovedSize() == 1) {
+            removeFromMapping(c.getFrom(), c.getRemoved().get(0));
+        } else if (c.getRemovedSize() > 1) {
+            removeRangeFromMapping(c.getFrom(), c.getRemovedSize());
         }
         if (size == 0) {
             setAllToMapping(c.getList(), c.getTo()); // This is basically equivalent to getAddedSubList
                                                      // as size is 0, only valid "from" is also 0
-        } else {
-            for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
-                insertToMapping(c.getList().get(i), i);
+        } else if (c.getAddedSize() == 1) {
+            insertToMapping(c.getList().get(c.getFrom()), c.getFrom());
+        } else if (c.getAddedSize() > 1) {
+            insertRangeToMapping(c.getList(), c.getFrom(), c.getTo());
+        }
+    }
+
+    /*
+     * Removes the elements at the source indexes [from, from + count) in a single pass,
+     * instead of shifting the indexes of all remaining elements once per removed element.
+     */
+    private void removeRangeFromMapping(int from, int count) {
+        final int removedTo = from + count;
+        int newSize = 0;
+        for (int pos = 0; pos < size; ++pos) {
+            final Element<E> element = sorted[pos];
+            if (element.index >= from && element.index < removedTo) {
+                nextRemove(newSize, element.e);
+            } else {
+                if (element.index >= removedTo) {
+                    element.index -= count;
+                }
+                sorted[newSize++] = element;
+            }
+        }
+        for (int i = newSize; i < size; ++i) {
+            sorted[i] = null;
+        }
+        size = newSize;
+        for (int i = 0; i < size; ++i) {
+            perm[sorted[i].index] = i;
+        }
+    }
+
+    /*
+     * Inserts the elements at the source indexes [from, to) by sorting them among themselves
+     * and merging them into the sorted elements in a single pass from the end of the array.
+     */
+    @SuppressWarnings("unchecked")
+    private void insertRangeToMapping(List<? extends E> list, int from, int to) {
+        final int count = to - from;
+        for (int i = 0; i < size; ++i) {
+            if (sorted[i].index >= from) {
+                sorted[i].index += count;
+            }
+        }
+
+        final Element<E>[] added = new Element[count];
+        for (int i = 0; i < count; ++i) {
+            added[i] = new Element<>(list.get(from + i), from + i);
+        }
+        Arrays.sort(added, elementComparator);
+
+        ensureSize(size + count);
+        int src = size;
+        int dst = size + count;
+        for (int i = count - 1; i >= 0; --i) {
+            final int pos = upperBound(added[i], src);
+            final int moved = src - pos;
+            dst -= moved;
+            System.arraycopy(sorted, pos, sorted, dst, moved);
+            sorted[--dst] = added[i];
+            src = pos;
+        }
+        size += count;
+
+        for (int i = 0; i < size; ++i) {
+            final int index = sorted[i].index;
+            perm[index] = i;
+            if (index >= from && index < to) {
+                nextAdd(i, i + 1);
             }
         }
     }
 
+    /*
+     * Returns the position after the last element in [0, to) that is not greater than
+     * the specified element.
+     */
+    private int upperBound(Element<E> element, int to) {
+        int low = 0;
+        int high = to;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (elementComparator.compare(sorted[mid], element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * Moves the updated elements at the source indexes [from, to) to their new positions
+     * and returns the resulting permutation. The elements that were not updated are still
+     * sorted relative to each other, so only the updated elements need to be sorted, after
+     * which each of them is inserted into the remaining elements with a binary search.
+     * Ties are broken by the previous position of the elements, which yields the same
+     * order as a stable sort of the entire list, at a cost of O(k log n) comparisons
+     * instead of O(n log n) for k updated elements.
+     */
+    @SuppressWarnings("unchecked")
+    private int[] reinsertUpdated(int from, int to) {
+        final int count = to - from;
+        final int[] oldPositions = new int[count];
+        for (int i = 0; i < count; ++i) {
+            oldPositions[i] = perm[from + i];
+        }
+        Arrays.sort(oldPositions);
+
+        // The updated elements in the order of their previous positions, which the stable
+        // sort preserves for elements that compare as equal.
+        final Element<E>[] updated = new Element[count];
+        for (int i = 0; i < count; ++i) {
+            updated[i] = sorted[oldPositions[i]];
+        }
+        Arrays.sort(updated, elementComparator);
+
+        if (scratch == null || scratch.length < sorted.length) {
+            scratch = new Element[sorted.length];
+        }
+        final Element<E>[] remaining = scratch;
+        final int remainingSize = size - count;
+        for (int pos = 0, next = 0, r = 0; pos < size; ++pos) {
+            if (next < count && oldPositions[next] == pos) {
+                ++next;
+            } else {
+                remaining[r++] = sorted[pos];
+            }
+        }
+
+        int src = 0;
+        int dst = 0;
+        for (int i = 0; i < count; ++i) {
+            final Element<E> element = updated[i];
+            final int oldPosition = perm[element.index];
+            int low = src;
+            int high = remainingSize;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                int cmp = elementComparator.compare(remaining[mid], element);
+                if (cmp == 0) {
+                    cmp = Integer.compare(perm[remaining[mid].index], oldPosition);
+                }
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            System.arraycopy(remaining, src, sorted, dst, low - src);
+            dst += low - src;
+            sorted[dst++] = element;
+            src = low;
+        }
+        System.arraycopy(remaining, src, sorted, dst, remainingSize - src);
+        Arrays.fill(remaining, 0, remainingSize, null);
+
+        final int[] result = new int[size];
+        for (int i = 0; i < size; ++i) {
+            result[perm[sorted[i].index]] = i;
+        }
+        return result;
+    }
+
 
 }
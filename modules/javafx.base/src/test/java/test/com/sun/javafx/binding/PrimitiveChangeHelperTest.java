@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.binding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.DoubleChangeListener;
+import javafx.beans.value.IntegerChangeListener;
+import javafx.beans.value.ObservableIntegerValue;
+import org.junit.jupiter.api.Test;
+import com.sun.javafx.binding.DoubleChangeHelper;
+import test.javafx.util.OutputRedirect;
+
+public class PrimitiveChangeHelperTest {
+
+    @Test
+    public void testAddNull() {
+        SimpleDoubleProperty property = new SimpleDoubleProperty();
+        assertThrows(NullPointerException.class, () -> property.addDoubleChangeListener(null));
+        assertThrows(NullPointerException.class, () -> DoubleChangeHelper.addListener(null, null, (o, a, b) -> {}));
+    }
+
+    @Test
+    public void testRemoveFromEmptyHelper() {
+        assertNull(DoubleChangeHelper.removeListener(null, (o, a, b) -> {}));
+    }
+
+    @Test
+    public void testDoubleChange() {
+        SimpleDoubleProperty property = new SimpleDoubleProperty(1);
+        List<String> trace = new ArrayList<>();
+        DoubleChangeListener listener = (o, oldValue, newValue) -> trace.add(oldValue + "->" + newValue);
+        property.addDoubleChangeListener(listener);
+
+        property.set(2);
+        property.set(2);
+        property.set(Double.NaN);
+        property.set(Double.NaN);
+        property.set(-0.0);
+        assertEquals(List.of("1.0->2.0", "2.0->NaN", "NaN->-0.0"), trace);
+
+        property.removeDoubleChangeListener(listener);
+        property.set(3);
+        assertEquals(3, trace.size());
+    }
+
+    @Test
+    public void testDoubleChangeOfBoundProperty() {
+        SimpleDoubleProperty source = new SimpleDoubleProperty(1);
+        SimpleDoubleProperty property = new SimpleDoubleProperty();
+        property.bind(source);
+        List<Double> trace = new ArrayList<>();
+        property.addDoubleChangeListener((o, oldValue, newValue) -> trace.add(newValue));
+
+        source.set(2);
+        source.set(3);
+        assertEquals(List.of(2.0, 3.0), trace);
+    }
+
+    @Test
+    public void testIntegerChange() {
+        SimpleIntegerProperty property = new SimpleIntegerProperty(1);
+        List<String> trace = new ArrayList<>();
+        IntegerChangeListener listener = (o, oldValue, newValue) -> trace.add(oldValue + "->" + newValue);
+        property.addIntegerChangeListener(listener);
+        property.addListener((o, oldValue, newValue) -> trace.add("boxed " + oldValue + "->" + newValue));
+
+        property.set(2);
+        property.set(2);
+        property.set(5);
+        assertEquals(List.of("boxed 1->2", "1->2", "boxed 2->5", "2->5"), trace);
+    }
+
+    @Test
+    public void testRemoveDuringNotification() {
+        SimpleIntegerProperty property = new SimpleIntegerProperty();
+        List<String> trace = new ArrayList<>();
+        IntegerChangeListener second = (o, oldValue, newValue) -> trace.add("second " + newValue);
+        property.addIntegerChangeListener(new IntegerChangeListener() {
+            @Override
+            public void changed(ObservableIntegerValue o, int oldValue, int newValue) {
+                trace.add("first " + newValue);
+                property.removeIntegerChangeListener(this);
+                property.removeIntegerChangeListener(second);
+            }
+        });
+        property.addIntegerChangeListener(second);
+
+        property.set(1);
+        property.set(2);
+        assertEquals(List.of("first 1", "second 1"), trace);
+    }
+
+    @Test
+    public void testExceptionInListenerIsReported() {
+        SimpleDoubleProperty property = new SimpleDoubleProperty();
+        List<Double> trace = new ArrayList<>();
+        property.addDoubleChangeListener((o, oldValue, newValue) -> { throw new RuntimeException(); });
+        property.addDoubleChangeListener((o, oldValue, newValue) -> trace.add(newValue));
+
+        OutputRedirect.suppressStderr();
+        try {
+            property.set(1);
+            OutputRedirect.checkAndRestoreStderr(RuntimeException.class);
+        } finally {
+            OutputRedirect.restoreStderr();
+        }
+        assertEquals(List.of(1.0), trace);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,10 +26,13 @@
 package test.com.sun.javafx.collections;
 
 import com.sun.javafx.collections.ObservableListWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -62,6 +65,81 @@ public class ObservableListWrapperTest {
             assertFalse(list.removeAll(List.of()));
             assertEquals(List.of("a", "b", "c"), list);
         }
+
+        @Test
+        public void testDisjointRangesAreReportedAsSeparateSubChanges() {
+            var list = new ObservableListWrapper<>(new ArrayList<>(List.of("a", "b", "c", "d", "e", "f", "g")));
+            List<String> removed = new ArrayList<>();
+            List<Integer> from = new ArrayList<>();
+            list.addListener((ListChangeListener<String>) change -> {
+                while (change.next()) {
+                    assertTrue(change.wasRemoved());
+                    assertFalse(change.wasAdded());
+                    from.add(change.getFrom());
+                    removed.add(String.join("", change.getRemoved()));
+                }
+            });
+
+            assertTrue(list.removeAll(List.of("b", "c", "e", "g")));
+            assertEquals(List.of("a", "d", "f"), list);
+            assertEquals(List.of(1, 2, 3), from);
+            assertEquals(List.of("bc", "e", "g"), removed);
+        }
+
+        @Test
+        public void testSequentialBackingListIsCompactedWithIterator() {
+            var list = new ObservableListWrapper<>(new LinkedList<>(List.of("a", "b", "c", "d", "e", "f", "g")) {
+                @Override
+                public String set(int index, String element) {
+                    throw new AssertionError("set() should not be used");
+                }
+            });
+            List<String> removed = new ArrayList<>();
+            list.addListener((ListChangeListener<String>) change -> {
+                while (change.next()) {
+                    removed.add(String.join("", change.getRemoved()));
+                }
+            });
+
+            assertTrue(list.removeAll(List.of("b", "c", "e", "g")));
+            assertEquals(List.of("a", "d", "f"), list);
+            assertEquals(List.of("bc", "e", "g"), removed);
+
+            assertTrue(list.retainAll(List.of("d")));
+            assertEquals(List.of("d"), list);
+        }
+    }
+
+    @Nested
+    class RemoveRangeTest {
+        @Test
+        public void testRangeIsReportedAsSingleRemoval() {
+            var list = new ObservableListWrapper<>(new ArrayList<>(List.of("a", "b", "c", "d", "e")));
+            List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+            list.addListener((ListChangeListener<String>) changes::add);
+
+            list.remove(1, 4);
+
+            assertEquals(List.of("a", "e"), list);
+            assertEquals(1, changes.size());
+            var change = changes.get(0);
+            assertTrue(change.next());
+            assertEquals(1, change.getFrom());
+            assertEquals(List.of("b", "c", "d"), change.getRemoved());
+            assertFalse(change.next());
+        }
+
+        @Test
+        public void testEmptyRangeIsNotReported() {
+            var list = new ObservableListWrapper<>(new ArrayList<>(List.of("a", "b")));
+            List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+            list.addListener((ListChangeListener<String>) changes::add);
+
+            list.remove(1, 1);
+
+            assertEquals(List.of("a", "b"), list);
+            assertTrue(changes.isEmpty());
+        }
     }
 
     @Nested
@@ -89,6 +167,52 @@ public class ObservableListWrapperTest {
             assertTrue(list.retainAll(List.of()));
             assertTrue(list.isEmpty());
         }
+
+        @Test
+        public void testDuplicateElementsAreRetained() {
+            var list = new ObservableListWrapper<>(new ArrayList<>(List.of("a", "b", "a", "c", "b", "a")));
+            assertTrue(list.retainAll(List.of("a", "b")));
+            assertEquals(List.of("a", "b", "a", "b", "a"), list);
+        }
     }
 
+    @Nested
+    class BatchTest {
+        @Test
+        public void testBatchIsReportedAsSingleChange() {
+            var list = new ObservableListWrapper<>(new ArrayList<>(List.of("a", "b", "c", "d")));
+            List<String> changes = new ArrayList<>();
+            list.addListener((ListChangeListener<String>) change -> changes.add(change.toString()));
+
+            FXCollections.batch(list, () -> {
+                list.set(0, "A");
+                list.add(2, "x");
+                list.remove("d");
+                list.remove("x");
+            });
+
+            assertEquals(List.of("A", "b", "c"), list);
+            assertEquals(1, changes.size());
+        }
+
+        @Test
+        public void testNestedBatchIsReportedWhenOuterBatchEnds() {
+            var list = new ObservableListWrapper<>(new ArrayList<>(List.of("a")));
+            List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+            list.addListener((ListChangeListener<String>) changes::add);
+
+            FXCollections.batch(list, () -> {
+                list.add("b");
+                FXCollections.batch(list, () -> list.add("c"));
+                assertTrue(changes.isEmpty());
+            });
+
+            assertEquals(1, changes.size());
+            var change = changes.get(0);
+            assertTrue(change.next());
+            assertEquals(1, change.getFrom());
+            assertEquals(3, change.getTo());
+            assertFalse(change.next());
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,12 +26,16 @@
 package test.com.sun.javafx.collections;
 
 import com.sun.javafx.collections.ObservableMapWrapper;
+import javafx.collections.MapChangeListener;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -186,4 +190,33 @@ public class ObservableMapWrapperTest {
         };
     }
 
+    @Nested
+    class BatchTest {
+        @Test
+        public void testBatchReportsNetChanges() {
+            var map = new ObservableMapWrapper<>(new LinkedHashMap<>(Map.of("a", "1", "b", "2", "c", "3")));
+            List<String> changes = new ArrayList<>();
+            map.addListener((MapChangeListener<String, String>) change -> changes.add(change.toString()));
+
+            map.beginBatch();
+            map.put("a", "10");
+            map.put("a", "11");
+            map.put("b", "20");
+            map.put("b", "2");
+            map.remove("c");
+            map.put("d", "4");
+            map.put("e", "5");
+            map.remove("e");
+            assertTrue(changes.isEmpty());
+            map.endBatch();
+
+            assertEquals(List.of("1 replaced by 11 at key a", "3 removed at key c", "4 added at key d"), changes);
+        }
+
+        @Test
+        public void testEndBatchWithoutBeginBatchThrowsISE() {
+            var map = new ObservableMapWrapper<>(new HashMap<>());
+            assertThrows(IllegalStateException.class, map::endBatch);
+        }
+    }
 }
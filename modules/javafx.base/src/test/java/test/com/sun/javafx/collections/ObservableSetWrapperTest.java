@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,10 +26,13 @@
 package test.com.sun.javafx.collections;
 
 import com.sun.javafx.collections.ObservableSetWrapper;
+import javafx.collections.SetChangeListener;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -91,4 +94,31 @@ public class ObservableSetWrapperTest {
         }
     }
 
+    @Nested
+    class BatchTest {
+        @Test
+        public void testBatchReportsNetChanges() {
+            var set = new ObservableSetWrapper<>(new HashSet<>(Set.of("a", "b")));
+            List<String> changes = new ArrayList<>();
+            set.addListener((SetChangeListener<String>) change -> changes.add(change.toString()));
+
+            set.beginBatch();
+            set.add("c");
+            set.remove("a");
+            set.add("a");
+            set.remove("b");
+            set.add("d");
+            set.remove("d");
+            assertTrue(changes.isEmpty());
+            set.endBatch();
+
+            assertEquals(List.of("added c", "removed b"), changes);
+        }
+
+        @Test
+        public void testEndBatchWithoutBeginBatchThrowsISE() {
+            var set = new ObservableSetWrapper<>(new HashSet<>());
+            assertThrows(IllegalStateException.class, set::endBatch);
+        }
+    }
 }
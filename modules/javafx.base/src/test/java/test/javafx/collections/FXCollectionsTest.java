@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -255,6 +255,89 @@ public class FXCollectionsTest {
         assertThrows(ClassCastException.class, () -> FXCollections.sort(seq));
     }
 
+    @Test
+    public void batchListTest() {
+        ObservableList<String> seq = FXCollections.observableArrayList("a", "b", "c", "d");
+        final MockListObserver<String> observer = new MockListObserver<>();
+        seq.addListener(observer);
+        FXCollections.batch(seq, () -> {
+            seq.set(1, "B");
+            seq.add("e");
+            seq.remove("e");
+            observer.check0();
+        });
+        assertEquals(Arrays.asList("a", "B", "c", "d"), seq);
+        observer.check1AddRemove(seq, Arrays.asList("b"), 1, 2);
+    }
+
+    @Test
+    public void batchListReportsChangesWhenActionThrows() {
+        ObservableList<String> seq = FXCollections.observableArrayList("a");
+        final MockListObserver<String> observer = new MockListObserver<>();
+        seq.addListener(observer);
+        assertThrows(IllegalArgumentException.class, () -> FXCollections.batch(seq, () -> {
+            seq.add("b");
+            throw new IllegalArgumentException();
+        }));
+        observer.check1AddRemove(seq, Collections.emptyList(), 1, 2);
+
+        observer.clear();
+        seq.add("c");
+        observer.check1AddRemove(seq, Collections.emptyList(), 2, 3);
+    }
+
+    @Test
+    public void batchListFallsBackToIndividualChangesTest() {
+        ObservableList<String> seq = FXCollections.checkedObservableList(
+                FXCollections.observableArrayList(), String.class);
+        final int[] changes = new int[1];
+        seq.addListener((ListChangeListener<String>) c -> changes[0]++);
+        FXCollections.batch(seq, () -> {
+            seq.add("a");
+            seq.add("b");
+        });
+        assertEquals(2, changes[0]);
+    }
+
+    @Test
+    public void batchMapTest() {
+        ObservableMap<String, String> map = FXCollections.observableHashMap();
+        map.put("a", "1");
+        final MockMapObserver<String, String> observer = new MockMapObserver<>();
+        map.addListener(observer);
+        FXCollections.batch(map, () -> {
+            map.put("a", "2");
+            map.put("a", "1");
+            map.put("b", "3");
+            observer.check0();
+        });
+        assertEquals(1, observer.getCallsNumber());
+        observer.assertAdded(MockMapObserver.Tuple.tup("b", "3"));
+    }
+
+    @Test
+    public void batchSetTest() {
+        ObservableSet<String> set = FXCollections.observableSet("a");
+        final MockSetObserver<String> observer = new MockSetObserver<>();
+        set.addListener(observer);
+        FXCollections.batch(set, () -> {
+            set.add("b");
+            set.remove("a");
+            set.add("a");
+            observer.check0();
+        });
+        assertEquals(1, observer.getCallsNumber());
+        observer.assertAdded(Tuple.tup("b"));
+    }
+
+    @Test
+    public void batchWithNullArgumentsTest() {
+        assertThrows(NullPointerException.class, () -> FXCollections.batch((ObservableList<String>) null, () -> {}));
+        assertThrows(NullPointerException.class, () -> FXCollections.batch(FXCollections.observableArrayList(), null));
+        assertThrows(NullPointerException.class, () -> FXCollections.batch(FXCollections.observableHashMap(), null));
+        assertThrows(NullPointerException.class, () -> FXCollections.batch(FXCollections.observableSet(), null));
+    }
+
 
     @Test
     public void emptyObservableListTest() {
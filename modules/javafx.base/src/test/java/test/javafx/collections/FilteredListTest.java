@@ -30,6 +30,7 @@ import com.sun.javafx.collections.ObservableListWrapper;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Predicate;
 import javafx.beans.property.ObjectProperty;
@@ -38,6 +39,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableListWrapperShim;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.FilteredListShim;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -369,4 +371,52 @@ public class FilteredListTest {
 
         assertEquals(List.of(2L, 1L), filteredList);
     }
+
+    @Test
+    public void testParallelRefilter() {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 20000; ++i) {
+            numbers.add(i);
+        }
+        ObservableList<Integer> source = FXCollections.observableArrayList(numbers);
+        FilteredList<Integer> filtered = new FilteredList<>(source);
+        filtered.setParallelThreshold(1000);
+        assertTrue(FilteredListShim.canRefilterInParallel(filtered));
+        MockListObserver<Integer> observer = new MockListObserver<>();
+        filtered.addListener(observer);
+
+        filtered.setPredicate(i -> i % 3 == 0);
+
+        List<Integer> expected = numbers.stream().filter(i -> i % 3 == 0).toList();
+        assertEquals(expected, filtered);
+        observer.check1AddRemove(filtered, numbers, 0, expected.size());
+        for (int i = 0; i < filtered.size(); ++i) {
+            assertEquals(i * 3, filtered.getSourceIndex(i));
+        }
+    }
+
+    @Test
+    public void testParallelThresholdIsPerList() {
+        ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3);
+        FilteredList<Integer> parallel = new FilteredList<>(source);
+        FilteredList<Integer> sequential = new FilteredList<>(source);
+        parallel.setParallelThreshold(2);
+
+        assertEquals(2, parallel.getParallelThreshold());
+        assertEquals(0, sequential.getParallelThreshold());
+        assertTrue(FilteredListShim.canRefilterInParallel(parallel));
+        assertFalse(FilteredListShim.canRefilterInParallel(sequential));
+        assertThrows(IllegalArgumentException.class, () -> parallel.setParallelThreshold(-1));
+    }
+
+    @Test
+    public void testNoParallelRefilterOfSequentialBackingList() {
+        ObservableList<Integer> source = new ObservableListWrapper<>(new LinkedList<>(List.of(1, 2, 3)));
+        FilteredList<Integer> filtered = new FilteredList<>(source);
+        filtered.setParallelThreshold(1);
+        assertFalse(FilteredListShim.canRefilterInParallel(filtered));
+
+        filtered.setPredicate(i -> i != 2);
+        assertEquals(List.of(1, 3), filtered);
+    }
 }
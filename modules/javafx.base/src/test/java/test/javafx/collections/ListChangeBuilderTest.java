@@ -31,6 +31,7 @@ import java.util.Collections;
 import java.util.List;
 
 import com.sun.javafx.collections.ObservableListWrapper;
+import javafx.beans.Observable;
 import javafx.collections.ListChangeBuilderShim;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableListWrapperShim;
@@ -744,6 +745,73 @@ public class ListChangeBuilderTest {
         list.doEndChange();
     }
 
+    @Test
+    public void testInvalidationListenerOnly() {
+        var list = new ExposedObservableList<>(new ArrayList<>(List.of("A", "B", "C")));
+        List<Observable> invalidated = new ArrayList<>();
+        list.addListener((Observable observable) -> invalidated.add(observable));
+
+        list.doBeginChange();
+        list.remove("B");
+        list.add("D");
+        list.set(0, "E");
+        list.doEndChange();
+        assertEquals(List.of(list), invalidated);
+
+        list.removeAll("X");
+        assertEquals(1, invalidated.size());
+
+        list.sort(null);
+        assertEquals(2, invalidated.size());
+        assertEquals(List.of("C", "D", "E"), list);
+    }
+
+    @Test
+    public void testChangeListenerAddedAfterInvalidationListener() {
+        var list = new ExposedObservableList<>(new ArrayList<>(List.of("A", "B", "C")));
+        List<Observable> invalidated = new ArrayList<>();
+        list.addListener((Observable observable) -> invalidated.add(observable));
+        list.remove("A");
+
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+        list.remove("B");
+
+        assertEquals(2, invalidated.size());
+        observer.check1AddRemove(list, List.of("B"), 0, 0);
+    }
+
+    @Test
+    public void testChangeListenerAddedDuringDiscardedChange() {
+        var list = new ExposedObservableList<>(new ArrayList<>(List.of("A", "B", "C")));
+        List<Observable> invalidated = new ArrayList<>();
+        list.addListener((Observable observable) -> invalidated.add(observable));
+
+        list.doBeginChange();
+        list.remove("B");
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+        list.add("D");
+        list.doEndChange();
+
+        assertEquals(1, invalidated.size());
+        assertEquals(List.of("A", "C", "D"), list);
+        observer.check1AddRemove(list, List.of("A", "C"), 0, 3);
+    }
+
+    @Test
+    public void testChangeListenerAddedBeforeDiscardedChanges() {
+        var list = new ExposedObservableList<>(new ArrayList<>(List.of("A", "B", "C")));
+
+        list.doBeginChange();
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+        list.remove("B");
+        list.doEndChange();
+
+        observer.check1AddRemove(list, List.of("B"), 1, 1);
+    }
+
     private static class ExposedObservableList<E> extends ObservableListWrapper<E> {
         ExposedObservableList(List<E> list) {
             super(list);
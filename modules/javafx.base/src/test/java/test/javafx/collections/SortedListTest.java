@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,6 +34,7 @@ import java.util.Collections;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.Random;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -327,6 +328,65 @@ public class SortedListTest {
         compareIndices(sorted);
     }
 
+    @Test
+    public void testRandomChangesKeepListSorted() {
+        Random random = new Random(4711);
+        ObservableListWrapper<SimpleObjectProperty<Integer>> source =
+                new ObservableListWrapper<>(new ArrayList<>(), p -> new Observable[] {p});
+        SortedList<SimpleObjectProperty<Integer>> sorted = source.sorted(Comparator.comparing(SimpleObjectProperty::get));
+        List<SimpleObjectProperty<Integer>> mirror = new ArrayList<>();
+        sorted.addListener((ListChangeListener<SimpleObjectProperty<Integer>>) change -> {
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    List<SimpleObjectProperty<Integer>> copy = new ArrayList<>(mirror.subList(from, change.getTo()));
+                    for (int i = from; i < change.getTo(); ++i) {
+                        mirror.set(change.getPermutation(i), copy.get(i - from));
+                    }
+                } else if (!change.wasUpdated()) {
+                    mirror.subList(from, from + change.getRemovedSize()).clear();
+                    mirror.addAll(from, change.getAddedSubList());
+                }
+            }
+        });
+
+        for (int round = 0; round < 300; ++round) {
+            // structural changes and element updates are batched separately
+            boolean structural = random.nextBoolean();
+            FXCollections.batch(source, () -> {
+                for (int op = random.nextInt(4); op >= 0; --op) {
+                    switch (structural ? random.nextInt(2) : 2) {
+                        case 0 -> {
+                            int index = random.nextInt(source.size() + 1);
+                            List<SimpleObjectProperty<Integer>> added = new ArrayList<>();
+                            for (int i = random.nextInt(6); i >= 0; --i) {
+                                added.add(new SimpleObjectProperty<>(random.nextInt(20)));
+                            }
+                            source.addAll(index, added);
+                        }
+                        case 1 -> {
+                            if (!source.isEmpty()) {
+                                int index = random.nextInt(source.size());
+                                source.remove(index, Math.min(source.size(), index + 1 + random.nextInt(4)));
+                            }
+                        }
+                        default -> {
+                            for (int i = random.nextInt(8); i >= 0 && !source.isEmpty(); --i) {
+                                source.get(random.nextInt(source.size())).set(random.nextInt(20));
+                            }
+                        }
+                    }
+                }
+            });
+
+            for (int i = 1; i < sorted.size(); ++i) {
+                assertTrue(sorted.get(i - 1).get() <= sorted.get(i).get());
+            }
+            assertEquals(sorted, mirror);
+            compareIndices(sorted);
+        }
+    }
+
     private ObservableList<Person> createPersonsList() {
         ObservableList<Person> list = FXCollections.observableArrayList(
                 (Person p) -> new Observable[]{p.name});
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control;
+
+import java.util.Arrays;
+
+/**
+ * An index of the measured sizes of the cells in a virtualized control.
+ * <p>
+ * The size of a cell is either known, or unknown if the cell has not been
+ * measured yet. Queries that need the size of an unknown cell take an estimate
+ * that is used instead. The index is backed by two Fenwick trees, one for the
+ * sum of the known sizes and one for their number, so that the offset of a
+ * cell and the cell at an offset can be computed in O(log n), while a cell
+ * size is updated in O(log n) as well.
+ * <p>
+ * Negative estimates are treated as zero.
+ */
+public final class CellSizeIndex {
+
+    private static final double UNKNOWN = Double.NaN;
+
+    private double[] values = new double[0];
+    private double[] sums = new double[1];
+    private int[] counts = new int[1];
+    private int size;
+
+    /**
+     * Returns the number of cells in this index, including cells with an
+     * unknown size.
+     *
+     * @return the number of cells
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the size of the cell at the specified index.
+     *
+     * @param index the cell index
+     * @return the size of the cell, or -1 if the size is not known
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            return -1;
+        }
+        double value = values[index];
+        return Double.isNaN(value) ? -1 : value;
+    }
+
+    /**
+     * Sets the size of the cell at the specified index, growing the index
+     * with cells of unknown size if needed.
+     *
+     * @param index the cell index
+     * @param value the size of the cell
+     */
+    public void set(int index, double value) {
+        ensureSize(index + 1);
+        double oldValue = values[index];
+        values[index] = value;
+
+        double delta = Double.isNaN(oldValue) ? value : value - oldValue;
+        int countDelta = Double.isNaN(oldValue) ? 1 : 0;
+        for (int i = index + 1; i < sums.length; i += i & -i) {
+            sums[i] += delta;
+            counts[i] += countDelta;
+        }
+    }
+
+    /**
+     * Grows this index to contain at least the specified number of cells.
+     * Added cells have an unknown size.
+     *
+     * @param newSize the new minimum number of cells
+     */
+    public void ensureSize(int newSize) {
+        if (newSize <= size) {
+            return;
+        }
+
+        if (newSize > values.length) {
+            int oldLength = values.length;
+            values = Arrays.copyOf(values, Math.max(newSize, oldLength * 2));
+            Arrays.fill(values, oldLength, values.length, UNKNOWN);
+            rebuild();
+        }
+
+        size = newSize;
+    }
+
+    /**
+     * Removes all cells from this index.
+     */
+    public void clear() {
+        Arrays.fill(values, 0, size, UNKNOWN);
+        Arrays.fill(sums, 0);
+        Arrays.fill(counts, 0);
+        size = 0;
+    }
+
+    /**
+     * Returns the number of cells with a known size in the range [0, end).
+     *
+     * @param end the end of the range, exclusive
+     * @return the number of known cell sizes
+     */
+    public int getKnownCount(int end) {
+        int count = 0;
+        for (int i = Math.min(end, size); i > 0; i -= i & -i) {
+            count += counts[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of the known cell sizes in the range [0, end).
+     *
+     * @param end the end of the range, exclusive
+     * @return the sum of the known cell sizes
+     */
+    public double getKnownSum(int end) {
+        double sum = 0;
+        for (int i = Math.min(end, size); i > 0; i -= i & -i) {
+            sum += sums[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the offset of the start of the cell at the specified index, which
+     * is the sum of the sizes of all preceding cells.
+     *
+     * @param index the cell index
+     * @param estimate the size that is used for cells with an unknown size
+     * @return the offset of the cell
+     */
+    public double getOffset(int index, double estimate) {
+        if (index <= 0) {
+            return 0;
+        }
+        int known = getKnownCount(index);
+        return getKnownSum(index) + (index - known) * Math.max(0, estimate);
+    }
+
+    /**
+     * Returns the largest index in the range [0, count] such that the offset of
+     * the cell at that index is not greater than the specified offset. When the
+     * returned index is less than {@code count}, it is the index of the cell
+     * that contains the offset.
+     *
+     * @param offset the offset
+     * @param estimate the size that is used for cells with an unknown size
+     * @param count the number of cells to consider
+     * @return the index of the cell at the offset, or {@code count} if the
+     *         offset is beyond the end of the cells
+     */
+    public int getIndex(double offset, double estimate, int count) {
+        if (count <= 0 || offset < 0) {
+            return 0;
+        }
+
+        estimate = Math.max(0, estimate);
+        int length = sums.length - 1;
+        int index = 0;
+        double remaining = offset;
+        for (int step = Integer.highestOneBit(Math.max(length, 1)); step > 0; step >>= 1) {
+            int next = index + step;
+            if (next <= length) {
+                double weight = sums[next] + (step - counts[next]) * estimate;
+                if (weight <= remaining) {
+                    index = next;
+                    remaining -= weight;
+                }
+            }
+        }
+
+        if (index >= count) {
+            return count;
+        }
+
+        if (index == length && count > length) {
+            // cells beyond the end of this index all have the estimated size
+            if (estimate == 0) {
+                return count;
+            }
+            double extra = Math.floor(remaining / estimate);
+            return extra >= count - length ? count : length + (int) extra;
+        }
+
+        return index;
+    }
+
+    private void rebuild() {
+        int length = values.length;
+        sums = new double[length + 1];
+        counts = new int[length + 1];
+        for (int i = 1; i <= length; i++) {
+            double value = values[i - 1];
+            if (!Double.isNaN(value)) {
+                sums[i] += value;
+                counts[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= length) {
+                sums[parent] += sums[i];
+                counts[parent] += counts[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.scene.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import com.sun.javafx.scene.control.CellSizeIndex;
+
+public class CellSizeIndexTest {
+
+    @Test
+    public void testUnknownSizes() {
+        CellSizeIndex index = new CellSizeIndex();
+        index.ensureSize(10);
+        assertEquals(10, index.size());
+        assertEquals(-1, index.get(5), 0);
+        assertEquals(-1, index.get(10), 0);
+        assertEquals(0, index.getKnownCount(10));
+        assertEquals(50, index.getOffset(10, 5), 0);
+        assertEquals(3, index.getIndex(17, 5, 10));
+        assertEquals(10, index.getIndex(50, 5, 10));
+    }
+
+    @Test
+    public void testSetGrowsIndex() {
+        CellSizeIndex index = new CellSizeIndex();
+        index.set(100, 20);
+        assertEquals(101, index.size());
+        assertEquals(20, index.get(100), 0);
+        assertEquals(1, index.getKnownCount(101));
+        assertEquals(20, index.getKnownSum(101), 0);
+        assertEquals(0, index.getKnownSum(100), 0);
+    }
+
+    @Test
+    public void testReplaceSize() {
+        CellSizeIndex index = new CellSizeIndex();
+        index.set(0, 10);
+        index.set(1, 10);
+        index.set(0, 30);
+        assertEquals(2, index.getKnownCount(2));
+        assertEquals(40, index.getKnownSum(2), 0);
+        assertEquals(1, index.getIndex(30, 1, 2));
+    }
+
+    @Test
+    public void testClear() {
+        CellSizeIndex index = new CellSizeIndex();
+        index.set(7, 10);
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(-1, index.get(7), 0);
+        assertEquals(0, index.getKnownSum(8), 0);
+        index.ensureSize(8);
+        assertEquals(-1, index.get(7), 0);
+    }
+
+    @Test
+    public void testIndexBeyondCachedCells() {
+        CellSizeIndex index = new CellSizeIndex();
+        index.set(0, 100);
+        assertEquals(0, index.getIndex(99, 10, 1000));
+        assertEquals(1, index.getIndex(100, 10, 1000));
+        assertEquals(501, index.getIndex(5105, 10, 1000));
+        assertEquals(1000, index.getIndex(100000, 10, 1000));
+        assertEquals(1000, index.getIndex(100, 0, 1000));
+    }
+
+    @Test
+    public void testMatchesLinearScan() {
+        Random random = new Random(42);
+        CellSizeIndex index = new CellSizeIndex();
+        double[] sizes = new double[500];
+        Arrays.fill(sizes, -1);
+
+        for (int n = 0; n < 2000; n++) {
+            int i = random.nextInt(sizes.length);
+            sizes[i] = random.nextInt(50);
+            index.set(i, sizes[i]);
+
+            double estimate = random.nextInt(30);
+            int count = random.nextInt(sizes.length + 1);
+            double offset = random.nextDouble() * count * 30;
+
+            int expectedIndex = count;
+            double total = 0;
+            for (int j = 0; j < count; j++) {
+                double size = sizes[j] < 0 ? estimate : sizes[j];
+                if (total + size > offset) {
+                    expectedIndex = j;
+                    break;
+                }
+                total += size;
+            }
+            assertEquals(expectedIndex, index.getIndex(offset, estimate, count));
+
+            int end = random.nextInt(sizes.length + 1);
+            double expectedOffset = 0;
+            for (int j = 0; j < end; j++) {
+                expectedOffset += sizes[j] < 0 ? estimate : sizes[j];
+            }
+            assertEquals(expectedOffset, index.getOffset(end, estimate), 1e-6);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -78,6 +78,7 @@ public class JSWBackend extends TreeScanner {
         StringBuilder samplers = new StringBuilder();
         StringBuilder cleanup = new StringBuilder();
         StringBuilder srcRects = new StringBuilder();
+        StringBuilder bandLocals = new StringBuilder();
         StringBuilder posDecls = new StringBuilder();
         StringBuilder pixInitY = new StringBuilder();
         StringBuilder pixInitX = new StringBuilder();
@@ -151,7 +152,7 @@ public class JSWBackend extends TreeScanner {
                     samplers.append("int src" + i + "h = src" + i + ".getHeight();\n");
                     samplers.append("int src" + i + "scan = src" + i + ".getWidth();\n");
                     samplers.append("float[] " + v.getName() + " = src" + i + ".getData();\n");
-                    samplers.append("float " + v.getName() + "_vals[] = new float[4];\n");
+                    bandLocals.append("float " + v.getName() + "_vals[] = new float[4];\n");
 
                     // TODO: for now, assume [0,0,1,1]
                     srcRects.append("float[] src" + i + "Rect = new float[] {0,0,1,1};\n");
@@ -186,7 +187,7 @@ public class JSWBackend extends TreeScanner {
                     samplers.append("setInputNativeBounds(" + i + ", src" + i + "Bounds);\n");
 
                     if (t == Type.LSAMPLER) {
-                        samplers.append("float " + v.getName() + "_vals[] = new float[4];\n");
+                        bandLocals.append("float " + v.getName() + "_vals[] = new float[4];\n");
                     }
 
                     // the source rect decls need to come after all calls to
@@ -209,7 +210,7 @@ public class JSWBackend extends TreeScanner {
                 posDecls.append("float inc" + i + "_x = (src" + i + "Rect[2] - src" + i + "Rect[0]) / dstw;\n");
                 posDecls.append("float inc" + i + "_y = (src" + i + "Rect[3] - src" + i + "Rect[1]) / dsth;\n");
 
-                posInitY.append("float pos" + i + "_y = src" + i + "Rect[1] + inc" + i + "_y*0.5f;\n");
+                posInitY.append("float pos" + i + "_y = src" + i + "Rect[1] + inc" + i + "_y*(y0 + 0.5f);\n");
                 posInitX.append("float pos" + i + "_x = src" + i + "Rect[0] + inc" + i + "_x*0.5f;\n");
                 posIncrX.append("pos" + i + "_x += inc" + i + "_x;\n");
                 posIncrY.append("pos" + i + "_y += inc" + i + "_y;\n");
@@ -235,6 +236,7 @@ public class JSWBackend extends TreeScanner {
         glue.add("cleanup", cleanup.toString());
         glue.add("srcRects", srcRects.toString());
         glue.add("constants", constants.toString());
+        glue.add("bandLocals", bandLocals.toString());
         glue.add("posDecls", posDecls.toString());
         glue.add("pixInitY", pixInitY.toString());
         glue.add("pixInitX", pixInitX.toString());
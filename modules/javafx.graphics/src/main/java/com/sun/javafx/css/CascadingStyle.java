@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -79,6 +79,11 @@ public class CascadingStyle implements Comparable<CascadingStyle> {
              ordinal);
     }
 
+    /** The pseudo-classes that appear in the selector that matched */
+    public Set<PseudoClass> getPseudoClasses() {
+        return pseudoClasses;
+    }
+
     // Wrapper to make StyleHelper's life a little easier
     public String getProperty() {
         return style.getDeclaration().getProperty();
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import com.sun.javafx.css.parser.CssParserHelper;
+import com.sun.javafx.logging.PlatformLogger;
+import com.sun.javafx.logging.PlatformLogger.Level;
+import com.sun.javafx.runtime.VersionInfo;
+import com.sun.javafx.util.Logging;
+import javafx.css.CssParser;
+import javafx.css.Stylesheet;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * An on-disk cache of parsed stylesheets in binary (bss) form.
+ * <p>
+ * The cache is enabled by setting the {@code javafx.css.cache.dir} system
+ * property to a writable directory. When a {@code .css} stylesheet is loaded
+ * from a URL, the cache is looked up with a key that is computed from the
+ * content of the stylesheet, its URL, the binary CSS version and the JavaFX
+ * runtime version. On a hit, the stylesheet is read from a memory-mapped
+ * cache file instead of being parsed. On a miss, the stylesheet is parsed
+ * and its binary form is written to the cache for the next launch.
+ * <p>
+ * Stylesheets that contain {@code @import} rules are not cached, since the
+ * key would not reflect changes to the imported stylesheets. Stylesheets that
+ * had parse errors are not cached either, so that the errors are reported
+ * again on the next launch.
+ */
+public final class StylesheetCache {
+
+    private static final Path CACHE_DIR = initCacheDir(System.getProperty("javafx.css.cache.dir"));
+
+    private static final byte[] IMPORT = "@import".getBytes(StandardCharsets.US_ASCII);
+
+    private StylesheetCache() {}
+
+    private static Path initCacheDir(String dir) {
+        if (dir == null || dir.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return Files.createDirectories(Path.of(dir));
+        } catch (InvalidPathException | IOException | SecurityException e) {
+            getLogger().warning("Stylesheet cache disabled, cannot use directory \"" + dir + "\"", e);
+            return null;
+        }
+    }
+
+    private static PlatformLogger getLogger() {
+        return Logging.getCSSLogger();
+    }
+
+    public static boolean isEnabled() {
+        return CACHE_DIR != null;
+    }
+
+    /**
+     * Parses the stylesheet at the given URL, using the cache if it is enabled.
+     *
+     * @param url the URL of a CSS document
+     * @return the stylesheet
+     * @throws IOException if the stylesheet cannot be read
+     */
+    public static Stylesheet parse(URL url) throws IOException {
+        return parse(url, CACHE_DIR);
+    }
+
+    // package-private for testing
+    static Stylesheet parse(URL url, Path cacheDir) throws IOException {
+        if (cacheDir == null) {
+            return new CssParser().parse(url);
+        }
+
+        final byte[] content;
+        try (InputStream stream = url.openStream()) {
+            content = stream.readAllBytes();
+        }
+
+        final String docbase = url.toExternalForm();
+        final String text = new String(content, StandardCharsets.UTF_8);
+        if (indexOf(content, IMPORT) >= 0) {
+            return new CssParser().parse(docbase, text);
+        }
+
+        final Path file = getCacheFile(cacheDir, docbase, content);
+        if (file == null) {
+            return new CssParser().parse(docbase, text);
+        }
+
+        if (Files.isRegularFile(file)) {
+            try {
+                return load(file, docbase);
+            } catch (IOException | RuntimeException e) {
+                // The cache file is corrupt or was written by an incompatible
+                // version; fall back to parsing and overwrite it.
+                if (getLogger().isLoggable(Level.FINE)) {
+                    getLogger().fine("Cannot load cached stylesheet " + file + " for " + docbase, e);
+                }
+            }
+        }
+
+        final CssParser parser = new CssParser();
+        final Stylesheet stylesheet = parser.parse(docbase, text);
+        if (!CssParserHelper.hasErrors(parser)) {
+            store(cacheDir, file, stylesheet);
+        }
+        return stylesheet;
+    }
+
+    private static Stylesheet load(Path file, String docbase) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return StylesheetHelper.loadBinary(new ByteBufferInputStream(buffer), docbase);
+        }
+    }
+
+    private static void store(Path cacheDir, Path file, Stylesheet stylesheet) {
+        Path tmp = null;
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            StylesheetHelper.writeBinary(stylesheet, bytes);
+
+            // write to a temporary file first so that a concurrently starting
+            // application never sees a partially written cache file
+            tmp = Files.createTempFile(cacheDir, "css", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                bytes.writeTo(out);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+        } catch (IOException | SecurityException e) {
+            if (getLogger().isLoggable(Level.FINE)) {
+                getLogger().fine("Cannot write cached stylesheet " + file, e);
+            }
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException | SecurityException ignored) {
+                }
+            }
+        }
+    }
+
+    private static Path getCacheFile(Path cacheDir, String docbase, byte[] content) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(VersionInfo.getRuntimeVersion().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) StylesheetHelper.getBinaryVersion());
+            digest.update(docbase.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(content);
+            return cacheDir.resolve(HexFormat.of().formatHex(digest.digest()) + ".bss");
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private static int indexOf(byte[] array, byte[] target) {
+        outer:
+        for (int i = 0, max = array.length - target.length; i <= max; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (array[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            len = Math.min(len, buffer.remaining());
+            buffer.get(b, off, len);
+            return len;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
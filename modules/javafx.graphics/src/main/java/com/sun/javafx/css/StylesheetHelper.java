@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import com.sun.javafx.util.Utils;
+import javafx.css.Stylesheet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public final class StylesheetHelper {
+
+    private StylesheetHelper() {}
+
+    static {
+        Utils.forceInit(Stylesheet.class);
+    }
+
+    private static Accessor accessor;
+
+    public static void setAccessor(Accessor accessor) {
+        StylesheetHelper.accessor = accessor;
+    }
+
+    public static int getBinaryVersion() {
+        return accessor.getBinaryVersion();
+    }
+
+    public static Stylesheet loadBinary(InputStream stream, String url) throws IOException {
+        return accessor.loadBinary(stream, url);
+    }
+
+    public static void writeBinary(Stylesheet stylesheet, OutputStream stream) throws IOException {
+        accessor.writeBinary(stylesheet, stream);
+    }
+
+    public interface Accessor {
+        int getBinaryVersion();
+        Stylesheet loadBinary(InputStream stream, String url) throws IOException;
+        void writeBinary(Stylesheet stylesheet, OutputStream stream) throws IOException;
+    }
+}
@@ -47,7 +47,12 @@ public final class CssParserHelper {
         return accessor.parseSize(token);
     }
 
+    public static boolean hasErrors(CssParser parser) {
+        return accessor.hasErrors(parser);
+    }
+
     public interface Accessor {
         Size parseSize(Token token);
+        boolean hasErrors(CssParser parser);
     }
 }
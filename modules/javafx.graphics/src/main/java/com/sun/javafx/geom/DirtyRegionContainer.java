@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -40,8 +40,25 @@ public final class DirtyRegionContainer {
 
     private RectBounds[] dirtyRegions;
     private int emptyIndex;
+    private final float mergeArea;
 
     public DirtyRegionContainer(int count) {
+        this(count, 0);
+    }
+
+    /**
+     * Creates a container that merges a new dirty region into an existing one
+     * whenever doing so adds at most {@code mergeArea} square pixels of area
+     * that is not dirty. Every region costs a separate clipped traversal of the
+     * scene graph when it is painted, so it is cheaper to repaint a few extra
+     * pixels than to keep many small regions that lie close to each other.
+     *
+     * @param count the maximum number of dirty regions
+     * @param mergeArea the area below which disjoint regions are merged,
+     *                  or 0 to merge only intersecting regions
+     */
+    public DirtyRegionContainer(int count, int mergeArea) {
+        this.mergeArea = mergeArea;
         initDirtyRegions(count);
     }
 
@@ -115,7 +132,7 @@ public final class DirtyRegionContainer {
     }
 
     public DirtyRegionContainer copy() {
-        DirtyRegionContainer drc = new DirtyRegionContainer(maxSpace());
+        DirtyRegionContainer drc = new DirtyRegionContainer(maxSpace(), (int) mergeArea);
         regioncopy(dirtyRegions, 0, drc.dirtyRegions, 0, emptyIndex);
         drc.emptyIndex = emptyIndex;
         return drc;
@@ -163,6 +180,11 @@ public final class DirtyRegionContainer {
                     tempIndex++;
                 }
             }//for
+            if (mergeArea > 0 && emptyIndex > 0 && mergeCheapest(region)) {
+                // the region has grown, so it may intersect other regions now
+                addDirtyRegion(region);
+                return;
+            }
             if (hasSpace()) {
                 dr = dirtyRegions[emptyIndex];
                 dr.deriveWithNewBounds(region);
@@ -191,6 +213,42 @@ public final class DirtyRegionContainer {
         emptyIndex = 0;
     }
 
+    /**
+     * Finds the existing region whose union with the given region wastes the
+     * least area. If the waste is within the merge area, the existing region
+     * is removed from the array and united into the given region.
+     */
+    private boolean mergeCheapest(final RectBounds region) {
+        final float area = area(region);
+        int best = -1;
+        float bestWaste = mergeArea;
+        for (int i = 0; i < emptyIndex; i++) {
+            RectBounds dr = dirtyRegions[i];
+            float minX = Math.min(region.getMinX(), dr.getMinX());
+            float minY = Math.min(region.getMinY(), dr.getMinY());
+            float maxX = Math.max(region.getMaxX(), dr.getMaxX());
+            float maxY = Math.max(region.getMaxY(), dr.getMaxY());
+            float waste = (maxX - minX) * (maxY - minY) - area - area(dr);
+            if (waste <= bestWaste) {
+                bestWaste = waste;
+                best = i;
+            }
+        }
+        if (best < 0) {
+            return false;
+        }
+        RectBounds tmp = dirtyRegions[best];
+        region.unionWith(tmp);
+        dirtyRegions[best] = dirtyRegions[emptyIndex - 1];
+        dirtyRegions[emptyIndex - 1] = tmp;
+        emptyIndex--;
+        return true;
+    }
+
+    private static float area(RectBounds r) {
+        return r.getWidth() * r.getHeight();
+    }
+
     private RectBounds compress(final RectBounds region) {
         compress_heap();
         addDirtyRegion(region);
@@ -267,15 +325,17 @@ public final class DirtyRegionContainer {
         }
 
         int[] min;
-        for (int i = 0; i < dirtyRegions.length / 2; ++i) { //compress to 1/2
+        int merged = 0;
+        while (merged < dirtyRegions.length / 2 && heapSize > 0) { //compress to 1/2
             min = takeMinWithMap(map);
             int idx0 = resolveMap(map, min[1]);
             int idx1 = resolveMap(map, min[2]);
             if (idx0 != idx1) {
+                merged++;
                 dirtyRegions[idx0].deriveWithUnion(dirtyRegions[idx1]);
                 map[idx1] = idx0;
-                invalidMask |= 1 << idx0;
-                invalidMask |= 1 << idx1;
+                invalidMask |= 1L << idx0;
+                invalidMask |= 1L << idx1;
             }
         }
 
@@ -326,7 +386,7 @@ public final class DirtyRegionContainer {
         // Check if the minimum element wasn't computed with some already merged region
         // If so, we can recompute it and push it down (as the new merged region can be
         // only greater than the original region)
-        while (((1 << temp[1] | 1 << temp[2]) & invalidMask) > 0) {
+        while (((1L << temp[1] | 1L << temp[2]) & invalidMask) != 0) {
             temp[0] = unifiedRegionArea(resolveMap(map, temp[1]), resolveMap(map, temp[2]));
             siftDown(0);
             if (heap[0] == temp) {
@@ -335,9 +395,10 @@ public final class DirtyRegionContainer {
             temp = heap[0];
         }
 
+        heap[0] = heap[heapSize - 1];
         heap[heapSize - 1] = temp;
-        siftDown(0);
         heapSize--;
+        siftDown(0);
         return temp;
     }
 
@@ -345,8 +406,8 @@ public final class DirtyRegionContainer {
         int[] temp = heap[0];
         heap[0] = heap[heapSize - 1];
         heap[heapSize - 1] = temp;
-        siftDown(0);
         heapSize--;
+        siftDown(0);
         return temp;
     }
 
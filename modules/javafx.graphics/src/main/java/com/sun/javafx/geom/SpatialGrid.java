@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.geom;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * A uniform grid over the 2D bounds of an ordered list of items. It is used
+ * to find the items whose bounds intersect a rectangle without visiting every
+ * item, for example when picking or culling the children of a group with a
+ * very large number of children.
+ * <p>
+ * Items are identified by their position in the list that was passed to the
+ * last call of {@link #update(List)}. When the list changes structurally, the
+ * grid must be invalidated with {@link #invalidate()} and is rebuilt on the
+ * next update. When the bounds of a single item change, the item can be
+ * invalidated with {@link #invalidate(Object)}, and only that item is moved
+ * to its new cells on the next update.
+ * <p>
+ * A query collects the positions of all items that intersect one or more
+ * rectangles, see {@link #query(float, float, float, float)}. The result is
+ * sorted in ascending order, so that it can be used to visit the items in
+ * their original order.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <T> the type of the items
+ */
+public final class SpatialGrid<T> {
+
+    /**
+     * Provides the bounds of the items in the grid.
+     *
+     * @param <T> the type of the items
+     */
+    @FunctionalInterface
+    public interface BoundsAccessor<T> {
+        /**
+         * Stores the bounds of the given item in the result, and returns the
+         * result. Items with empty bounds are never returned by a query.
+         */
+        RectBounds getBounds(T item, RectBounds result);
+    }
+
+    // Items that would span more than this number of cells are kept in a
+    // separate list which is checked by every query
+    private static final int MAX_CELLS_PER_ITEM = 64;
+
+    // Cell coordinates are clamped to this range to avoid overflow
+    private static final int MAX_CELL = 1 << 30;
+
+    private static final int NOT_INDEXED = 0;
+    private static final int IN_CELLS = 1;
+    private static final int IN_LARGE = 2;
+
+    private final BoundsAccessor<T> accessor;
+    private final RectBounds temp = new RectBounds();
+    private final IdentityHashMap<T, Integer> ids = new IdentityHashMap<>();
+    private final HashMap<Long, IntList> cells = new HashMap<>();
+    private final IntList large = new IntList();
+    private final IntList stale = new IntList();
+    private final IntList result = new IntList();
+
+    private Object[] items = new Object[0];
+    private float[] bounds = new float[0];
+    private int[] cellRange = new int[0];
+    private byte[] state = new byte[0];
+    private boolean[] staleFlags = new boolean[0];
+    private int[] marks = new int[0];
+    private int queryMark;
+    private int size;
+    private float cellSize = 1;
+    private boolean valid;
+
+    public SpatialGrid(BoundsAccessor<T> accessor) {
+        this.accessor = accessor;
+    }
+
+    /**
+     * Returns the number of items in the grid.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the grid is in sync with the list of items that was
+     * passed to the last call of {@link #update(List)}, except for the
+     * items that were invalidated individually.
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Invalidates the whole grid. This must be called whenever items are
+     * added, removed or reordered.
+     */
+    public void invalidate() {
+        valid = false;
+        stale.clear();
+    }
+
+    /**
+     * Invalidates the bounds of a single item.
+     */
+    public void invalidate(T item) {
+        if (!valid) {
+            return;
+        }
+        Integer id = ids.get(item);
+        if (id == null || staleFlags[id]) {
+            return;
+        }
+        staleFlags[id] = true;
+        stale.add(id);
+        if (stale.size > size / 2) {
+            // cheaper to start over
+            invalidate();
+        }
+    }
+
+    /**
+     * Brings the grid up to date. If the grid is not valid, it is rebuilt
+     * from the given list. Otherwise, only the items that were invalidated
+     * since the last update are moved to their new cells.
+     *
+     * @param list the items, in the same order as on the last update if the
+     *             grid is still valid
+     */
+    public void update(List<? extends T> list) {
+        if (!valid) {
+            rebuild(list);
+            return;
+        }
+        for (int i = 0; i < stale.size; i++) {
+            int id = stale.data[i];
+            staleFlags[id] = false;
+            remove(id);
+            storeBounds(id);
+            insert(id);
+        }
+        stale.clear();
+    }
+
+    /**
+     * Clears the result of the previous queries.
+     */
+    public void clearResult() {
+        result.clear();
+        if (++queryMark == 0) {
+            Arrays.fill(marks, 0);
+            queryMark = 1;
+        }
+    }
+
+    /**
+     * Adds the positions of all items whose bounds intersect the given
+     * rectangle to the result, unless they are already in the result.
+     */
+    public void query(float minX, float minY, float maxX, float maxY) {
+        if (minX > maxX || minY > maxY) {
+            return;
+        }
+        for (int i = 0; i < large.size; i++) {
+            collect(large.data[i], minX, minY, maxX, maxY);
+        }
+        if (cells.isEmpty()) {
+            return;
+        }
+        final int cx0 = cell(minX), cy0 = cell(minY);
+        final int cx1 = cell(maxX), cy1 = cell(maxY);
+        if (((long) cx1 - cx0 + 1) * ((long) cy1 - cy0 + 1) > cells.size()) {
+            // visiting the occupied cells is cheaper than visiting the range
+            for (var entry : cells.entrySet()) {
+                long key = entry.getKey();
+                int cx = (int) (key >> 32);
+                int cy = (int) key;
+                if (cx >= cx0 && cx <= cx1 && cy >= cy0 && cy <= cy1) {
+                    collect(entry.getValue(), minX, minY, maxX, maxY);
+                }
+            }
+        } else {
+            for (int cy = cy0; cy <= cy1; cy++) {
+                for (int cx = cx0; cx <= cx1; cx++) {
+                    IntList cell = cells.get(key(cx, cy));
+                    if (cell != null) {
+                        collect(cell, minX, minY, maxX, maxY);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts the result in ascending order and returns its size.
+     */
+    public int sortResult() {
+        Arrays.sort(result.data, 0, result.size);
+        return result.size;
+    }
+
+    /**
+     * Returns the position of the item at the given index of the result.
+     */
+    public int getResult(int index) {
+        return result.data[index];
+    }
+
+    private void collect(IntList cell, float minX, float minY, float maxX, float maxY) {
+        for (int i = 0; i < cell.size; i++) {
+            collect(cell.data[i], minX, minY, maxX, maxY);
+        }
+    }
+
+    private void collect(int id, float minX, float minY, float maxX, float maxY) {
+        if (marks[id] == queryMark) {
+            return;
+        }
+        int b = id * 4;
+        if (bounds[b] <= maxX && bounds[b + 2] >= minX && bounds[b + 1] <= maxY && bounds[b + 3] >= minY) {
+            marks[id] = queryMark;
+            result.add(id);
+        }
+    }
+
+    private void rebuild(List<? extends T> list) {
+        size = list.size();
+        if (items.length < size || items.length > 2 * size) {
+            items = new Object[size];
+            bounds = new float[size * 4];
+            cellRange = new int[size * 4];
+            state = new byte[size];
+            staleFlags = new boolean[size];
+            marks = new int[size];
+        } else {
+            Arrays.fill(items, size, items.length, null);
+            Arrays.fill(staleFlags, false);
+            Arrays.fill(marks, 0);
+        }
+        queryMark = 1;
+        ids.clear();
+        cells.clear();
+        large.clear();
+        stale.clear();
+        result.clear();
+
+        double extent = 0;
+        int count = 0;
+        for (int id = 0; id < size; id++) {
+            T item = list.get(id);
+            items[id] = item;
+            ids.put(item, id);
+            if (storeBounds(id)) {
+                int b = id * 4;
+                extent += Math.max(bounds[b + 2] - bounds[b], bounds[b + 3] - bounds[b + 1]);
+                count++;
+            }
+        }
+
+        // Cells twice as large as the average item keep the number of cells
+        // per item and the number of items per cell low
+        cellSize = count == 0 ? 1 : (float) Math.max(1, 2 * extent / count);
+        for (int id = 0; id < size; id++) {
+            insert(id);
+        }
+        valid = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean storeBounds(int id) {
+        RectBounds r = accessor.getBounds((T) items[id], temp);
+        int b = id * 4;
+        if (r == null || r.isEmpty()) {
+            // empty bounds never intersect a query
+            bounds[b] = bounds[b + 1] = Float.POSITIVE_INFINITY;
+            bounds[b + 2] = bounds[b + 3] = Float.NEGATIVE_INFINITY;
+            return false;
+        }
+        bounds[b] = r.getMinX();
+        bounds[b + 1] = r.getMinY();
+        bounds[b + 2] = r.getMaxX();
+        bounds[b + 3] = r.getMaxY();
+        return true;
+    }
+
+    private void insert(int id) {
+        int b = id * 4;
+        if (bounds[b] > bounds[b + 2]) {
+            state[id] = NOT_INDEXED;
+            return;
+        }
+        int cx0 = cell(bounds[b]), cy0 = cell(bounds[b + 1]);
+        int cx1 = cell(bounds[b + 2]), cy1 = cell(bounds[b + 3]);
+        if (((long) cx1 - cx0 + 1) * ((long) cy1 - cy0 + 1) > MAX_CELLS_PER_ITEM) {
+            state[id] = IN_LARGE;
+            large.add(id);
+            return;
+        }
+        state[id] = IN_CELLS;
+        cellRange[b] = cx0;
+        cellRange[b + 1] = cy0;
+        cellRange[b + 2] = cx1;
+        cellRange[b + 3] = cy1;
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                cells.computeIfAbsent(key(cx, cy), k -> new IntList()).add(id);
+            }
+        }
+    }
+
+    private void remove(int id) {
+        switch (state[id]) {
+            case IN_LARGE -> large.remove(id);
+            case IN_CELLS -> {
+                int b = id * 4;
+                for (int cy = cellRange[b + 1]; cy <= cellRange[b + 3]; cy++) {
+                    for (int cx = cellRange[b]; cx <= cellRange[b + 2]; cx++) {
+                        long key = key(cx, cy);
+                        IntList cell = cells.get(key);
+                        if (cell != null && cell.remove(id) && cell.size == 0) {
+                            cells.remove(key);
+                        }
+                    }
+                }
+            }
+            default -> {}
+        }
+        state[id] = NOT_INDEXED;
+    }
+
+    private int cell(float coord) {
+        double c = Math.floor(coord / cellSize);
+        return (int) Math.max(-MAX_CELL, Math.min(MAX_CELL, c));
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+
+    private static final class IntList {
+        int[] data = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        boolean remove(int value) {
+            for (int i = 0; i < size; i++) {
+                if (data[i] == value) {
+                    data[i] = data[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio.png;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A stream of the inflated IDAT data of a PNG stream, which is inflated ahead
+ * of the reader on a worker thread.
+ *
+ * <p>The worker inflates the data in large chunks into a small ring of
+ * buffers, so that inflation overlaps with the unfiltering and color
+ * conversion of the scanlines done by the reader. The <code>read()</code>
+ * methods block until the requested data was inflated, and read fully
+ * unless the end of the data is reached.</p>
+ *
+ * <p>The source stream must not be used by the reader until the stream was
+ * closed, which waits for the worker to stop reading from it.</p>
+ */
+final class PNGAsyncInflaterInputStream extends InputStream {
+
+    // size of the chunks of inflated data handed over to the reader
+    static final int CHUNK_SIZE = 256 * 1024;
+    // size of the buffer of deflated data read from the source stream
+    static final int INPUT_BUFFER_SIZE = 64 * 1024;
+    private static final int NUM_CHUNKS = 3;
+
+    private static ExecutorService executor;
+
+    private static final class Chunk {
+        final byte[] data;
+        final int length;
+        final IOException error;
+
+        Chunk(byte[] data, int length, IOException error) {
+            this.data = data;
+            this.length = length;
+            this.error = error;
+        }
+    }
+
+    private final BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(NUM_CHUNKS);
+    private final BlockingQueue<Chunk> filled = new ArrayBlockingQueue<>(NUM_CHUNKS + 1);
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile boolean closed;
+
+    private Chunk chunk;
+    private int pos;
+    private boolean eof;
+
+    /**
+     * Create the stream and start inflating.
+     *
+     * @param input stream of the IDAT chunk data of a PNG stream.
+     */
+    PNGAsyncInflaterInputStream(PNGIDATChunkInputStream input) {
+        for (int i = 0; i < NUM_CHUNKS; ++i) {
+            free.add(new byte[CHUNK_SIZE]);
+        }
+        getExecutor().execute(() -> inflate(input));
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "PNG Inflater");
+                thread.setDaemon(true);
+                return thread;
+            });
+            ((ThreadPoolExecutor) executor).setKeepAliveTime(1, TimeUnit.SECONDS);
+        }
+        return executor;
+    }
+
+    private void inflate(InputStream input) {
+        Inflater inf = new Inflater();
+        try {
+            InputStream data = new InflaterInputStream(input, inf, INPUT_BUFFER_SIZE);
+            int length;
+            do {
+                byte[] buffer = free.take();
+                if (closed) {
+                    break;
+                }
+                length = data.readNBytes(buffer, 0, CHUNK_SIZE);
+                filled.put(new Chunk(buffer, length, null));
+            } while (length == CHUNK_SIZE);
+        } catch (IOException e) {
+            filled.add(new Chunk(null, 0, e));
+        } catch (InterruptedException e) {
+            filled.add(new Chunk(null, 0, new InterruptedIOException()));
+        } catch (RuntimeException e) {
+            filled.add(new Chunk(null, 0, new IOException(e)));
+        } finally {
+            inf.end();
+            done.countDown();
+        }
+    }
+
+    // returns false at the end of the data
+    private boolean nextChunk() throws IOException {
+        if (chunk != null && chunk.data != null) {
+            free.add(chunk.data);
+            chunk = null;
+        }
+        if (eof) {
+            return false;
+        }
+        try {
+            chunk = filled.take();
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        }
+        pos = 0;
+        if (chunk.error != null) {
+            eof = true;
+            throw chunk.error;
+        }
+        if (chunk.length < CHUNK_SIZE) {
+            eof = true;
+        }
+        return chunk.length > 0;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (chunk == null || pos == chunk.length) {
+            if (!nextChunk()) {
+                return -1;
+            }
+        }
+        return chunk.data[pos++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        int totalRead = 0;
+        while (len > 0) {
+            if (chunk == null || pos == chunk.length) {
+                if (!nextChunk()) {
+                    break;
+                }
+            }
+            int numToRead = Math.min(len, chunk.length - pos);
+            System.arraycopy(chunk.data, pos, b, off, numToRead);
+            pos += numToRead;
+            off += numToRead;
+            len -= numToRead;
+            totalRead += numToRead;
+        }
+
+        return totalRead == 0 ? -1 : totalRead;
+    }
+
+    /**
+     * Stops the worker, and waits until it no longer reads from the source
+     * stream.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // hand all buffers back, so that the worker is not blocked
+        if (chunk != null && chunk.data != null) {
+            free.add(chunk.data);
+        }
+        chunk = null;
+        eof = true;
+        Chunk c;
+        while ((c = filled.poll()) != null) {
+            if (c.data != null) {
+                free.add(c.data);
+            }
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -62,6 +62,10 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
     static final int PNG_FILTER_UP = 2;
     static final int PNG_FILTER_AVERAGE = 3;
     static final int PNG_FILTER_PAETH = 4;
+    // inflate on a worker thread, ahead of unfiltering the scanlines
+    private static final boolean PARALLEL = Boolean.getBoolean("javafx.iio.png.parallel");
+    // minimum size of the decoded image for inflating on a worker thread
+    static final int MIN_PARALLEL_SIZE = 1024 * 1024;
     // data stream
     private final DataInputStream stream;
     private int width, height, bitDepth, colorType;
@@ -72,6 +76,9 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
     private int trnsR, trnsG, trnsB;
     // Palette data : r,g,b,[a]  -  alpha optional
     private byte palette[][];
+    private boolean parallel = PARALLEL;
+    // progress of the decoding of the scanlines
+    private int rowsDecoded, totalRows;
 
     public PNGImageLoader2(InputStream input) throws IOException {
         super(PNGDescriptor.getInstance());
@@ -302,6 +309,10 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
     public void dispose() {
     }
 
+    void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     private ImageStorage.ImageType getType() {
         switch (colorType) {
             case PNG_COLOR_GRAY:
@@ -573,10 +584,24 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
             byte scanLineSwp[] = scanLine0;
             scanLine0 = scanLine1;
             scanLine1 = scanLineSwp;
+
+            updateImageProgress(100.0F * ++rowsDecoded / totalRows);
         }
     }
 
     private void load(byte image[], InputStream data) throws IOException {
+        rowsDecoded = 0;
+        if (isInterlaced) {
+            totalRows = 0;
+            for (int mip = 0; mip != 7; ++mip) {
+                if (width > starting_x[mip] && height > starting_y[mip]) {
+                    totalRows += mipSize(height, mip, starting_y, increment_y);
+                }
+            }
+        } else {
+            totalRows = height;
+        }
+
         if (isInterlaced) {
             for (int mip = 0; mip != 7; ++mip) {
                 if (width > starting_x[mip] && height > starting_y[mip]) {
@@ -668,15 +693,22 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         ByteBuffer bb = ByteBuffer.allocate(bpp * width * height);
 
         PNGIDATChunkInputStream iDat = new PNGIDATChunkInputStream(stream, dataSize);
-        Inflater inf = new Inflater();
-        InputStream data = new BufferedInputStream(new InflaterInputStream(iDat, inf));
-
-        try {
-            load(bb.array(), data);
-        } catch (IOException e) {
-            throw e;
-        } finally {
-            if (inf != null) {
+
+        if (parallel && bb.capacity() >= MIN_PARALLEL_SIZE) {
+            try (InputStream data = new PNGAsyncInflaterInputStream(iDat)) {
+                load(bb.array(), data);
+            }
+        } else {
+            // inflate from a large input buffer, rather than the default
+            // buffer of the InflaterInputStream which only holds 512 bytes
+            Inflater inf = new Inflater();
+            InputStream data = new BufferedInputStream(
+                    new InflaterInputStream(iDat, inf, PNGAsyncInflaterInputStream.INPUT_BUFFER_SIZE),
+                    PNGAsyncInflaterInputStream.INPUT_BUFFER_SIZE);
+
+            try {
+                load(bb.array(), data);
+            } finally {
                 inf.end();
             }
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -42,6 +42,15 @@ public enum CssFlags {
      * or grandchildren, etc is UPDATE or REAPPLY so we need to step into this branch.
      */
     DIRTY_BRANCH,
+    /**
+     * Indicates that we must update properties for this node, but not for
+     * its children. This is used for a pseudoclass state change that can only
+     * affect the styles of this node, that is, the pseudoclass does not appear
+     * in any selector that matches a descendant and none of the styles that
+     * depend on it are looked-up or inherited by a descendant. Children that
+     * are not CLEAN are still processed.
+     */
+    UPDATE_NODE,
     /**
      * Indicates that we must update properties for this node and all child
      * nodes. This is typically in response to a pseudoclass state change and
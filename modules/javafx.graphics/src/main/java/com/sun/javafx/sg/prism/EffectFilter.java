@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,7 @@ import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.prism.Graphics;
 import com.sun.scenario.effect.Effect;
+import com.sun.scenario.effect.impl.EffectCache;
 import com.sun.scenario.effect.impl.prism.PrEffectHelper;
 
 /**
@@ -36,16 +37,27 @@ import com.sun.scenario.effect.impl.prism.PrEffectHelper;
 public class EffectFilter {
     private Effect effect;
     private NodeEffectInput nodeInput;
+    private final EffectCache resultCache = new EffectCache();
 
     EffectFilter(Effect effect, NGNode node) {
         this.effect = effect;
         this.nodeInput = new NodeEffectInput(node);
+        this.nodeInput.setResultCache(resultCache);
     }
 
     Effect getEffect() { return effect; }
     NodeEffectInput getNodeInput() { return nodeInput; }
 
+    /**
+     * Releases the cached results of the effect, which must be called
+     * whenever the content of the node or the effect changes.
+     */
+    void invalidate() {
+        resultCache.invalidate();
+    }
+
     void dispose() {
+        resultCache.invalidate();
         effect = null;
         nodeInput.setNode(null);
         nodeInput = null;
@@ -60,5 +72,6 @@ public class EffectFilter {
         NodeEffectInput nodeInput = getNodeInput();
         PrEffectHelper.render(getEffect(), g, 0, 0, nodeInput);
         nodeInput.flush();
+        resultCache.unlock();
     }
 }
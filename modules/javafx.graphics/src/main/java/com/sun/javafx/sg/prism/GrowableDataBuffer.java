@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -153,6 +153,40 @@ public class GrowableDataBuffer {
         objs = new Object[initobjsize];
     }
 
+    private GrowableDataBuffer(byte[] vals, int writevalpos, Object[] objs, int writeobjpos) {
+        this.vals = vals;
+        this.writevalpos = writevalpos;
+        this.objs = objs;
+        this.writeobjpos = writeobjpos;
+    }
+
+    /**
+     * Returns a new buffer that contains a copy of all data written to
+     * this buffer, with capacities that match the size of the data.
+     * The returned buffer is not part of the pool and should not be
+     * returned to it.
+     *
+     * @return a copy of this buffer
+     */
+    public GrowableDataBuffer copy() {
+        return new GrowableDataBuffer(
+            Arrays.copyOf(vals, writevalpos), writevalpos,
+            Arrays.copyOf(objs, writeobjpos), writeobjpos);
+    }
+
+    /**
+     * Returns a new buffer that shares the data of this buffer, but has
+     * its own read positions, starting at the beginning of the data.
+     * This allows a buffer that is no longer written to be read any number
+     * of times, including from within a read of the same buffer.
+     * The returned buffer must not be written to.
+     *
+     * @return a new reader for the data in this buffer
+     */
+    GrowableDataBuffer newReader() {
+        return new GrowableDataBuffer(vals, writevalpos, objs, writeobjpos);
+    }
+
     /**
      * The location of the next byte to be read from the encoded value
      * buffer.
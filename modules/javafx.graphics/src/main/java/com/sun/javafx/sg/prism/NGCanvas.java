@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -115,6 +115,9 @@ public class NGCanvas extends NGNode {
     public static final byte STROKE_ARC        = OP_BASE + 9;
     public static final byte FILL_TEXT         = OP_BASE + 10;
     public static final byte STROKE_TEXT       = OP_BASE + 11;
+    public static final byte FILL_RECTS        = OP_BASE + 12;
+    public static final byte STROKE_LINES      = OP_BASE + 13;
+    public static final byte FILL_POINTS       = OP_BASE + 14;
 
     public static final byte                PATH_BASE = 40;
     public static final byte PATHSTART    = PATH_BASE + 0;
@@ -140,6 +143,9 @@ public class NGCanvas extends NGNode {
     public static final byte RESET           = UTIL_BASE + 0;
     public static final byte SET_DIMS        = UTIL_BASE + 1;
 
+    public static final byte                     LIST_BASE = 80;
+    public static final byte DRAW_DISPLAY_LIST = LIST_BASE + 0;
+
     public static final byte CAP_BUTT   = 0;
     public static final byte CAP_ROUND  = 1;
     public static final byte CAP_SQUARE = 2;
@@ -349,6 +355,9 @@ public class NGCanvas extends NGNode {
     private Rectangle clipRect;
     private Effect effect;
     private int arctype;
+    // The transform that a display list is drawn with, or null if the
+    // commands being rendered do not come from a display list
+    private Affine2D listTransform;
 
     static float TEMP_COORDS[] = new float[6];
     private static Arc2D TEMP_ARC = new Arc2D();
@@ -865,7 +874,9 @@ public class NGCanvas extends NGNode {
                     path.closePath();
                     break;
                 case PATHEND:
-                    if (highestPixelScale != 1.0f) {
+                    if (listTransform != null) {
+                        path.transform(listTransform);
+                    } else if (highestPixelScale != 1.0f) {
                         TEMP_TX.setToScale(highestPixelScale, highestPixelScale);
                         path.transform(TEMP_TX);
                     }
@@ -873,7 +884,12 @@ public class NGCanvas extends NGNode {
                 case PUSH_CLIP:
                 {
                     Path2D clippath = (Path2D) buf.getObject();
-                    if (highestPixelScale != 1.0f) {
+                    if (listTransform != null) {
+                        // display lists can be drawn many times, so the
+                        // recorded clip path must not be modified
+                        clippath = new Path2D(clippath);
+                        clippath.transform(listTransform);
+                    } else if (highestPixelScale != 1.0f) {
                         TEMP_TX.setToScale(highestPixelScale, highestPixelScale);
                         clippath.transform(TEMP_TX);
                     }
@@ -949,6 +965,19 @@ public class NGCanvas extends NGNode {
                 }
                 case TRANSFORM:
                 {
+                    if (listTransform != null) {
+                        // the recorded transform is relative to the display list
+                        double mxx = buf.getDouble();
+                        double mxy = buf.getDouble();
+                        double mxt = buf.getDouble();
+                        double myx = buf.getDouble();
+                        double myy = buf.getDouble();
+                        double myt = buf.getDouble();
+                        transform.setTransform(mxx, myx, mxy, myy, mxt, myt);
+                        transform.preConcatenate(listTransform);
+                        inversedirty = true;
+                        break;
+                    }
                     double mxx = buf.getDouble() * highestPixelScale;
                     double mxy = buf.getDouble() * highestPixelScale;
                     double mxt = buf.getDouble() * highestPixelScale;
@@ -959,6 +988,9 @@ public class NGCanvas extends NGNode {
                     inversedirty = true;
                     break;
                 }
+                case DRAW_DISPLAY_LIST:
+                    renderDisplayList((GrowableDataBuffer) buf.getObject());
+                    break;
                 case GLOBAL_ALPHA:
                     globalAlpha = buf.getFloat();
                     break;
@@ -1058,6 +1090,9 @@ public class NGCanvas extends NGNode {
                 case DRAW_SUBIMAGE:
                 case FILL_TEXT:
                 case STROKE_TEXT:
+                case FILL_RECTS:
+                case STROKE_LINES:
+                case FILL_POINTS:
                 {
                     RenderBuf dest;
                     boolean tempvalidated;
@@ -1168,6 +1203,88 @@ public class NGCanvas extends NGNode {
         }
     }
 
+    /**
+     * Renders the commands of a display list with the current transform and
+     * clip. All other attributes start out with their default values while
+     * the display list is rendered, and are restored afterwards.
+     */
+    private void renderDisplayList(GrowableDataBuffer list) {
+        float savedGlobalAlpha = globalAlpha;
+        Blend.Mode savedBlendmode = blendmode;
+        Paint savedFillPaint = fillPaint;
+        Paint savedStrokePaint = strokePaint;
+        float savedLinewidth = linewidth;
+        int savedLinecap = linecap;
+        int savedLinejoin = linejoin;
+        float savedMiterlimit = miterlimit;
+        double[] savedDashes = dashes;
+        float savedDashOffset = dashOffset;
+        BasicStroke savedStroke = stroke;
+        int savedWindingRule = path.getWindingRule();
+        PGFont savedPgfont = pgfont;
+        int savedSmoothing = smoothing;
+        boolean savedImageSmoothing = imageSmoothing;
+        int savedAlign = align;
+        int savedBaseline = baseline;
+        Affine2D savedTransform = new Affine2D(transform);
+        Effect savedEffect = effect;
+        int savedArctype = arctype;
+        int savedClipCount = clipStack.size();
+        Affine2D savedListTransform = listTransform;
+
+        listTransform = savedTransform;
+        globalAlpha = 1.0f;
+        blendmode = Mode.SRC_OVER;
+        fillPaint = Color.BLACK;
+        strokePaint = Color.BLACK;
+        linewidth = 1.0f;
+        linecap = BasicStroke.CAP_SQUARE;
+        linejoin = BasicStroke.JOIN_MITER;
+        miterlimit = 10f;
+        dashes = null;
+        dashOffset = 0.0f;
+        stroke = null;
+        path.setWindingRule(Path2D.WIND_NON_ZERO);
+        pgfont = (PGFont) FontHelper.getNativeFont(Font.getDefault());
+        smoothing = SMOOTH_GRAY;
+        imageSmoothing = true;
+        align = ALIGN_LEFT;
+        baseline = VPos.BASELINE.ordinal();
+        effect = null;
+        arctype = Arc2D.OPEN;
+
+        try {
+            renderStream(list.newReader());
+        } finally {
+            while (clipStack.size() > savedClipCount) {
+                resetClip(true);
+                clipStack.removeLast();
+            }
+            listTransform = savedListTransform;
+            globalAlpha = savedGlobalAlpha;
+            blendmode = savedBlendmode;
+            fillPaint = savedFillPaint;
+            strokePaint = savedStrokePaint;
+            linewidth = savedLinewidth;
+            linecap = savedLinecap;
+            linejoin = savedLinejoin;
+            miterlimit = savedMiterlimit;
+            dashes = savedDashes;
+            dashOffset = savedDashOffset;
+            stroke = savedStroke;
+            path.setWindingRule(savedWindingRule);
+            pgfont = savedPgfont;
+            smoothing = savedSmoothing;
+            imageSmoothing = savedImageSmoothing;
+            align = savedAlign;
+            baseline = savedBaseline;
+            transform.setTransform(savedTransform);
+            inversedirty = true;
+            effect = savedEffect;
+            arctype = savedArctype;
+        }
+    }
+
     /**
      * Calculate bounds and/or render one single rendering operation.
      * All of the data for the rendering operation should be consumed
@@ -1290,6 +1407,32 @@ public class NGCanvas extends NGNode {
                 }
                 break;
             }
+            case STROKE_LINES:
+                strokeBounds = true;
+            case FILL_RECTS:
+            case FILL_POINTS:
+            {
+                int count = buf.getInt();
+                float size = buf.getFloat();
+                float coords[] = (float[]) buf.getObject();
+                if (token == FILL_POINTS) {
+                    coords = pointsToRects(coords, count, size);
+                }
+                if (bounds != null) {
+                    batchbounds(coords, count, token == STROKE_LINES, bounds);
+                    transformBounds = true;
+                }
+                if (gr != null) {
+                    if (token == STROKE_LINES) {
+                        setupStroke(gr);
+                        gr.drawLines(coords, 0, count);
+                    } else {
+                        setupFill(gr);
+                        gr.fillRects(coords, 0, count);
+                    }
+                }
+                break;
+            }
             case FILL_ARC:
             case STROKE_ARC:
             {
@@ -1470,6 +1613,36 @@ public class NGCanvas extends NGNode {
         }
     }
 
+    private static float[] pointsToRects(float points[], int count, float size) {
+        float rects[] = new float[count * 4];
+        float half = size / 2f;
+        for (int i = 0, j = 0; i < count * 2; i += 2) {
+            rects[j++] = points[i] - half;
+            rects[j++] = points[i + 1] - half;
+            rects[j++] = size;
+            rects[j++] = size;
+        }
+        return rects;
+    }
+
+    private static void batchbounds(float coords[], int count, boolean lines,
+                                    RectBounds bounds)
+    {
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < count * 4; i += 4) {
+            float x1 = coords[i];
+            float y1 = coords[i + 1];
+            float x2 = lines ? coords[i + 2] : x1 + coords[i + 2];
+            float y2 = lines ? coords[i + 3] : y1 + coords[i + 3];
+            minX = Math.min(minX, Math.min(x1, x2));
+            minY = Math.min(minY, Math.min(y1, y2));
+            maxX = Math.max(maxX, Math.max(x1, x2));
+            maxY = Math.max(maxY, Math.max(y1, y2));
+        }
+        bounds.setBounds(minX, minY, maxX, maxY);
+    }
+
     void computeTextLayoutBounds(RectBounds bounds, BaseTransform transform,
                                  float scaleX, float layoutX, float layoutY,
                                  int token)
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,10 +31,13 @@ import java.util.List;
 import com.sun.javafx.geom.DirtyRegionContainer;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.SpatialGrid;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
+import com.sun.javafx.geom.transform.NoninvertibleTransformException;
 import com.sun.javafx.scene.NodeHelper;
 import com.sun.prism.Graphics;
+import com.sun.prism.impl.PrismSettings;
 import com.sun.scenario.effect.Blend;
 import javafx.scene.Node;
 
@@ -60,9 +63,28 @@ public class NGGroup extends NGNode {
 
     /**
      * This mask has all bits that mark that a region intersects this group.
-     * Which means it looks like this: 00010101010101010101010101010101 (first bit for sign)
+     * Which means it looks like this: 0001010101...0101 (64 bits, first bit for sign)
      */
-    private static final int REGION_INTERSECTS_MASK = 0x15555555;
+    private static final long REGION_INTERSECTS_MASK = 0x1555555555555555L;
+
+    private static final RectBounds TEMP_REGION = new RectBounds();
+
+    /**
+     * A spatial index of the transformed bounds of the ordered children. It is
+     * created for groups with at least {@code PrismSettings.cullIndexThreshold}
+     * children, and is used to mark and render only those children that
+     * intersect a dirty region.
+     */
+    private SpatialGrid<NGNode> cullIndex;
+
+    /**
+     * The positions of the ordered children whose culling bits were set by the
+     * last pass of markCullRegions, in ascending order. All other children have
+     * no culling bits set, unless culledChildrenValid is false.
+     */
+    private int[] culledChildren = new int[0];
+    private int culledCount;
+    private boolean culledChildrenValid;
 
     /**
      * Gets an unmodifiable list of the current children on this group
@@ -106,12 +128,14 @@ public class NGGroup extends NGNode {
         child.markDirty();
         markTreeDirtyNoIncrement();
         geometryChanged();
+        childrenChanged();
     }
 
     public void clearFrom(int fromIndex) {
         if (fromIndex < children.size()) {
             children.subList(fromIndex, children.size()).clear();
             geometryChanged();
+            childrenChanged();
             childDirty = true;
             markTreeDirtyNoIncrement();
         }
@@ -149,6 +173,7 @@ public class NGGroup extends NGNode {
         // Scenario, mostly because it was hard to optimize correctly).
         children.remove(node);
         geometryChanged();
+        childrenChanged();
         childDirty = true;
         markTreeDirtyNoIncrement();
     }
@@ -156,6 +181,7 @@ public class NGGroup extends NGNode {
     public void remove(int index) {
         children.remove(index);
         geometryChanged();
+        childrenChanged();
         childDirty = true;
         markTreeDirtyNoIncrement();
     }
@@ -164,9 +190,31 @@ public class NGGroup extends NGNode {
         children.clear();
         childDirty = false;
         geometryChanged();
+        childrenChanged();
         markTreeDirtyNoIncrement();
     }
 
+    /**
+     * Called whenever children are added, removed or reordered. The positions
+     * in the culling index and in the list of culled children are no longer
+     * valid after such a change.
+     */
+    private void childrenChanged() {
+        if (cullIndex != null) {
+            cullIndex.invalidate();
+        }
+        culledChildrenValid = false;
+    }
+
+    /**
+     * Called by a child when its transformed bounds have changed.
+     */
+    void childBoundsChanged(NGNode child) {
+        if (cullIndex != null) {
+            cullIndex.invalidate(child);
+        }
+    }
+
     // Call this method if children view order is needed for rendering.
     // The returned list should be treated as read only.
     private List<NGNode> getOrderedChildren() {
@@ -184,6 +232,7 @@ public class NGGroup extends NGNode {
             NGNode childPeer = NodeHelper.getPeer(child);
             viewOrderChildren.add(childPeer);
         }
+        childrenChanged();
 
         // Mark visual dirty
         visualsChanged();
@@ -212,6 +261,18 @@ public class NGGroup extends NGNode {
             }
         }
 
+        if (culledChildrenValid && g.hasPreCullingBits()) {
+            // Only the children marked by the last culling pass can intersect
+            // the current dirty region
+            for (int i = 0; i < culledCount; i++) {
+                int index = culledChildren[i];
+                if (index >= startPos) {
+                    orderedChildren.get(index).render(g);
+                }
+            }
+            return;
+        }
+
         // Guard against case where renderRoot is not part of orderedChildren
         for (int i = (startPos == -1 ? 0 : startPos); i < orderedChildren.size(); i++) {
             NGNode child = orderedChildren.get(i);
@@ -259,7 +320,7 @@ public class NGGroup extends NGNode {
         // If the NGGroup is completely outside the culling area, then we don't have to traverse down
         // to the children yo.
         if (cullingIndex != -1) {
-            final int bits = cullingBits >> (cullingIndex*2);
+            final long bits = cullingBits >> (cullingIndex*2);
             if ((bits & DIRTY_REGION_CONTAINS_OR_INTERSECTS_NODE_BOUNDS) == 0) {
                 return RenderRootResult.NO_RENDER_ROOT;
             }
@@ -346,7 +407,7 @@ public class NGGroup extends NGNode {
     @Override
     protected void markCullRegions(
             DirtyRegionContainer drc,
-            int cullingRegionsBitsOfParent,
+            long cullingRegionsBitsOfParent,
             BaseTransform tx,
             GeneralTransform3D pvTx) {
 
@@ -376,19 +437,97 @@ public class NGGroup extends NGNode {
 
             NGNode child;
             List<NGNode> orderedChildren = getOrderedChildren();
-            for (int chldIdx = 0; chldIdx < orderedChildren.size(); chldIdx++) {
-                child = orderedChildren.get(chldIdx);
-                child.markCullRegions(
-                        drc,
-                        cullingBits,
-                        chTx,
-                        pvTx);
+            if (!markCullRegionsIndexed(drc, orderedChildren, chTx, pvTx)) {
+                for (int chldIdx = 0; chldIdx < orderedChildren.size(); chldIdx++) {
+                    child = orderedChildren.get(chldIdx);
+                    child.markCullRegions(
+                            drc,
+                            cullingBits,
+                            chTx,
+                            pvTx);
+                }
             }
             // restore previous transform state
             tx.restoreTransform(mxx, mxy, mxz, mxt, myx, myy, myz, myt, mzx, mzy, mzz, mzt);
         }
     }
 
+    /**
+     * Marks the culling bits of only those children that intersect one of the
+     * dirty regions, using the culling index. The culling bits of all other
+     * children are cleared. Returns false if the index cannot be used, in
+     * which case the caller has to mark all children.
+     */
+    private boolean markCullRegionsIndexed(
+            DirtyRegionContainer drc,
+            List<NGNode> orderedChildren,
+            BaseTransform chTx,
+            GeneralTransform3D pvTx) {
+
+        final int threshold = PrismSettings.cullIndexThreshold;
+        if (threshold <= 0 || orderedChildren.size() < threshold) {
+            cullIndex = null;
+            culledChildrenValid = false;
+            return false;
+        }
+        if (!pvTx.isIdentity()) {
+            culledChildrenValid = false;
+            return false;
+        }
+
+        if (cullIndex == null) {
+            cullIndex = new SpatialGrid<>((child, rect) -> child.transformedBounds.flattenInto(rect));
+        }
+        cullIndex.update(orderedChildren);
+
+        // Find the children that intersect the dirty regions, mapped to the
+        // local coordinates of this group
+        cullIndex.clearResult();
+        long mask = 0x1L;
+        for (int i = 0; i < drc.size(); i++) {
+            RectBounds region = drc.getDirtyRegion(i);
+            if (region == null || region.isEmpty()) {
+                break;
+            }
+            if ((cullingBits & mask) != 0) {
+                try {
+                    chTx.inverseTransform(region, TEMP_REGION);
+                } catch (NoninvertibleTransformException e) {
+                    culledChildrenValid = false;
+                    return false;
+                }
+                cullIndex.query(TEMP_REGION.getMinX(), TEMP_REGION.getMinY(),
+                                TEMP_REGION.getMaxX(), TEMP_REGION.getMaxY());
+            }
+            mask = mask << 2;
+        }
+
+        // Clear the culling bits that were set by the previous pass. If the
+        // children have changed since then, the bits of all children must be
+        // cleared.
+        if (culledChildrenValid) {
+            for (int i = 0; i < culledCount; i++) {
+                orderedChildren.get(culledChildren[i]).cullingBits = 0;
+            }
+        } else {
+            for (int i = 0; i < orderedChildren.size(); i++) {
+                orderedChildren.get(i).cullingBits = 0;
+            }
+        }
+
+        culledCount = cullIndex.sortResult();
+        if (culledChildren.length < culledCount) {
+            culledChildren = new int[Math.max(culledCount, 2 * culledChildren.length)];
+        }
+        for (int i = 0; i < culledCount; i++) {
+            int index = cullIndex.getResult(i);
+            culledChildren[i] = index;
+            orderedChildren.get(index).markCullRegions(drc, cullingBits, chTx, pvTx);
+        }
+        culledChildrenValid = true;
+        return true;
+    }
+
     @Override
     public void drawDirtyOpts(final BaseTransform tx, final GeneralTransform3D pvTx,
                               Rectangle clipBounds, int[] countBuffer, int dirtyRegionIndex) {
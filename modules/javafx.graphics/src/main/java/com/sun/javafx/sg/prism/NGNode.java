@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -243,7 +243,7 @@ public abstract class NGNode {
     /**
      * Marks position of this node in dirty regions.
      */
-    protected int cullingBits = 0x0;
+    protected long cullingBits = 0x0L;
     private DirtyHint hint;
 
     /**
@@ -267,7 +267,7 @@ public abstract class NGNode {
      * was rendered by dirty region 3, then it would have the 3rd bit from the
      * right set ( that is, 1 << 2)
      */
-    private int painted = 0;
+    private long painted = 0L;
 
     protected NGNode() { }
 
@@ -339,6 +339,9 @@ public abstract class NGNode {
         }
         dirtyBounds = dirtyBounds.deriveWithUnion(bounds);
         transformedBounds = transformedBounds.deriveWithNewBounds(bounds);
+        if (parent instanceof NGGroup group) {
+            group.childBoundsChanged(this);
+        }
         if (hasVisuals() && !byTransformChangeOnly) {
             markDirty();
         }
@@ -937,12 +940,15 @@ public abstract class NGNode {
      * Invalidates the cache, if it is in use. There are several operations
      * which need to cause the cached raster to become invalid so that a
      * subsequent render operation will result in the cached image being
-     * reconstructed.
+     * reconstructed. This also releases the cached results of the effect.
      */
     protected final void invalidateCache() {
         if (cacheFilter != null) {
             cacheFilter.invalidate();
         }
+        if (effectFilter != null) {
+            effectFilter.invalidate();
+        }
     }
 
     /**
@@ -953,6 +959,9 @@ public abstract class NGNode {
         if (cacheFilter != null) {
             cacheFilter.invalidateByTranslation(hint.translateXDelta, hint.translateYDelta);
         }
+        if (effectFilter != null) {
+            effectFilter.invalidate();
+        }
     }
 
     /***************************************************************************
@@ -1347,7 +1356,7 @@ public abstract class NGNode {
      * 01 - node intersecting dirty region
      * 11 - node completely within dirty region
      *
-     * 32 bits = 15 regions max. * 2 bit each. The first two bits are not used
+     * 64 bits = 31 regions max. * 2 bit each. The first two bits are not used
      * because we have a special use case for -1, so they should only be set if
      * in that case.
      *
@@ -1358,7 +1367,7 @@ public abstract class NGNode {
      */
     void markCullRegions(
             DirtyRegionContainer drc,
-            int cullingRegionsBitsOfParent,
+            long cullingRegionsBitsOfParent,
             BaseTransform tx,
             GeneralTransform3D pvTx) {
 
@@ -1381,7 +1390,7 @@ public abstract class NGNode {
 
         cullingBits = 0;
         RectBounds region;
-        int mask = 0x1; // Check only for intersections
+        long mask = 0x1L; // Check only for intersections
         for(int i = 0; i < drc.size(); i++) {
             region = drc.getDirtyRegion(i);
             if (region == null || region.isEmpty()) {
@@ -1395,7 +1404,7 @@ public abstract class NGNode {
             // is wholly contained within the dirty region.
             if ((cullingRegionsBitsOfParent == -1 || (cullingRegionsBitsOfParent & mask) != 0) &&
                     region.intersects(TEMP_RECT_BOUNDS)) {
-                int b = DIRTY_REGION_INTERSECTS_NODE_BOUNDS;
+                long b = DIRTY_REGION_INTERSECTS_NODE_BOUNDS;
                 if (region.contains(TEMP_RECT_BOUNDS)) {
                     b = DIRTY_REGION_CONTAINS_NODE_BOUNDS;
                 }
@@ -1405,7 +1414,7 @@ public abstract class NGNode {
         }//for
 
 //        System.out.printf("%s bits: %s bounds: %s\n",
-//            this, Integer.toBinaryString(cullingBits), TEMP_RECT_BOUNDS);
+//            this, Long.toBinaryString(cullingBits), TEMP_RECT_BOUNDS);
     }
 
     /**
@@ -1457,9 +1466,9 @@ public abstract class NGNode {
         }
 
         if (node.cullingBits != 0) {
-            int mask = 0x11;
-            for (int i=0; i<15; i++) {
-                int bits = node.cullingBits & mask;
+            long mask = 0x11L;
+            for (int i=0; i<31; i++) {
+                long bits = node.cullingBits & mask;
                 if (bits != 0) {
                     stuff.add(bits == 1 ? "i" + i : bits == 0 ? "c" + i : "ci" + i);
                 }
@@ -1515,7 +1524,7 @@ public abstract class NGNode {
      */
     public void drawDirtyOpts(final BaseTransform tx, final GeneralTransform3D pvTx,
                               Rectangle clipBounds, int[] colorBuffer, int dirtyRegionIndex) {
-        if ((painted & (1 << (dirtyRegionIndex * 2))) != 0) {
+        if ((painted & (1L << (dirtyRegionIndex * 2))) != 0) {
             // Transforming the content bounds (which includes the clip) to screen coordinates
             tx.copy().deriveWithConcatenation(getTransform()).transform(contentBounds, TEMP_BOUNDS);
             if (pvTx != null) pvTx.transform(TEMP_BOUNDS, TEMP_BOUNDS);
@@ -1555,7 +1564,7 @@ public abstract class NGNode {
                     // as my counters).
                     if (color == 0) {
                         color = 0x8007F00;
-                    } else if ((painted & (3 << (dirtyRegionIndex * 2))) == 3) {
+                    } else if ((painted & (3L << (dirtyRegionIndex * 2))) == 3) {
                         switch (color) {
                             case 0x80007F00:
                                 color = 0x80008000;
@@ -1719,7 +1728,7 @@ public abstract class NGNode {
         // Nodes outside of the dirty region can be excluded immediately.
         // This can be used only if the culling information is provided.
         if (cullingIndex != -1) {
-            final int bits = cullingBits >> (cullingIndex * 2);
+            final long bits = cullingBits >> (cullingIndex * 2);
             if ((bits & DIRTY_REGION_CONTAINS_OR_INTERSECTS_NODE_BOUNDS) == 0x00) {
                 return RenderRootResult.NO_RENDER_ROOT;
             }
@@ -1988,7 +1997,7 @@ public abstract class NGNode {
         if (PrismSettings.dirtyOptsEnabled) {
             if (g.hasPreCullingBits()) {
                 //preculling bits available
-                final int bits = cullingBits >> (g.getClipRectIndex() * 2);
+                final long bits = cullingBits >> (g.getClipRectIndex() * 2);
                 if ((bits & DIRTY_REGION_CONTAINS_OR_INTERSECTS_NODE_BOUNDS) == 0) {
                     // If no culling bits are set for this region, this group
                     // does not intersect (nor is covered by) the region
@@ -2088,9 +2097,9 @@ public abstract class NGNode {
         // with our shaders or do something much more invasive to get better data here.
         if (PrismSettings.showOverdraw) {
             if (p) {
-                painted |= 3 << (g.getClipRectIndex() * 2);
+                painted |= 3L << (g.getClipRectIndex() * 2);
             } else {
-                painted |= 1 << (g.getClipRectIndex() * 2);
+                painted |= 1L << (g.getClipRectIndex() * 2);
             }
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -460,8 +460,7 @@ public class NGRegion extends NGGroup {
         final Screen screen = g.getAssociatedScreen();
         RegionImageCache cache = imageCacheMap.get(screen);
         if (cache != null) {
-            RTTexture tex = cache.getBackingStore();
-            if (tex.isSurfaceLost()) {
+            if (cache.isSurfaceLost()) {
                 imageCacheMap.remove(screen);
                 cache = null;
             }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -39,6 +39,7 @@ import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.scene.text.GlyphList;
 import com.sun.javafx.text.TextRun;
 import com.sun.prism.Graphics;
+import com.sun.prism.impl.GlyphPrefetcher;
 import com.sun.prism.paint.Color;
 
 public class NGText extends NGShape {
@@ -52,6 +53,42 @@ public class NGText extends NGShape {
     public void setGlyphs(Object[] glyphs) {
         this.runs = (GlyphList[])glyphs;
         geometryChanged();
+        prefetchGlyphs();
+    }
+
+    /**
+     * Starts rasterizing the glyphs on worker threads, while the scene
+     * graph is being synced. The glyphs are rasterized for the strike and
+     * transform that were used for the last rendering, which account for
+     * the render scale and transforms of the node, or the identity strike
+     * if the node has not been rendered with the current font yet. The
+     * glyph positions are computed as in {@link #renderText}, and snapped
+     * to pixels like {@link Graphics#drawString} does for translated text
+     * with a color paint.
+     */
+    private void prefetchGlyphs() {
+        if (runs == null || font == null || getMode() == Mode.STROKE || !GlyphPrefetcher.isEnabled()) {
+            return;
+        }
+        FontStrike strike = renderStrike;
+        BaseTransform xform = renderTransform;
+        if (strike == null || xform == null) {
+            strike = getStrike(IDENT);
+            xform = IDENT;
+        }
+        boolean snap = xform.isTranslateOrIdentity() && fillPaint instanceof Color;
+        for (GlyphList run : runs) {
+            Point2D pt = run.getLocation();
+            float x = pt.x - layoutX;
+            float y = pt.y - layoutY - run.getLineBounds().getMinY();
+            if (snap) {
+                x = Math.round(x + (float) xform.getMxt());
+                y = Math.round(y + (float) xform.getMyt());
+                GlyphPrefetcher.prefetch(strike, run, x, y, IDENT);
+            } else {
+                GlyphPrefetcher.prefetch(strike, run, x, y, xform);
+            }
+        }
     }
 
     private float layoutX, layoutY;
@@ -69,12 +106,14 @@ public class NGText extends NGShape {
         this.font = (PGFont)font;
         this.fontStrike = null;
         this.identityStrike = null;
+        this.renderStrike = null;
         geometryChanged();
     }
 
     private int fontSmoothingType;
     public void setFontSmoothingType(int fontSmoothingType) {
         this.fontSmoothingType = fontSmoothingType;
+        this.renderStrike = null;
         geometryChanged();
     }
 
@@ -118,6 +157,8 @@ public class NGText extends NGShape {
     private static double EPSILON = 0.01;
     private FontStrike fontStrike = null;
     private FontStrike identityStrike = null;
+    private FontStrike renderStrike = null;
+    private BaseTransform renderTransform = null;
     private double[] strikeMat = new double[4];
     private FontStrike getStrike(BaseTransform xform) {
         int smoothingType = fontSmoothingType;
@@ -234,6 +275,10 @@ public class NGText extends NGShape {
 
         BaseTransform tx = g.getTransformNoClone();
         FontStrike strike = getStrike(tx);
+        renderStrike = strike;
+        if (GlyphPrefetcher.isEnabled()) {
+            renderTransform = renderTransform == null ? tx.copy() : renderTransform.deriveWithNewTransform(tx);
+        }
 
         if (strike.getAAMode() == FontResource.AA_LCD ||
                 (fillPaint != null && fillPaint.isProportional()) ||
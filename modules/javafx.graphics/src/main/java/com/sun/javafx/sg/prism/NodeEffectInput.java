@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,6 +35,7 @@ import com.sun.prism.Graphics;
 import com.sun.scenario.effect.Effect;
 import com.sun.scenario.effect.FilterContext;
 import com.sun.scenario.effect.ImageData;
+import com.sun.scenario.effect.impl.EffectCache;
 import com.sun.scenario.effect.impl.prism.PrDrawable;
 import com.sun.scenario.effect.impl.prism.PrRenderInfo;
 
@@ -55,6 +56,8 @@ public final class NodeEffectInput extends Effect {
     private ImageData cachedTransformedImageData;
     private BaseTransform cachedTransform;
 
+    private EffectCache resultCache;
+
     public NodeEffectInput(NGNode node) {
         this(node, RenderType.EFFECT_CONTENT);
     }
@@ -75,6 +78,15 @@ public final class NodeEffectInput extends Effect {
         }
     }
 
+    public void setResultCache(EffectCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    @Override
+    public EffectCache getResultCache() {
+        return resultCache;
+    }
+
     static boolean contains(ImageData cachedImage, Rectangle imgbounds) {
         // We only cache ImageData objects with Identity transforms installed...
         Rectangle cachedBounds = cachedImage.getUntransformedBounds();
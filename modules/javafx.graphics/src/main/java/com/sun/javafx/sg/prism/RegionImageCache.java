@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,7 +26,11 @@
 package com.sun.javafx.sg.prism;
 
 import javafx.scene.layout.Background;
-import java.util.HashMap;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.Shape;
 import com.sun.javafx.logging.PulseLogger;
@@ -35,31 +39,82 @@ import com.sun.prism.Graphics;
 import com.sun.prism.RTTexture;
 import com.sun.prism.ResourceFactory;
 import com.sun.prism.Texture.WrapMode;
+import com.sun.prism.impl.PrismSettings;
 import com.sun.prism.impl.packrect.RectanglePacker;
 
 /**
- * RegionImageCache - A fixed pixel count sized cache of Images keyed by arbitrary set of arguments. All images are held with
- * SoftReferences so they will be dropped by the GC if heap memory gets tight. When our size hits max pixel count least
- * recently requested images are removed first.
+ * RegionImageCache - A cache of region background images keyed by an arbitrary set of arguments. The images are
+ * packed into one or more texture pages; pages are allocated on demand up to {@link PrismSettings#regionCachePages}.
+ * When all pages are full, the page holding the least recently used image is evicted as a whole and repacked from
+ * scratch, which also reclaims the space left over by images that no longer fit the shelves of that page.
  *
  */
-class RegionImageCache {
+public class RegionImageCache {
 
     // Maximum cached image size in pixels
     private final static int MAX_SIZE = 300 * 300;
     private static final int WIDTH = 1024;
     private static final int HEIGHT = 1024;
 
-    private HashMap<Integer, CachedImage> imageMap;
-    private RTTexture backingStore;
-    private RectanglePacker hPacker;
-    private RectanglePacker vPacker;
+    // Totals over the caches of all screens, reported by JFRRegionImageCacheEvent
+    private static long numHits;
+    private static long numMisses;
+    private static long numFlushes;
 
+    static {
+        // The event is loaded reflectively so that the cache does not
+        // depend on the jdk.jfr module being present
+        try {
+            Class<?> klass = Class.forName("com.sun.javafx.sg.prism.jfr.JFRRegionImageCacheEvent");
+            klass.getDeclaredMethod("register").invoke(null);
+        } catch (NoClassDefFoundError | ClassNotFoundException | NoSuchMethodException |
+                 IllegalAccessException | InvocationTargetException e) {
+            // Ignore
+        }
+    }
+
+    private final ResourceFactory factory;
+    private final WrapMode mode;
+    private final int pad;
+    private final int maxPages;
+
+    // Access ordered, so that the first entry is the least recently used image
+    private final LinkedHashMap<Integer, CachedImage> imageMap;
+    private final List<Page> pages;
+    private Page currentPage;
+
+    /**
+     * Returns the number of images found in the caches of all screens.
+     */
+    public static long getHits() {
+        return numHits;
+    }
+
+    /**
+     * Returns the number of images that were not found in the caches of all
+     * screens and had to be rendered.
+     */
+    public static long getMisses() {
+        return numMisses;
+    }
+
+    /**
+     * Returns the number of texture pages that were flushed by the caches of
+     * all screens.
+     */
+    public static long getFlushes() {
+        return numFlushes;
+    }
 
     RegionImageCache(final ResourceFactory factory) {
-        imageMap = new HashMap<>();
-        WrapMode mode;
-        int pad;
+        this(factory, PrismSettings.regionCachePages);
+    }
+
+    RegionImageCache(final ResourceFactory factory, int maxPages) {
+        this.factory = factory;
+        this.maxPages = Math.max(1, maxPages);
+        imageMap = new LinkedHashMap<>(64, 0.75f, true);
+        pages = new ArrayList<>(this.maxPages);
         if (factory.isWrapModeSupported(WrapMode.CLAMP_TO_ZERO)) {
             mode = WrapMode.CLAMP_TO_ZERO;
             pad = 0;
@@ -67,19 +122,10 @@ class RegionImageCache {
             mode = WrapMode.CLAMP_NOT_NEEDED;
             pad = 1;
         }
-        backingStore = factory.createRTTexture(WIDTH + WIDTH, HEIGHT, mode);
-        backingStore.contentsUseful();
-        backingStore.makePermanent();
-        factory.setRegionTexture(backingStore);
-        // Subdivide the texture in two halves where on half is used to store
-        // horizontal regions and the other vertical regions. Otherwise, mixing
-        // horizontal and vertical regions on the same area, would result in
-        // a lot of waste texture space.
-        // Note that requests are already padded on the right and bottom edges
-        // (and that includes the gap between the caches) so we only have to
-        // pad top and left edges if CLAMP_TO_ZERO needs to be simulated.
-        hPacker = new RectanglePacker(backingStore, pad, pad, WIDTH-pad, HEIGHT-pad, false);
-        vPacker = new RectanglePacker(backingStore, WIDTH, pad, WIDTH, HEIGHT-pad, true);
+        currentPage = new Page();
+        pages.add(currentPage);
+        // Only the first page can take the fast path in the super shader
+        factory.setRegionTexture(currentPage.backingStore);
     }
 
     /**
@@ -95,14 +141,32 @@ class RegionImageCache {
                (w * h) < MAX_SIZE;
     }
 
+    /**
+     * Returns the texture that holds the image found by the last call to
+     * {@link #getImageLocation}.
+     */
     RTTexture getBackingStore() {
-        return backingStore;
+        return currentPage.backingStore;
+    }
+
+    int getPageCount() {
+        return pages.size();
+    }
+
+    boolean isSurfaceLost() {
+        for (Page page : pages) {
+            if (page.backingStore.isSurfaceLost()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Search the cache for a background image representing the arguments.
      * When this method succeeds the x and y coordinates in rect are adjust
-     * to the location in the backing store when the image is stored.
+     * to the location in the backing store when the image is stored, and
+     * {@link #getBackingStore()} returns the texture of that backing store.
      * If a failure occurred the rect is set to empty to indicate the caller
      * to disable caching.
      *
@@ -111,7 +175,7 @@ class RegionImageCache {
      *        texture space. On ouput, the x and y the location in the texture
      * @param background the background used to validated if the correct image was found
      * @param shape the shape used to validated if the correct image was found
-     * @param g the graphics to flush if the texture needs to be restarted
+     * @param g the graphics to flush if a texture page needs to be restarted
      * @return true means to caller needs to render to rect to initialize the content.
      */
     boolean getImageLocation(Integer key, Rectangle rect, Background background,
@@ -121,6 +185,11 @@ class RegionImageCache {
             if (cache.equals(rect.width, rect.height, background, shape)) {
                 rect.x = cache.x;
                 rect.y = cache.y;
+                currentPage = cache.page;
+                numHits++;
+                if (PULSE_LOGGING_ENABLED) {
+                    PulseLogger.incrementCounter("Region image cache hit");
+                }
                 return false;
             }
             // hash collision, mark rectangle empty indicates the caller to
@@ -128,31 +197,90 @@ class RegionImageCache {
             rect.width = rect.height = -1;
             return false;
         }
-        boolean vertical = rect.height > 64;
-        RectanglePacker packer = vertical ? vPacker : hPacker;
+        numMisses++;
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Region image cache miss");
+        }
 
-        if (!packer.add(rect)) {
+        boolean vertical = rect.height > 64;
+        Page page = null;
+        for (Page p : pages) {
+            if (p.add(rect, vertical)) {
+                page = p;
+                break;
+            }
+        }
+        if (page == null && pages.size() < maxPages) {
+            page = new Page();
+            pages.add(page);
+            page.add(rect, vertical);
+        }
+        if (page == null) {
+            // All pages are full; restart the page that holds the least
+            // recently used image.
+            page = imageMap.values().iterator().next().page;
             g.sync();
+            evict(page);
+            page.add(rect, vertical);
+        }
+        currentPage = page;
+        imageMap.put(key, new CachedImage(page, rect, background, shape));
+        return true;
+    }
 
+    private void evict(Page page) {
+        Iterator<CachedImage> it = imageMap.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().page == page) {
+                it.remove();
+            }
+        }
+        page.clear();
+        numFlushes++;
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Region image cache flushed");
+        }
+    }
+
+    private final class Page {
+        final RTTexture backingStore;
+        final RectanglePacker hPacker;
+        final RectanglePacker vPacker;
+
+        Page() {
+            backingStore = factory.createRTTexture(WIDTH + WIDTH, HEIGHT, mode);
+            backingStore.contentsUseful();
+            backingStore.makePermanent();
+            // Subdivide the texture in two halves where on half is used to store
+            // horizontal regions and the other vertical regions. Otherwise, mixing
+            // horizontal and vertical regions on the same area, would result in
+            // a lot of waste texture space.
+            // Note that requests are already padded on the right and bottom edges
+            // (and that includes the gap between the caches) so we only have to
+            // pad top and left edges if CLAMP_TO_ZERO needs to be simulated.
+            hPacker = new RectanglePacker(backingStore, pad, pad, WIDTH-pad, HEIGHT-pad, false);
+            vPacker = new RectanglePacker(backingStore, WIDTH, pad, WIDTH, HEIGHT-pad, true);
+        }
+
+        boolean add(Rectangle rect, boolean vertical) {
+            return (vertical ? vPacker : hPacker).add(rect);
+        }
+
+        void clear() {
             vPacker.clear();
             hPacker.clear();
-            imageMap.clear();
-            packer.add(rect);
             backingStore.createGraphics().clear();
-            if (PULSE_LOGGING_ENABLED) {
-                PulseLogger.incrementCounter("Region image cache flushed");
-            }
         }
-        imageMap.put(key, new CachedImage(rect, background, shape));
-        return true;
     }
 
     static class CachedImage {
+        final Page page;
         Background background;
         Shape shape;
         int x, y, width, height;
 
-        CachedImage(Rectangle rect, Background background, Shape shape) {
+        CachedImage(Page page, Rectangle rect, Background background, Shape shape) {
+            this.page = page;
             this.x = rect.x;
             this.y = rect.y;
             this.width = rect.width;
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.sg.prism.jfr;
+
+import com.sun.javafx.sg.prism.RegionImageCache;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+@Name("javafx.RegionImageCache")
+@Label("JavaFX Region Image Cache")
+@Category("JavaFX")
+@Description("Statistics of the caches of rendered region backgrounds")
+@StackTrace(false)
+@Enabled(false)
+@Period("1 s")
+public final class JFRRegionImageCacheEvent extends Event {
+    @Label("Hits")
+    @Description("Number of region backgrounds that were found in the cache")
+    private long hits;
+
+    @Label("Misses")
+    @Description("Number of region backgrounds that were rendered into the cache")
+    private long misses;
+
+    @Label("Pages Flushed")
+    @Description("Number of texture pages that were flushed to make room for new backgrounds")
+    private long flushes;
+
+    /**
+     * Registers the event as a periodic event if the flight recorder is
+     * initialized. This is called reflectively by {@code RegionImageCache}.
+     */
+    public static void register() {
+        if (FlightRecorder.isInitialized()) {
+            FlightRecorder.addPeriodicEvent(JFRRegionImageCacheEvent.class, () -> {
+                JFRRegionImageCacheEvent event = new JFRRegionImageCacheEvent();
+                event.hits = RegionImageCache.getHits();
+                event.misses = RegionImageCache.getMisses();
+                event.flushes = RegionImageCache.getFlushes();
+                event.commit();
+            });
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.text.Bidi;
 import java.text.BreakIterator;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javafx.scene.layout.Region;
@@ -51,6 +52,7 @@ import com.sun.javafx.scene.text.TabAdvancePolicy;
 import com.sun.javafx.scene.text.TextLayout;
 import com.sun.javafx.scene.text.TextLine;
 import com.sun.javafx.scene.text.TextSpan;
+import com.sun.prism.impl.PrismSettings;
 
 /**
  * Prism TextLayout
@@ -81,6 +83,9 @@ public class PrismTextLayout implements TextLayout {
     private float layoutWidth, layoutHeight;
     private float wrapWidth, spacing;
     private LayoutCache layoutCache;
+    private HashMap<ShapeKey, ShapedRun> shapeCache;
+    private int shapeCacheThreshold = PrismSettings.textShapeCacheThreshold;
+    private int shapeGeneration;
     private Shape shape;
     private int flags;
     private TabAdvancePolicy tabAdvancePolicy;
@@ -91,6 +96,19 @@ public class PrismTextLayout implements TextLayout {
         flags = ALIGN_LEFT;
     }
 
+    /* Sets the minimum number of runs of a layout that keeps its shaped runs
+     * across content changes, so that only the runs of edited paragraphs are
+     * shaped again (0 = disabled). The default is prism.textShapeCacheThreshold.
+     * The cache is off by default as it roughly doubles the footprint of the
+     * shaped text: every cached run keeps a copy of its characters, glyph
+     * codes, positions and character indices (about 14 to 18 bytes per
+     * character plus a few hundred bytes per run) for as long as the layout
+     * lives. It only pays off for large, frequently edited rich text.
+     */
+    public void setShapeCacheThreshold(int threshold) {
+        shapeCacheThreshold = Math.max(0, threshold);
+    }
+
     private void reset() {
         layoutCache = null;
         runs = null;
@@ -892,6 +910,8 @@ public class PrismTextLayout implements TextLayout {
         if (run.isTab()) return;
         if (run.isLinebreak()) return;
         if (run.getGlyphCount() > 0) return;
+        boolean cache = shapeCache != null && (layoutCache == null || !layoutCache.valid);
+        if (cache && applyCachedShape(run, font, chars)) return;
         if (run.isComplex()) {
             /* Use GlyphLayout to shape complex text */
             layout.layout(run, font, strike, chars);
@@ -938,6 +958,108 @@ public class PrismTextLayout implements TextLayout {
                 run.shape(length, layoutCache.glyphs, layoutCache.advances);
             }
         }
+        if (cache) cacheShape(run, font, chars);
+    }
+
+    private boolean applyCachedShape(TextRun run, PGFont font, char[] chars) {
+        ShapeKey key = new ShapeKey(font, run, chars, run.getStart());
+        ShapedRun shaped = shapeCache.get(key);
+        if (shaped == null || shaped.compact != (layoutCache != null)) return false;
+        shaped.generation = shapeGeneration;
+        if (shaped.compact) {
+            int start = run.getStart();
+            int length = run.getLength();
+            System.arraycopy(shaped.glyphs, 0, layoutCache.glyphs, start, length);
+            System.arraycopy(shaped.positions, 0, layoutCache.advances, start, length);
+            run.setWidth(shaped.width);
+            run.shape(length, layoutCache.glyphs, layoutCache.advances);
+        } else {
+            /* The arrays are copied as justification modifies the positions */
+            run.shape(shaped.glyphCount, shaped.glyphs.clone(), shaped.positions.clone(),
+                      shaped.indices != null ? shaped.indices.clone() : null);
+        }
+        return true;
+    }
+
+    private void cacheShape(TextRun run, PGFont font, char[] chars) {
+        if (run.getGlyphCount() == 0) return;
+        int start = run.getStart();
+        int length = run.getLength();
+        ShapedRun shaped = new ShapedRun();
+        shaped.generation = shapeGeneration;
+        shaped.glyphCount = run.glyphCount;
+        if ((run.flags & TextRun.FLAGS_COMPACT) != 0) {
+            shaped.compact = true;
+            shaped.glyphs = Arrays.copyOfRange(run.gids, start, start + length);
+            shaped.positions = Arrays.copyOfRange(run.positions, start, start + length);
+            shaped.width = run.getWidth();
+        } else {
+            shaped.glyphs = run.gids.clone();
+            shaped.positions = run.positions.clone();
+            shaped.indices = run.charIndices != null ? run.charIndices.clone() : null;
+        }
+        char[] text = Arrays.copyOfRange(chars, start, start + length);
+        shapeCache.put(new ShapeKey(font, run, text, 0), shaped);
+    }
+
+    private static final class ShapedRun {
+        int generation;
+        boolean compact;
+        int glyphCount;
+        int[] glyphs;
+        float[] positions;
+        int[] indices;
+        float width;
+    }
+
+    /* Identifies the shaping of a run by its font, its characters and
+     * the bidi level, script and font slot it was analyzed with.
+     */
+    private static final class ShapeKey {
+        private final PGFont font;
+        private final char[] text;
+        private final int start, length;
+        private final byte level;
+        private final int script, slot;
+        private final boolean complex;
+        private final int hash;
+
+        ShapeKey(PGFont font, TextRun run, char[] text, int start) {
+            this.font = font;
+            this.text = text;
+            this.start = start;
+            this.length = run.getLength();
+            this.level = run.getLevel();
+            this.script = run.getScript();
+            this.slot = run.getSlot();
+            this.complex = run.isComplex();
+            int h = font.hashCode();
+            for (int i = start, end = start + length; i < end; i++) {
+                h = 31 * h + text[i];
+            }
+            h = 31 * h + level;
+            h = 31 * h + script;
+            this.hash = 31 * h + slot;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ShapeKey other
+                    && hash == other.hash
+                    && length == other.length
+                    && level == other.level
+                    && script == other.script
+                    && slot == other.slot
+                    && complex == other.complex
+                    && font.equals(other.font)
+                    && Arrays.equals(text, start, start + length,
+                                     other.text, other.start, other.start + length);
+        }
     }
 
     private PrismTextLine createLine(int start, int end, int startOffset, float collapsedSpaceWidth) {
@@ -1198,10 +1320,12 @@ public class PrismTextLayout implements TextLayout {
         char[] chars = getText();
 
         /* runs and runCount are set in reuseRuns or buildRuns */
+        boolean rebuild = false;
         if ((flags & FLAGS_ANALYSIS_VALID) != 0 && isSimpleLayout()) {
             reuseRuns();
         } else {
             buildRuns(chars);
+            rebuild = true;
         }
 
         GlyphLayout layout = null;
@@ -1239,6 +1363,18 @@ public class PrismTextLayout implements TextLayout {
             layoutCache = null;
         }
 
+        if (shapeCacheThreshold > 0 && runCount >= shapeCacheThreshold) {
+            if (shapeCache == null) {
+                shapeCache = new HashMap<>();
+            }
+            if (rebuild) {
+                shapeGeneration++;
+            }
+        } else {
+            shapeCache = null;
+            rebuild = false;
+        }
+
         float lineWidth = 0;
         int startIndex = 0;
         int startOffset = 0;
@@ -1386,6 +1522,12 @@ public class PrismTextLayout implements TextLayout {
         }
         if (layout != null) layout.dispose();
 
+        /* Drop the runs of paragraphs that were edited or removed */
+        if (rebuild) {
+            int generation = shapeGeneration;
+            shapeCache.values().removeIf(shaped -> shaped.generation != generation);
+        }
+
         linesList.add(createLine(startIndex, runCount - 1, startOffset, 0));
         lines = new PrismTextLine[linesList.size()];
         linesList.toArray(lines);
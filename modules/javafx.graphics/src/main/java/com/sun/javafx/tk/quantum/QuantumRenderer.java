@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -185,6 +185,16 @@ final class QuantumRenderer extends ThreadPoolExecutor  {
         }
     }
 
+    /*
+     * Trim the effect image pools on the render thread.  This method is
+     * called on idle pulses, when no further pulses are needed
+     */
+    protected void trimImagePools() {
+        if (!isShutdown()) {
+            submit(new RenderJob(Renderer::trimImagePools, null));
+        }
+    }
+
     protected void stopRenderer() {
         shutdown();
 
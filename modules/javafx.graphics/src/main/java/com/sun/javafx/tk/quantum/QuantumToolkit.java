@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -124,6 +124,7 @@ import com.sun.prism.ResourceFactory;
 import com.sun.prism.ResourceFactoryListener;
 import com.sun.prism.Texture.WrapMode;
 import com.sun.prism.impl.Disposer;
+import com.sun.prism.impl.GlyphPrefetcher;
 import com.sun.prism.impl.PrismSettings;
 import com.sun.scenario.DelayedRunnable;
 import com.sun.scenario.animation.AbstractPrimaryTimer;
@@ -521,6 +522,9 @@ public final class QuantumToolkit extends Toolkit {
             }
         } else if (!animationRunning.get() && !nextPulseRequested.get() && !pulseRunning.get()) {
             pauseTimer();
+            if (toolkitRunning.get() && !singleThreaded) {
+                renderer.trimImagePools();
+            }
         } else if (debug) {
             System.err.println("QT.postPulse#(" + System.nanoTime() + "): DROP : " + pulseString());
         }
@@ -588,6 +592,7 @@ public final class QuantumToolkit extends Toolkit {
                 return;
             }
             nextPulseRequested.set(false);
+            GlyphPrefetcher.nextGeneration();
             if (animationRunnable != null) {
                 animationRunning.set(true);
                 animationRunnable.run();
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * A lazily created {@link ForkJoinPool} of daemon worker threads, shared by
+ * the callers that split their work into parallel tasks, such as bands of
+ * an image or batches of glyphs.
+ */
+public final class WorkerPool {
+
+    private final String threadName;
+    private ForkJoinPool pool;
+
+    /**
+     * Creates a holder of a pool whose threads are named after
+     * {@code threadName} and their index in the pool.
+     *
+     * @param threadName the prefix of the names of the worker threads
+     */
+    public WorkerPool(String threadName) {
+        this.threadName = threadName;
+    }
+
+    /**
+     * Returns the pool, creating it if it does not exist yet or if it has
+     * a different parallelism. A pool with a different parallelism is not
+     * shut down, since other threads may still submit tasks to it; its idle
+     * workers time out.
+     *
+     * @param parallelism the number of worker threads
+     * @return the pool
+     */
+    public synchronized ForkJoinPool get(int parallelism) {
+        if (pool == null || pool.getParallelism() != parallelism) {
+            pool = new ForkJoinPool(parallelism, p -> {
+                final ForkJoinWorkerThread t =
+                        ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                t.setName(threadName + t.getPoolIndex());
+                t.setDaemon(true);
+                return t;
+            }, null, false);
+        }
+        return pool;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -131,6 +131,34 @@ public interface Graphics {
     public void drawRoundRect(float x, float y, float width, float height, float arcw, float arch);
     public void drawEllipse(float x, float y, float width, float height);
 
+    /**
+     * Fills a batch of rectangles with the current paint. The rectangles
+     * are stored as consecutive x, y, width and height values.
+     *
+     * @param coords the rectangle coordinates
+     * @param offset the index of the first rectangle coordinate
+     * @param count the number of rectangles
+     */
+    public default void fillRects(float[] coords, int offset, int count) {
+        for (int i = offset, end = offset + count * 4; i < end; i += 4) {
+            fillRect(coords[i], coords[i + 1], coords[i + 2], coords[i + 3]);
+        }
+    }
+
+    /**
+     * Draws a batch of lines with the current paint and stroke. The lines
+     * are stored as consecutive x1, y1, x2 and y2 values.
+     *
+     * @param coords the line coordinates
+     * @param offset the index of the first line coordinate
+     * @param count the number of lines
+     */
+    public default void drawLines(float[] coords, int offset, int count) {
+        for (int i = offset, end = offset + count * 4; i < end; i += 4) {
+            drawLine(coords[i], coords[i + 1], coords[i + 2], coords[i + 3]);
+        }
+    }
+
     /**
      * Set the node bounds for any node that would like to render objects of a
      * different size to self.
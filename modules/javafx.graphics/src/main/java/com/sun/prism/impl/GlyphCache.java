@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,6 +27,7 @@ package com.sun.prism.impl;
 
 import com.sun.javafx.font.CharToGlyphMapper;
 import com.sun.javafx.font.CompositeGlyphMapper;
+import com.sun.javafx.font.CompositeStrike;
 import com.sun.javafx.font.FontResource;
 import com.sun.javafx.font.FontStrike;
 import com.sun.javafx.font.Glyph;
@@ -81,6 +82,9 @@ public class GlyphCache {
 
     private boolean isLCDCache;
 
+    // The persistent masks of the strike, or of each slot of a composite strike
+    private GlyphMaskStore.Strike[] maskStores;
+
     /* Share a RectanglePacker and its associated texture cache
      * for all uses on a particular screen.
      */
@@ -113,6 +117,7 @@ public class GlyphCache {
             packer = new RectanglePacker(tex, WIDTH, HEIGHT);
             packerMap.put(context, packer);
         }
+        GlyphPrefetcher.activate();
     }
 
     public void render(BaseContext ctx, GlyphList gl, float x, float y,
@@ -254,13 +259,13 @@ public class GlyphCache {
 
         // Render the glyph and insert it in the cache
         GlyphData data = null;
-        Glyph glyph = strike.getGlyph(glyphCode);
-        if (glyph != null) {
-            byte[] glyphImage = glyph.getPixelData(subPixel);
-            if (glyphImage == null || glyphImage.length == 0) {
+        GlyphMaskStore.Mask mask = getMask(glyphCode, subPixel);
+        if (mask != null) {
+            byte[] glyphImage = mask.data;
+            if (glyphImage.length == 0) {
                 data = new GlyphData(0, 0, 0,
-                                     glyph.getPixelXAdvance(),
-                                     glyph.getPixelYAdvance(),
+                                     mask.xAdvance,
+                                     mask.yAdvance,
                                      null);
             } else {
                 // Rasterize the glyph
@@ -268,10 +273,10 @@ public class GlyphCache {
                 // in the glyph, even as an opaque type, it should save
                 // repeated work next time the glyph is used.
                 MaskData maskData = MaskData.create(glyphImage,
-                                                    glyph.getOriginX(),
-                                                    glyph.getOriginY(),
-                                                    glyph.getWidth(),
-                                                    glyph.getHeight());
+                                                    mask.originX,
+                                                    mask.originY,
+                                                    mask.width,
+                                                    mask.height);
 
                 // Make room for the rectangle on the backing store
                 int border = 1;
@@ -281,8 +286,8 @@ public class GlyphCache {
                 int originY = maskData.getOriginY();
                 Rectangle rect = new Rectangle(0, 0, rectW, rectH);
                 data = new GlyphData(originX, originY, border,
-                                     glyph.getPixelXAdvance(),
-                                     glyph.getPixelYAdvance(),
+                                     mask.xAdvance,
+                                     mask.yAdvance,
                                      rect);
 
                 if (!packer.add(rect)) {
@@ -343,6 +348,67 @@ public class GlyphCache {
         return data;
     }
 
+    /**
+     * Returns the mask of a glyph, either from the persistent glyph cache,
+     * from the glyph prefetcher or by rasterizing the glyph, or null if the
+     * strike has no such glyph.
+     */
+    private GlyphMaskStore.Mask getMask(int glyphCode, int subPixel) {
+        FontStrike slotStrike = strike;
+        int slot = 0;
+        int slotGlyphCode = glyphCode;
+        if (strike instanceof CompositeStrike compositeStrike) {
+            slot = compositeStrike.getStrikeSlotForGlyph(glyphCode);
+            slotStrike = compositeStrike.getStrikeSlot(slot);
+            slotGlyphCode &= CompositeGlyphMapper.GLYPHMASK;
+            if (slotStrike == null) {
+                return null;
+            }
+        }
+
+        GlyphMaskStore.Strike maskStore = getMaskStore(slot, slotStrike);
+        GlyphMaskStore.Mask mask = maskStore.get(slotGlyphCode, subPixel);
+        if (mask != null) {
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Font Glyph loaded from disk cache");
+            }
+            return mask;
+        }
+        if (GlyphPrefetcher.isEnabled()) {
+            mask = GlyphPrefetcher.take(slotStrike, slotGlyphCode, subPixel);
+        }
+        if (mask == null) {
+            // The strike may be in use by a glyph prefetch worker
+            synchronized (slotStrike) {
+                Glyph glyph = slotStrike.getGlyph(slotGlyphCode);
+                if (glyph == null) {
+                    return null;
+                }
+                mask = GlyphMaskStore.Mask.create(glyph, subPixel);
+            }
+        }
+        maskStore.put(slotGlyphCode, subPixel, mask);
+        return mask;
+    }
+
+    private GlyphMaskStore.Strike getMaskStore(int slot, FontStrike slotStrike) {
+        GlyphMaskStore store = GlyphMaskStore.getInstance();
+        if (store == null) {
+            return GlyphMaskStore.Strike.DISABLED;
+        }
+        if (maskStores == null || slot >= maskStores.length) {
+            GlyphMaskStore.Strike[] tmp = new GlyphMaskStore.Strike[slot + 1];
+            if (maskStores != null) {
+                System.arraycopy(maskStores, 0, tmp, 0, maskStores.length);
+            }
+            maskStores = tmp;
+        }
+        if (maskStores[slot] == null) {
+            maskStores[slot] = store.getStrike(slotStrike);
+        }
+        return maskStores[slot];
+    }
+
     static class GlyphData {
         // The following must be defined and used VERY precisely. This is
         // the offset from the upper-left corner of this rectangle (Java
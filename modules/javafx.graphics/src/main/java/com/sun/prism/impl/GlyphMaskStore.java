@@ -0,0 +1,491 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import com.sun.javafx.font.FontResource;
+import com.sun.javafx.font.FontStrike;
+import com.sun.javafx.font.Glyph;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.runtime.VersionInfo;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An on-disk cache of rasterized glyph masks.
+ * <p>
+ * The cache is enabled by setting the {@code prism.glyphCacheDir} system
+ * property to a writable directory. The masks of a font strike are stored in
+ * one file, keyed by the font file (path, size and modification time), the
+ * font name, the strike size, transform and antialiasing mode. The file is
+ * read when the strike is first rendered, and the masks found in it are
+ * uploaded to the glyph texture without rasterizing the glyphs again.
+ * Masks that were rasterized during the session are written back when the
+ * JVM exits.
+ * <p>
+ * The size of a strike file and the masks that are kept in memory until they
+ * are written are bounded. When the cache directory grows beyond its limit,
+ * the least recently used strike files are deleted.
+ * <p>
+ * Embedded fonts are not cached, since they are loaded from temporary files.
+ */
+final class GlyphMaskStore {
+
+    private static final int MAGIC = 0x4a464d31; // "JFM1"
+    private static final int HEADER_SIZE = 9 * 4;
+
+    // Default limits, see GlyphMaskStore(Path, long, long, long)
+    private static final long MAX_STRIKE_BYTES = 2L << 20;
+    private static final long MAX_ADDED_BYTES = 32L << 20;
+    private static final long MAX_DIR_BYTES = 64L << 20;
+
+    // Temporary files older than this were left behind by a JVM that did
+    // not finish writing them
+    private static final long TMP_FILE_AGE = 60 * 60 * 1000;
+
+    private static final GlyphMaskStore instance = create(PrismSettings.glyphCacheDir);
+
+    private final Path dir;
+    private final long maxStrikeBytes;
+    private final long maxAddedBytes;
+    private final long maxDirBytes;
+    private final Map<String, Strike> strikes = new HashMap<>();
+    private final AtomicLong addedBytes = new AtomicLong();
+
+    GlyphMaskStore(Path dir) {
+        this(dir, MAX_STRIKE_BYTES, MAX_ADDED_BYTES, MAX_DIR_BYTES);
+    }
+
+    /**
+     * Creates a store in the given directory.
+     *
+     * @param maxStrikeBytes the maximum size of a strike file
+     * @param maxAddedBytes the maximum size of the masks of all strikes that
+     *        were added and not written yet
+     * @param maxDirBytes the maximum size of all strike files
+     */
+    GlyphMaskStore(Path dir, long maxStrikeBytes, long maxAddedBytes, long maxDirBytes) {
+        this.dir = dir;
+        this.maxStrikeBytes = maxStrikeBytes;
+        this.maxAddedBytes = maxAddedBytes;
+        this.maxDirBytes = maxDirBytes;
+    }
+
+    private static GlyphMaskStore create(String dir) {
+        if (dir == null || dir.isEmpty()) {
+            return null;
+        }
+
+        final GlyphMaskStore store;
+        try {
+            store = new GlyphMaskStore(Files.createDirectories(Path.of(dir)));
+        } catch (InvalidPathException | IOException | SecurityException e) {
+            if (PrismSettings.verbose) {
+                System.err.println("Glyph cache disabled, cannot use directory \"" + dir + "\": " + e);
+            }
+            return null;
+        }
+        Thread writer = new Thread(() -> {
+            store.storeAll();
+            store.prune();
+        }, "Glyph Cache Writer");
+        Runtime.getRuntime().addShutdownHook(writer);
+        return store;
+    }
+
+    /**
+     * Returns the store, or null if the cache is disabled.
+     */
+    static GlyphMaskStore getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the masks of the given strike. The strike must not be a
+     * composite strike; the masks of a composite strike are looked up in
+     * the strike of each slot.
+     */
+    Strike getStrike(FontStrike strike) {
+        String key = getKey(strike);
+        return key != null ? getStrike(key) : Strike.DISABLED;
+    }
+
+    synchronized Strike getStrike(String key) {
+        return strikes.computeIfAbsent(key, k -> new Strike(this, dir.resolve(k + ".glyphs")));
+    }
+
+    synchronized void storeAll() {
+        for (Strike strike : strikes.values()) {
+            strike.store();
+        }
+    }
+
+    private boolean reserve(long bytes) {
+        if (addedBytes.addAndGet(bytes) > maxAddedBytes) {
+            addedBytes.addAndGet(-bytes);
+            return false;
+        }
+        return true;
+    }
+
+    private void release(long bytes) {
+        addedBytes.addAndGet(-bytes);
+    }
+
+    /**
+     * Deletes the least recently used strike files while the cache directory
+     * exceeds its size limit, and temporary files that were left behind.
+     * A strike file is used when it is written or read.
+     */
+    void prune() {
+        record Entry(Path file, long size, long lastModified) {}
+        List<Entry> files = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                if (!attrs.isRegularFile()) {
+                    continue;
+                }
+                long lastModified = attrs.lastModifiedTime().toMillis();
+                if (name.endsWith(".glyphs")) {
+                    files.add(new Entry(file, attrs.size(), lastModified));
+                } else if (name.startsWith("glyphs") && name.endsWith(".tmp") && now - lastModified > TMP_FILE_AGE) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            files.sort(Comparator.comparingLong(Entry::lastModified).reversed());
+            long size = 0;
+            for (Entry entry : files) {
+                size += entry.size();
+                if (size > maxDirBytes) {
+                    Files.deleteIfExists(entry.file());
+                }
+            }
+        } catch (IOException | SecurityException e) {
+            if (PrismSettings.verbose) {
+                System.err.println("Cannot prune glyph cache directory " + dir + ": " + e);
+            }
+        }
+    }
+
+    private static String getKey(FontStrike strike) {
+        FontResource font = strike.getFontResource();
+        String fileName = font.getFileName();
+        if (fileName == null || font.isEmbeddedFont()) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(Path.of(fileName), BasicFileAttributes.class);
+            BaseTransform tx = strike.getTransform();
+            ByteBuffer buf = ByteBuffer.allocate(8 * 8);
+            buf.putLong(attrs.size());
+            buf.putLong(attrs.lastModifiedTime().toMillis());
+            buf.putFloat(strike.getSize());
+            buf.putInt(strike.getAAMode());
+            buf.putDouble(tx.getMxx());
+            buf.putDouble(tx.getMxy());
+            buf.putDouble(tx.getMyx());
+            buf.putDouble(tx.getMyy());
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(VersionInfo.getRuntimeVersion().getBytes(StandardCharsets.UTF_8));
+            digest.update(fileName.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(font.getFullName()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(buf.array(), 0, buf.position());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (InvalidPathException | IOException | SecurityException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A rasterized glyph mask together with the glyph metrics that are
+     * needed to place it.
+     */
+    static final class Mask {
+        final int originX, originY, width, height;
+        final float xAdvance, yAdvance;
+        final byte[] data;
+
+        Mask(int originX, int originY, int width, int height,
+             float xAdvance, float yAdvance, byte[] data) {
+            this.originX = originX;
+            this.originY = originY;
+            this.width = width;
+            this.height = height;
+            this.xAdvance = xAdvance;
+            this.yAdvance = yAdvance;
+            this.data = data != null ? data : new byte[0];
+        }
+
+        /**
+         * Creates a mask from a glyph. This rasterizes the glyph if it has
+         * not been rasterized yet.
+         */
+        static Mask create(Glyph glyph, int subPixel) {
+            byte[] data = glyph.getPixelData(subPixel);
+            if (data == null || data.length == 0) {
+                return new Mask(0, 0, 0, 0, glyph.getPixelXAdvance(), glyph.getPixelYAdvance(), null);
+            }
+            return new Mask(glyph.getOriginX(), glyph.getOriginY(),
+                            glyph.getWidth(), glyph.getHeight(),
+                            glyph.getPixelXAdvance(), glyph.getPixelYAdvance(), data);
+        }
+    }
+
+    /**
+     * The masks of a single font strike.
+     */
+    static final class Strike {
+
+        static final Strike DISABLED = new Strike(null, null);
+
+        private final GlyphMaskStore store;
+        private final Path file;
+        private ByteBuffer data;
+        private Map<Long, Integer> offsets;
+        private final Map<Long, Mask> added = new LinkedHashMap<>();
+        private long size, addedSize;
+
+        private Strike(GlyphMaskStore store, Path file) {
+            this.store = store;
+            this.file = file;
+        }
+
+        private static long key(int glyphCode, int subPixel) {
+            return ((long) glyphCode << 32) | (subPixel & 0xffffffffL);
+        }
+
+        /**
+         * Returns the cached mask of the glyph at the given subpixel
+         * position, or null if the glyph has not been cached.
+         */
+        Mask get(int glyphCode, int subPixel) {
+            if (file == null) {
+                return null;
+            }
+            synchronized (this) {
+                if (offsets == null) {
+                    load();
+                }
+                long key = key(glyphCode, subPixel);
+                Integer offset = offsets.get(key);
+                if (offset != null) {
+                    return read(data, offset);
+                }
+                return added.get(key);
+            }
+        }
+
+        void put(int glyphCode, int subPixel, Mask mask) {
+            if (file == null) {
+                return;
+            }
+            synchronized (this) {
+                if (offsets == null) {
+                    load();
+                }
+                long key = key(glyphCode, subPixel);
+                if (offsets.containsKey(key) || added.containsKey(key)) {
+                    return;
+                }
+                if (!isValidSize(mask.width, mask.height, mask.data.length)) {
+                    return;
+                }
+                long bytes = HEADER_SIZE + mask.data.length;
+                if (size + bytes > store.maxStrikeBytes || !store.reserve(bytes)) {
+                    return;
+                }
+                added.put(key, mask);
+                size += bytes;
+                addedSize += bytes;
+            }
+        }
+
+        private void load() {
+            offsets = new HashMap<>();
+            size = 4;
+            if (!Files.isRegularFile(file)) {
+                return;
+            }
+            try {
+                // The file is read into memory rather than mapped, since it
+                // is replaced when the masks are written, which fails on
+                // some platforms while the file is mapped
+                if (Files.size(file) > store.maxStrikeBytes) {
+                    throw new IOException("Glyph cache file is too large");
+                }
+                ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file));
+                if (buf.getInt() != MAGIC) {
+                    throw new IOException("Not a glyph cache file");
+                }
+                Map<Long, Integer> map = new HashMap<>();
+                while (buf.hasRemaining()) {
+                    int offset = buf.position();
+                    long key = key(buf.getInt(), buf.getInt());
+                    buf.position(offset + 16);
+                    int width = buf.getInt();
+                    int height = buf.getInt();
+                    buf.position(offset + HEADER_SIZE - 4);
+                    int length = buf.getInt();
+                    if (length < 0 || length > buf.remaining()) {
+                        throw new IOException("Truncated glyph cache file");
+                    }
+                    // The masks are uploaded to a texture as they are, so
+                    // their size must match the number of pixels
+                    if (!isValidSize(width, height, length)) {
+                        throw new IOException("Invalid glyph mask size");
+                    }
+                    buf.position(buf.position() + length);
+                    map.put(key, offset);
+                }
+                data = buf;
+                offsets = map;
+                size = buf.capacity();
+                // mark the file as recently used
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (IOException | RuntimeException e) {
+                // The cache file is corrupt; it is overwritten with the
+                // masks of this session when the JVM exits.
+                if (PrismSettings.verbose) {
+                    System.err.println("Cannot load glyph cache file " + file + ": " + e);
+                }
+            }
+        }
+
+        private static boolean isValidSize(int width, int height, int length) {
+            return width >= 0 && height >= 0 && (long) width * height == length;
+        }
+
+        private static Mask read(ByteBuffer buf, int offset) {
+            try {
+                buf = buf.duplicate().position(offset + 8);
+                int originX = buf.getInt();
+                int originY = buf.getInt();
+                int width = buf.getInt();
+                int height = buf.getInt();
+                float xAdvance = buf.getFloat();
+                float yAdvance = buf.getFloat();
+                byte[] data = new byte[buf.getInt()];
+                buf.get(data);
+                return new Mask(originX, originY, width, height, xAdvance, yAdvance, data);
+            } catch (BufferUnderflowException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Writes the cached masks to disk if masks were added since the
+         * file was loaded.
+         */
+        void store() {
+            synchronized (this) {
+                if (file == null || added.isEmpty()) {
+                    return;
+                }
+                Path tmp = null;
+                try {
+                    // write to a temporary file first so that a concurrently
+                    // starting application never sees a partially written file
+                    tmp = Files.createTempFile(file.getParent(), "glyphs", ".tmp");
+                    try (DataOutputStream out = new DataOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                        out.writeInt(MAGIC);
+                        for (Map.Entry<Long, Integer> e : offsets.entrySet()) {
+                            Mask mask = read(data, e.getValue());
+                            if (mask != null) {
+                                write(out, e.getKey(), mask);
+                            }
+                        }
+                        for (Map.Entry<Long, Mask> e : added.entrySet()) {
+                            write(out, e.getKey(), e.getValue());
+                        }
+                    }
+                    try {
+                        Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    tmp = null;
+                    added.clear();
+                    store.release(addedSize);
+                    addedSize = 0;
+                    offsets = null;
+                    data = null;
+                } catch (IOException | SecurityException e) {
+                    if (PrismSettings.verbose) {
+                        System.err.println("Cannot write glyph cache file " + file + ": " + e);
+                    }
+                } finally {
+                    if (tmp != null) {
+                        try {
+                            Files.deleteIfExists(tmp);
+                        } catch (IOException | SecurityException ignored) {
+                        }
+                    }
+                }
+            }
+        }
+
+        private static void write(DataOutputStream out, long key, Mask mask) throws IOException {
+            out.writeInt((int) (key >>> 32));
+            out.writeInt((int) key);
+            out.writeInt(mask.originX);
+            out.writeInt(mask.originY);
+            out.writeInt(mask.width);
+            out.writeInt(mask.height);
+            out.writeFloat(mask.xAdvance);
+            out.writeFloat(mask.yAdvance);
+            out.writeInt(mask.data.length);
+            out.write(mask.data);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import com.sun.javafx.font.CharToGlyphMapper;
+import com.sun.javafx.font.CompositeGlyphMapper;
+import com.sun.javafx.font.CompositeStrike;
+import com.sun.javafx.font.FontStrike;
+import com.sun.javafx.font.Glyph;
+import com.sun.javafx.geom.Point2D;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.scene.text.GlyphList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.util.WorkerPool;
+
+/**
+ * Rasterizes glyph masks on worker threads ahead of rendering.
+ * <p>
+ * Text nodes hand their glyph runs to {@link #prefetch} when they are synced
+ * during the pulse. Glyphs that were not prefetched before are rasterized
+ * on a pool of {@link PrismSettings#glyphPrefetchThreads} threads, and the
+ * resulting masks are picked up by {@link GlyphCache} on the render thread,
+ * which then only needs to pack and upload them. A glyph that is rendered
+ * before its mask is ready is rasterized by the render thread as usual.
+ * <p>
+ * Masks that are not picked up within {@link #MAX_AGE} pulses, e.g. for text
+ * that is synced but culled, or rendered at a different position, are
+ * released by {@link #nextGeneration}, so they can be prefetched again later.
+ * <p>
+ * Glyphs and strikes are not thread-safe, so a strike is locked while one
+ * of its glyphs is created and rasterized, on any thread.
+ */
+public final class GlyphPrefetcher {
+
+    // Upper bound of masks waiting to be picked up by the render thread
+    private static final int MAX_PENDING = 4096;
+
+    // Number of pulses after which a mask that was not picked up by the
+    // render thread is released. The render thread finishes rendering a
+    // pulse before the next pulse is synced.
+    private static final int MAX_AGE = 2;
+
+    private static final Object PENDING = new Object();
+    private static final Object DONE = new Object();
+
+    // The masks of a strike do not reference the strike, so the masks of
+    // strikes that are no longer used are collected with the strike
+    private static final Map<FontStrike, Map<Long, Object>> strikes =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicInteger pendingCount = new AtomicInteger();
+
+    // Requested masks in the order of their generation. Only accessed on
+    // the FX thread, which syncs the text nodes and starts the pulses.
+    private static final ArrayDeque<Request> requests = new ArrayDeque<>();
+    private static int generation;
+
+    private record Request(Map<Long, Object> masks, long key, int generation) {}
+
+    // Set once the first GlyphCache is created, prefetching is of no use
+    // for pipelines that do not cache glyphs in a texture
+    private static volatile boolean active;
+
+    static int threads = PrismSettings.glyphPrefetchThreads;
+
+    private static final WorkerPool pool = new WorkerPool("GlyphRasterizer-");
+
+    private GlyphPrefetcher() {}
+
+    public static boolean isEnabled() {
+        return active && threads > 0;
+    }
+
+    static void activate() {
+        active = true;
+    }
+
+    static ForkJoinPool getPool() {
+        return pool.get(threads);
+    }
+
+    static int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    private static long key(int glyphCode, int subPixel) {
+        return ((long) glyphCode << 32) | (subPixel & 0xffffffffL);
+    }
+
+    private static Map<Long, Object> getMasks(FontStrike slotStrike) {
+        return strikes.computeIfAbsent(slotStrike, s -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Starts a new generation of requests. This is called by the FX thread
+     * at the start of every pulse, and releases the masks that were requested
+     * more than {@link #MAX_AGE} pulses ago, but were not picked up by the
+     * render thread.
+     */
+    public static void nextGeneration() {
+        generation++;
+        Request request;
+        while ((request = requests.peek()) != null && generation - request.generation() > MAX_AGE) {
+            requests.poll();
+            release(request.masks(), request.key());
+        }
+    }
+
+    private static void release(Map<Long, Object> masks, long key) {
+        while (true) {
+            Object value = masks.get(key);
+            if (value == null || value == DONE) {
+                // picked up by the render thread, or the glyph has no mask
+                return;
+            }
+            // the value changes from PENDING to a mask when a worker is done
+            if (masks.remove(key, value)) {
+                pendingCount.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Schedules the rasterization of the glyphs of the given run that have
+     * not been prefetched yet. The glyph positions are quantized in the same
+     * way as by {@link GlyphCache#render}, which receives the same arguments
+     * when the run is rendered.
+     *
+     * @param strike the strike that the run is expected to be rendered with
+     * @param run the glyph run
+     * @param x the x offset of the run
+     * @param y the y offset of the run
+     * @param xform the transform that the run is expected to be rendered with
+     */
+    public static void prefetch(FontStrike strike, GlyphList run, float x, float y, BaseTransform xform) {
+        if (!isEnabled() || strike.drawAsShapes() || run == null) {
+            return;
+        }
+
+        // Group the new glyphs by slot strike, so that each task locks a
+        // single strike
+        Map<FontStrike, List<Long>> tasks = null;
+        Point2D pt = new Point2D();
+        for (int gi = 0, len = run.getGlyphCount(); gi < len; gi++) {
+            int gc = run.getGlyphCode(gi);
+            if ((gc & CompositeGlyphMapper.GLYPHMASK) == CharToGlyphMapper.INVISIBLE_GLYPH_ID) {
+                continue;
+            }
+            if (pendingCount.get() >= MAX_PENDING) {
+                break;
+            }
+            FontStrike slotStrike = strike;
+            int slotGlyphCode = gc;
+            if (strike instanceof CompositeStrike compositeStrike) {
+                slotStrike = compositeStrike.getStrikeSlot(compositeStrike.getStrikeSlotForGlyph(gc));
+                slotGlyphCode = gc & CompositeGlyphMapper.GLYPHMASK;
+                if (slotStrike == null) {
+                    continue;
+                }
+            }
+            pt.setLocation(x + run.getPosX(gi), y + run.getPosY(gi));
+            xform.transform(pt, pt);
+            int subPixel = strike.getQuantizedPosition(pt);
+            long key = key(slotGlyphCode, subPixel);
+            Map<Long, Object> masks = getMasks(slotStrike);
+            if (masks.putIfAbsent(key, PENDING) != null) {
+                continue;
+            }
+            pendingCount.incrementAndGet();
+            requests.add(new Request(masks, key, generation));
+            if (tasks == null) {
+                tasks = new IdentityHashMap<>();
+            }
+            tasks.computeIfAbsent(slotStrike, s -> new ArrayList<>()).add(key);
+        }
+        if (tasks == null) {
+            return;
+        }
+
+        ForkJoinPool workers = getPool();
+        for (Map.Entry<FontStrike, List<Long>> e : tasks.entrySet()) {
+            FontStrike slotStrike = e.getKey();
+            List<Long> keys = e.getValue();
+            Map<Long, Object> masks = getMasks(slotStrike);
+            workers.execute(() -> rasterize(slotStrike, masks, keys));
+        }
+    }
+
+    private static void rasterize(FontStrike slotStrike, Map<Long, Object> masks, List<Long> keys) {
+        for (Long key : keys) {
+            if (masks.get(key) != PENDING) {
+                // already rasterized by the render thread, or released
+                continue;
+            }
+            GlyphMaskStore.Mask mask = null;
+            synchronized (slotStrike) {
+                Glyph glyph = slotStrike.getGlyph((int) (key >>> 32));
+                if (glyph != null) {
+                    mask = GlyphMaskStore.Mask.create(glyph, key.intValue());
+                }
+            }
+            if (mask != null) {
+                masks.replace(key, PENDING, mask);
+            } else if (masks.replace(key, PENDING, DONE)) {
+                pendingCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the prefetched mask of a glyph, or null if the glyph was not
+     * prefetched or its mask is not ready yet. This is called on the render
+     * thread; once it was called for a glyph, that glyph is not prefetched
+     * again.
+     */
+    static GlyphMaskStore.Mask take(FontStrike slotStrike, int glyphCode, int subPixel) {
+        Map<Long, Object> masks = strikes.get(slotStrike);
+        if (masks == null) {
+            return null;
+        }
+        Object value = masks.put(key(glyphCode, subPixel), DONE);
+        if (value instanceof GlyphMaskStore.Mask mask) {
+            pendingCount.decrementAndGet();
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Font Glyph prefetched");
+            }
+            return mask;
+        }
+        if (value == PENDING) {
+            // the render thread rasterizes the glyph itself
+            pendingCount.decrementAndGet();
+        } else if (value == null) {
+            // not requested, keep the map free of glyphs that were not prefetched
+            masks.remove(key(glyphCode, subPixel), DONE);
+        }
+        return null;
+    }
+}
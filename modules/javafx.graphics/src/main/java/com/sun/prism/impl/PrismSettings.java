@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -61,11 +61,14 @@ public final class PrismSettings {
     public static final boolean printRenderGraph;
     public static final int minRTTSize;
     public static final int dirtyRegionCount;
+    public static final int dirtyRegionMergeArea;
+    public static final int cullIndexThreshold;
     public static final boolean disableBadDriverWarning;
     public static final boolean forceGPU;
     public static final int maxTextureSize;
     public static final int primTextureSize;
     public static final boolean disableRegionCaching;
+    public static final int regionCachePages;
     public static final boolean forcePow2;
     public static final boolean noClampToZero;
     public static final boolean allowHiDPIScaling;
@@ -76,6 +79,9 @@ public final class PrismSettings {
     public static final boolean disableEffects;
     public static final int glyphCacheWidth;
     public static final int glyphCacheHeight;
+    public static final String glyphCacheDir;
+    public static final int glyphPrefetchThreads;
+    public static final int textShapeCacheThreshold;
     public static final String perfLog;
     public static final boolean perfLogExitFlush;
     public static final boolean perfLogFirstPaintFlush;
@@ -84,6 +90,7 @@ public final class PrismSettings {
     public static final boolean forceUploadingPainter;
     public static final boolean forceAlphaTestShader;
     public static final boolean forceNonAntialiasedShape;
+    public static final int swRasterThreads;
 
     public static enum RasterizerType {
         DoubleMarlin("Double Precision Marlin Rasterizer");
@@ -129,8 +136,16 @@ public final class PrismSettings {
                                                true);
 
         // The maximum number of dirty regions to use. The absolute max that we can
-        // support at present is 15.
-        dirtyRegionCount = Utils.clamp(0, getInt(systemProperties, "prism.dirtyregioncount", 6, null), 15);
+        // support at present is 31 (two culling bits per region in NGNode).
+        dirtyRegionCount = Utils.clamp(0, getInt(systemProperties, "prism.dirtyregioncount", 6, null), 31);
+
+        // The maximum clean area in square pixels added by merging two disjoint dirty regions
+        dirtyRegionMergeArea = Math.max(0, getInt(systemProperties, "prism.dirtyregionmergearea", 4096, null));
+
+        // Groups with at least this many children keep a spatial index of the
+        // bounds of their children, so that only the children that intersect a
+        // dirty region are culled and rendered. Set to 0 to disable the index.
+        cullIndexThreshold = Math.max(0, getInt(systemProperties, "prism.cullindexthreshold", 1024, null));
 
         // Scrolling cache optimization
         // Disabled as a workaround for JDK-8093860.
@@ -326,6 +341,12 @@ public final class PrismSettings {
                                           "prism.disableRegionCaching",
                                           false);
 
+        // The maximum number of texture pages used by the region image cache.
+        // Pages are allocated on demand, so the extra pages only cost memory
+        // in applications that would otherwise thrash a single page.
+        regionCachePages = Utils.clamp(1, getInt(systemProperties, "prism.regionCachePages", 4,
+                "Try -Dprism.regionCachePages=<number>"), 16);
+
         disableEffects = getBoolean(systemProperties, "prism.disableEffects", false);
 
         glyphCacheWidth = getInt(systemProperties, "prism.glyphCacheWidth", 1024,
@@ -333,6 +354,26 @@ public final class PrismSettings {
         glyphCacheHeight = getInt(systemProperties, "prism.glyphCacheHeight", 1024,
                 "Try -Dprism.glyphCacheHeight=<number>");
 
+        // Directory of the persistent cache of rasterized glyph masks,
+        // the cache is disabled if this is not set
+        glyphCacheDir = systemProperties.getProperty("prism.glyphCacheDir");
+
+        /*
+         * Number of worker threads that rasterize the glyphs of text nodes
+         * during the pulse, ahead of rendering (0 = disabled).
+         * The value "true" selects the number of available processors.
+         */
+        glyphPrefetchThreads = Utils.clamp(0, getInt(systemProperties, "prism.glyphPrefetchThreads", 0,
+                Runtime.getRuntime().availableProcessors(),
+                "Try -Dprism.glyphPrefetchThreads=<number>"), 64);
+
+        /*
+         * Text layouts with at least this many runs keep their shaped runs
+         * across content changes (0 = disabled).
+         */
+        textShapeCacheThreshold = Math.max(0, getInt(systemProperties, "prism.textShapeCacheThreshold", 0,
+                "Try -Dprism.textShapeCacheThreshold=<number>"));
+
         /*
          * Performance Logger flags
          * Enable the performance logger, print on exit, print on first paint etc.
@@ -356,6 +397,18 @@ public final class PrismSettings {
         // Force non anti-aliasing (not smooth) shape rendering
         forceNonAntialiasedShape = getBoolean(systemProperties, "prism.forceNonAntialiasedShape", false);
 
+        /*
+         * Number of worker threads used by the SW pipeline to rasterize
+         * large shapes in horizontal bands (1 = single-threaded).
+         * The value "true" selects the number of available processors.
+         */
+        swRasterThreads = Utils.clamp(1, getInt(systemProperties, "prism.sw.threads", 1,
+                Runtime.getRuntime().availableProcessors(),
+                "Try -Dprism.sw.threads=<number>"), 64);
+        if (verbose && swRasterThreads > 1) {
+            System.out.println("SW pipeline rasterizer threads: " + swRasterThreads);
+        }
+
     }
 
     private static int parseInt(String s, int dflt, int trueDflt,
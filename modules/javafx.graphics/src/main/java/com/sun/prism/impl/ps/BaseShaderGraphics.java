@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -1533,6 +1533,49 @@ public abstract class BaseShaderGraphics
                                  MaskType.FILL_PGRAM, null);
     }
 
+    @Override
+    public void fillRects(float[] coords, int offset, int count) {
+        if (isComplexPaint || !isAntialiasedShape() || PrismSettings.primTextureSize == 0) {
+            for (int i = offset, end = offset + count * 4; i < end; i += 4) {
+                fillRect(coords[i], coords[i + 1], coords[i + 2], coords[i + 3]);
+            }
+            return;
+        }
+        // Look up and lock the primitive textures once for the whole batch
+        // instead of once per rectangle. The textures are released before
+        // falling back to renderGeneralRoundedRect, which may itself need
+        // the texture cache, and locked again for the remaining rectangles.
+        Texture rTex = null;
+        Texture wTex = null;
+        try {
+            for (int i = offset, end = offset + count * 4; i < end; i += 4) {
+                float x = coords[i];
+                float y = coords[i + 1];
+                float w = coords[i + 2];
+                float h = coords[i + 3];
+                if (w <= 0 || h <= 0) {
+                    continue;
+                }
+                if (rTex == null) {
+                    rTex = context.getRectTexture();
+                    wTex = context.getWrapRectTexture();
+                }
+                if (!fillPrimRect(x, y, w, h, rTex, wTex, x, y, w, h)) {
+                    rTex.unlock();
+                    wTex.unlock();
+                    rTex = wTex = null;
+                    renderGeneralRoundedRect(x, y, w, h, 0f, 0f,
+                                             MaskType.FILL_PGRAM, null);
+                }
+            }
+        } finally {
+            if (rTex != null) {
+                rTex.unlock();
+                wTex.unlock();
+            }
+        }
+    }
+
     @Override
     public void fillEllipse(float x, float y, float w, float h) {
         if (w <= 0 || h <= 0) {
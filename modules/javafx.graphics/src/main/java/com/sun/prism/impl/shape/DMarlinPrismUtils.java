@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -240,6 +240,7 @@ public final class DMarlinPrismUtils {
             final BasicStroke stroke,
             final BaseTransform tx,
             final Rectangle clip,
+            final Rectangle pathClip,
             final int piRule,
             final MarlinRenderer renderer)
     {
@@ -254,13 +255,13 @@ public final class DMarlinPrismUtils {
             // add a small rounding error:
             final double margin = 1e-3d;
 
-            clipRect[0] = clip.y
+            clipRect[0] = pathClip.y
                             - margin + rdrOffY;
-            clipRect[1] = clip.y + clip.height
+            clipRect[1] = pathClip.y + pathClip.height
                             + margin + rdrOffY;
-            clipRect[2] = clip.x
+            clipRect[2] = pathClip.x
                             - margin + rdrOffX;
-            clipRect[3] = clip.x + clip.width
+            clipRect[3] = pathClip.x + pathClip.width
                             + margin + rdrOffX;
 
             if (MarlinConst.DO_LOG_CLIP) {
@@ -311,6 +312,26 @@ public final class DMarlinPrismUtils {
             final BaseTransform xform,
             final Rectangle rclip,
             final boolean antialiasedShape)
+    {
+        return setupRenderer(rdrCtx, shape, stroke, xform, rclip, rclip, antialiasedShape);
+    }
+
+    /**
+     * Sets up the renderer to produce the coverage of the shape within
+     * {@code rclip}, while the path is clipped to {@code pathClip}, which
+     * must contain {@code rclip}. Clipping the path changes how curves are
+     * subdivided, so renderers that produce adjacent parts of the same
+     * shape need to clip the path to the same rectangle to produce the
+     * same coverage along their common edge.
+     */
+    public static MarlinRenderer setupRenderer(
+            final RendererContext rdrCtx,
+            final Shape shape,
+            final BasicStroke stroke,
+            final BaseTransform xform,
+            final Rectangle rclip,
+            final Rectangle pathClip,
+            final boolean antialiasedShape)
     {
         // Test if transform is identity:
         final BaseTransform tf = ((xform != null) && !xform.isIdentity()) ? xform : null;
@@ -320,13 +341,13 @@ public final class DMarlinPrismUtils {
 
         if (shape instanceof Path2D) {
             final Path2D p2d = (Path2D)shape;
-            final DPathConsumer2D pc2d = initRenderer(rdrCtx, stroke, tf, rclip, p2d.getWindingRule(), r);
+            final DPathConsumer2D pc2d = initRenderer(rdrCtx, stroke, tf, rclip, pathClip, p2d.getWindingRule(), r);
             if (pc2d != null) {
                 feedConsumer(rdrCtx, p2d, tf, pc2d);
             }
         } else {
             final PathIterator pi = shape.getPathIterator(tf);
-            final DPathConsumer2D pc2d = initRenderer(rdrCtx, stroke, tf, rclip, pi.getWindingRule(), r);
+            final DPathConsumer2D pc2d = initRenderer(rdrCtx, stroke, tf, rclip, pathClip, pi.getWindingRule(), r);
             if (pc2d != null) {
                 feedConsumer(rdrCtx, pi, pc2d);
             }
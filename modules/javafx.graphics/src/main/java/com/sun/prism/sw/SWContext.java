@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,15 +26,18 @@
 package com.sun.prism.sw;
 
 import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.Shape;
 import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.util.WorkerPool;
 import com.sun.marlin.ArrayCacheIntClean;
 import com.sun.marlin.DMarlinRenderingEngine;
 import com.sun.marlin.RendererContext;
 import com.sun.marlin.MarlinAlphaConsumer;
 import com.sun.marlin.MarlinConst;
 import com.sun.marlin.MarlinRenderer;
+import com.sun.marlin.MaskMarlinAlphaConsumer;
 import com.sun.pisces.PiscesRenderer;
 import com.sun.prism.BasicStroke;
 import com.sun.prism.PixelFormat;
@@ -42,7 +45,13 @@ import com.sun.prism.ResourceFactory;
 import com.sun.prism.Texture;
 import com.sun.prism.impl.PrismSettings;
 import com.sun.prism.impl.shape.DMarlinPrismUtils;
+import com.sun.prism.impl.shape.MaskData;
 import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 final class SWContext {
 
@@ -194,12 +203,187 @@ final class SWContext {
         public void dispose() { }
     }
 
+    /**
+     * Shape renderer that splits large shapes into horizontal bands and
+     * rasterizes the coverage of each band on a worker thread. The resulting
+     * alpha masks are composited by the calling (render) thread, in band
+     * order, as the PiscesRenderer state cannot be shared between threads.
+     * Small shapes are handed over to the single-threaded renderer.
+     */
+    static final class ParallelDMarlinShapeRenderer implements ShapeRenderer {
+        // minimum number of pixel rows rasterized by a single worker
+        private static final int MIN_BAND_HEIGHT = 32;
+        // minimum device area (in pixels) worth splitting into bands
+        private static final int MIN_PARALLEL_AREA = 128 * 128;
+
+        private static final WorkerPool pool = new WorkerPool("SWRasterizer-");
+
+        private final DMarlinShapeRenderer sequentialRenderer = new DMarlinShapeRenderer();
+        private final int maxBands;
+        private final MaskMarlinAlphaConsumer[] consumers;
+        private final List<Callable<MaskData>> tasks;
+        private final float[] bbox = new float[4];
+        private final RectBounds devBounds = new RectBounds();
+        private final Rectangle bounds = new Rectangle();
+
+        ParallelDMarlinShapeRenderer(int threads) {
+            this.maxBands = threads;
+            this.consumers = new MaskMarlinAlphaConsumer[threads];
+            this.tasks = new ArrayList<>(threads);
+        }
+
+        @Override
+        public void renderShape(PiscesRenderer pr, Shape shape, BasicStroke stroke, BaseTransform tr, Rectangle clip, boolean antialiasedShape) {
+            if (stroke != null && stroke.getType() != BasicStroke.TYPE_CENTERED) {
+                // see DMarlinShapeRenderer
+                shape = stroke.createStrokedShape(shape);
+                stroke = null;
+            }
+            if (!computeBounds(shape, stroke, tr, clip)) {
+                return;
+            }
+            final int w = bounds.width;
+            final int h = bounds.height;
+            final int bands = Math.min(maxBands, h / MIN_BAND_HEIGHT);
+            if (bands < 2 || ((long) w * h) < MIN_PARALLEL_AREA) {
+                sequentialRenderer.renderShape(pr, shape, stroke, tr, clip, antialiasedShape);
+                return;
+            }
+
+            final List<MaskData> masks = rasterizeBands(bands, shape, stroke, tr, antialiasedShape);
+            if (masks == null) {
+                return;
+            }
+            for (MaskData mask : masks) {
+                if (mask != null) {
+                    final int mw = mask.getWidth();
+                    pr.fillAlphaMask(mask.getMaskBuffer().array(),
+                            mask.getOriginX(), mask.getOriginY(),
+                            mw, mask.getHeight(), 0, mw);
+                }
+            }
+        }
+
+        /**
+         * Computes the device bounds of the shape, including the
+         * anti-aliasing fringe, intersected with the clip. Returns false
+         * if the shape does not cover any pixel.
+         */
+        boolean computeBounds(Shape shape, BasicStroke stroke, BaseTransform tr, Rectangle clip) {
+            bbox[0] = bbox[1] = Float.POSITIVE_INFINITY;
+            bbox[2] = bbox[3] = Float.NEGATIVE_INFINITY;
+            if (stroke != null) {
+                stroke.accumulateShapeBounds(bbox, shape, tr);
+            } else {
+                Shape.accumulate(bbox, shape, tr);
+            }
+            if (!(bbox[0] <= bbox[2] && bbox[1] <= bbox[3])) {
+                return false;
+            }
+            devBounds.setBounds(bbox[0], bbox[1], bbox[2], bbox[3]);
+            bounds.setBounds(devBounds);
+            // allow for the anti-aliasing fringe
+            bounds.grow(1, 1);
+            if (clip != null) {
+                bounds.intersectWith(clip);
+            }
+            return bounds.width > 0 && bounds.height > 0;
+        }
+
+        /**
+         * Rasterizes the coverage of the shape within the bounds found by
+         * {@link #computeBounds} in the given number of horizontal bands,
+         * which must not be larger than the number of threads. Returns the
+         * masks of the bands in order, or null if the calling thread was
+         * interrupted. The masks are only valid until the next call.
+         */
+        List<MaskData> rasterizeBands(int bands, Shape shape, BasicStroke stroke, BaseTransform tr, boolean antialiasedShape) {
+            final int h = bounds.height;
+            // every band clips the path to the same rectangle, so that
+            // curves are subdivided the same way as in a single pass
+            final Rectangle pathClip = new Rectangle(bounds);
+            tasks.clear();
+            for (int i = 0; i < bands; i++) {
+                final int band = i;
+                final int y0 = bounds.y + (int) (((long) h * i) / bands);
+                final int y1 = bounds.y + (int) (((long) h * (i + 1)) / bands);
+                final Rectangle bandClip = new Rectangle(bounds.x, y0, bounds.width, y1 - y0);
+                tasks.add(() -> rasterizeBand(band, shape, stroke, tr, bandClip, pathClip, antialiasedShape));
+            }
+
+            final List<Future<MaskData>> results = pool.get(maxBands).invokeAll(tasks);
+            tasks.clear();
+            // invokeAll waits for all bands, so no worker touches the
+            // consumers while the masks are composited
+            final List<MaskData> masks = new ArrayList<>(bands);
+            for (Future<MaskData> result : results) {
+                try {
+                    masks.add(result.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                } catch (ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException re) {
+                        throw re;
+                    }
+                    if (cause instanceof Error err) {
+                        throw err;
+                    }
+                    throw new IllegalStateException(cause);
+                }
+            }
+            return masks;
+        }
+
+        MaskData rasterizeBand(int band, Shape shape, BasicStroke stroke, BaseTransform tr, Rectangle bandClip, Rectangle pathClip, boolean antialiasedShape) {
+            final RendererContext rdrCtx = DMarlinRenderingEngine.getRendererContext();
+            MarlinRenderer renderer = null;
+            try {
+                renderer = DMarlinPrismUtils.setupRenderer(rdrCtx, shape, stroke, tr, bandClip, pathClip,
+                        antialiasedShape);
+                final int outpix_xmin = renderer.getOutpixMinX();
+                final int outpix_xmax = renderer.getOutpixMaxX();
+                final int outpix_ymin = renderer.getOutpixMinY();
+                final int outpix_ymax = renderer.getOutpixMaxY();
+                final int w = outpix_xmax - outpix_xmin;
+                final int h = outpix_ymax - outpix_ymin;
+                if ((w <= 0) || (h <= 0)) {
+                    return null;
+                }
+                MaskMarlinAlphaConsumer consumer = consumers[band];
+                if (consumer == null || (w * h) > consumer.getAlphaLength()) {
+                    final int csize = (w * h + 0xfff) & (~0xfff);
+                    consumers[band] = consumer = new MaskMarlinAlphaConsumer(csize);
+                }
+                consumer.setBoundsNoClone(outpix_xmin, outpix_ymin, w, h);
+                renderer.produceAlphas(consumer);
+                return consumer.getMaskData();
+            } finally {
+                if (renderer != null) {
+                    renderer.dispose();
+                }
+                // recycle the RendererContext instance
+                DMarlinRenderingEngine.returnRendererContext(rdrCtx);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            sequentialRenderer.dispose();
+        }
+    }
+
     SWContext(ResourceFactory factory) {
         this.factory = factory;
         switch (PrismSettings.rasterizerSpec) {
             default:
             case DoubleMarlin:
-                this.shapeRenderer = new DMarlinShapeRenderer();
+                if (PrismSettings.swRasterThreads > 1) {
+                    this.shapeRenderer = new ParallelDMarlinShapeRenderer(PrismSettings.swRasterThreads);
+                } else {
+                    this.shapeRenderer = new DMarlinShapeRenderer();
+                }
                 break;
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -509,6 +509,32 @@ final class SWGraphics implements ReadbackGraphics {
         }
     }
 
+    @Override
+    public void fillRects(float[] coords, int offset, int count) {
+        if (PrismSettings.debug) {
+            System.out.println("+ SWG.fillRects, count: " + count);
+        }
+        if (this.paint.getType() != Paint.Type.COLOR || tx.getMxy() != 0 || tx.getMyx() != 0) {
+            ReadbackGraphics.super.fillRects(coords, offset, count);
+            return;
+        }
+        // A solid color does not depend on the bounds of the shape, so the
+        // paint is set once for the whole batch.
+        swPaint.setPaintFromShape(this.paint, this.tx, null, this.nodeBounds, 0, 0, 0, 0);
+        final Point2D p1 = new Point2D();
+        final Point2D p2 = new Point2D();
+        for (int i = offset, end = offset + count * 4; i < end; i += 4) {
+            final float x = coords[i];
+            final float y = coords[i + 1];
+            p1.setLocation(x, y);
+            p2.setLocation(x + coords[i + 2], y + coords[i + 3]);
+            tx.transform(p1, p1);
+            tx.transform(p2, p2);
+            this.pr.fillRect((int)(Math.min(p1.x, p2.x) * SWUtils.TO_PISCES), (int)(Math.min(p1.y, p2.y) * SWUtils.TO_PISCES),
+                    (int)(Math.abs(p2.x - p1.x) * SWUtils.TO_PISCES), (int)(Math.abs(p2.y - p1.y) * SWUtils.TO_PISCES));
+        }
+    }
+
     @Override
     public void fillRoundRect(float x, float y, float width, float height,
                               float arcw, float arch) {
@@ -597,6 +623,30 @@ final class SWGraphics implements ReadbackGraphics {
         paintShape(this.line2d, this.stroke, this.tx);
     }
 
+    @Override
+    public void drawLines(float[] coords, int offset, int count) {
+        if (PrismSettings.debug) {
+            System.out.println("+ drawLines, count: " + count);
+        }
+        if (this.paint.getType() != Paint.Type.COLOR) {
+            ReadbackGraphics.super.drawLines(coords, offset, count);
+            return;
+        }
+        if (this.finalClip.isEmpty()) {
+            return;
+        }
+        if (line2d == null) {
+            line2d = new Line2D();
+        }
+        // A solid color does not depend on the bounds of the shape, so the
+        // paint is set once for the whole batch.
+        swPaint.setPaintFromShape(this.paint, this.tx, null, this.nodeBounds, 0, 0, 0, 0);
+        for (int i = offset, end = offset + count * 4; i < end; i += 4) {
+            line2d.setLine(coords[i], coords[i + 1], coords[i + 2], coords[i + 3]);
+            paintShapePaintAlreadySet(this.line2d, this.stroke, this.tx);
+        }
+    }
+
     @Override
     public void drawRect(float x, float y, float width, float height) {
         if (PrismSettings.debug) {
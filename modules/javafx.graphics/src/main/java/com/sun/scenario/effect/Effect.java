@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,7 @@ package com.sun.scenario.effect;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import com.sun.scenario.effect.impl.EffectCache;
 import com.sun.scenario.effect.impl.Renderer;
 import com.sun.scenario.effect.impl.state.AccessHelper;
 import com.sun.javafx.geom.Point2D;
@@ -492,6 +493,18 @@ public abstract class Effect {
         Renderer.getRenderer(fctx).releaseCompatibleImage(image);
     }
 
+    /**
+     * Returns the cache for the results of the effects that use this
+     * {@code Effect} as their default input, or {@code null} if their
+     * results are not cached. The owner of the cache is responsible for
+     * invalidating it whenever this input or any of those effects change.
+     *
+     * @return the result cache, or {@code null}
+     */
+    public EffectCache getResultCache() {
+        return null;
+    }
+
     /**
      * Whether an opacity for any pixel is different (lower)
      * than the corresponding pixel in the default input.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,6 +31,7 @@ import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.NoninvertibleTransformException;
+import com.sun.scenario.effect.impl.EffectCache;
 import com.sun.scenario.effect.impl.state.RenderState;
 
 /**
@@ -167,6 +168,13 @@ public abstract class FilterEffect<T extends RenderState> extends Effect {
                             Object renderHelper,
                             Effect defaultInput)
     {
+        EffectCache cache = (defaultInput != null) ? defaultInput.getResultCache() : null;
+        if (cache != null) {
+            ImageData cached = cache.get(this, fctx, transform, outputClip);
+            if (cached != null) {
+                return cached;
+            }
+        }
         T rstate = getRenderState(fctx, transform, outputClip,
                                   renderHelper, defaultInput);
         int numinputs = getNumInputs();
@@ -179,6 +187,9 @@ public abstract class FilterEffect<T extends RenderState> extends Effect {
         } else {
             filterClip = untransformClip(resulttx, outputClip);
         }
+        if (cache != null) {
+            cache.beginInputs();
+        }
         for (int i = 0; i < numinputs; i++) {
             Effect input = getDefaultedInput(i, defaultInput);
             inputDatas[i] =
@@ -189,9 +200,15 @@ public abstract class FilterEffect<T extends RenderState> extends Effect {
                 for (int j = 0; j <= i; j++) {
                     inputDatas[j].unref();
                 }
+                if (cache != null) {
+                    cache.endInputs();
+                }
                 return new ImageData(fctx, null, null);
             }
         }
+        if (cache != null) {
+            cache.endInputs();
+        }
         ImageData ret = filterImageDatas(fctx, inputtx, filterClip, rstate, inputDatas);
         for (int i = 0; i < numinputs; i++) {
             inputDatas[i].unref();
@@ -205,6 +222,8 @@ public abstract class FilterEffect<T extends RenderState> extends Effect {
             } else {
                 ret = ret.transform(resulttx);
             }
+        } else if (cache != null) {
+            cache.put(this, fctx, transform, outputClip, defaultInput, ret);
         }
         return ret;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -102,6 +102,25 @@ public class ImageData {
         return new ImageData(this, newtx, bounds);
     }
 
+    /**
+     * Returns an {@code ImageData} that shares the image of this object,
+     * but whose bounds are translated by the given number of pixels.
+     * As with {@link #transform(BaseTransform)}, the reference to this
+     * object held by the caller is passed on to the returned object.
+     *
+     * @param dx the horizontal translation in pixels
+     * @param dy the vertical translation in pixels
+     * @return the translated {@code ImageData}
+     */
+    public ImageData translate(int dx, int dy) {
+        if (dx == 0 && dy == 0) {
+            return this;
+        }
+        Rectangle r = new Rectangle(bounds);
+        r.translate(dx, dy);
+        return new ImageData(this, transform, r);
+    }
+
     private ImageData(ImageData original, BaseTransform transform,
                       Rectangle bounds)
     {
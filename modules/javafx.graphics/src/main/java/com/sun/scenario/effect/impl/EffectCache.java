@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.scenario.effect.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.scenario.effect.Effect;
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.Filterable;
+import com.sun.scenario.effect.ImageData;
+
+/**
+ * A cache of the results of the effects that are applied to a single
+ * default input, such as the content of a node.
+ * <p>
+ * A result is reused when its effect is filtered again under a transform
+ * that differs from the cached one only by a translation of whole pixels,
+ * as long as the cached result covers the new output clip. The owner of the
+ * cache must {@link #invalidate() invalidate} it whenever the input or the
+ * parameters of the cached effects change, and {@link #unlock() unlock} it
+ * after each frame. Only the outermost effect of a chain is cached; the
+ * results of its inputs are not.
+ * <p>
+ * The cached images stay checked out of the {@link ImagePool} of their
+ * renderer, which evicts the least recently used results of all caches
+ * when they exceed its budget.
+ */
+public final class EffectCache {
+
+    private final Map<Effect, Entry> entries = new HashMap<>(4);
+    private int inputDepth;
+
+    private final class Entry implements ImagePool.CacheEntry {
+        final Effect effect;
+        final FilterContext fctx;
+        final BaseTransform transform;
+        // the output clip of the cached result, or null if it was not clipped
+        final Rectangle clip;
+        // the unclipped bounds of the result
+        final Rectangle bounds;
+        final ImageData result;
+        final ImagePool pool;
+        boolean locked = true;
+
+        Entry(Effect effect, FilterContext fctx, BaseTransform transform,
+              Rectangle clip, Rectangle bounds, ImageData result, ImagePool pool)
+        {
+            this.effect = effect;
+            this.fctx = fctx;
+            this.transform = transform;
+            this.clip = clip;
+            this.bounds = bounds;
+            this.result = result;
+            this.pool = pool;
+        }
+
+        Filterable getImage() {
+            return result.getUntransformedImage();
+        }
+
+        void release() {
+            // While we hold on to the result between frames its image is
+            // unlocked so that it can be reclaimed, but unref() assumes it
+            // is locked.
+            if (!locked) {
+                getImage().lock();
+            }
+            result.unref();
+        }
+
+        @Override
+        public void evict() {
+            if (entries.get(effect) == this) {
+                entries.remove(effect);
+            }
+            release();
+        }
+    }
+
+    /**
+     * Returns the cached result of an effect, translated to the given
+     * transform, or {@code null} if there is no usable result.
+     *
+     * @param effect the effect
+     * @param fctx the filter context of the operation
+     * @param transform the transform of the operation
+     * @param outputClip the output clip of the operation, or {@code null}
+     * @return the result, which must be released with {@code unref()},
+     *         or {@code null}
+     */
+    public ImageData get(Effect effect, FilterContext fctx,
+                         BaseTransform transform, Rectangle outputClip)
+    {
+        Entry entry = entries.get(effect);
+        if (entry == null) {
+            return null;
+        }
+        BaseTransform tx = entry.transform;
+        double dx = transform.getMxt() - tx.getMxt();
+        double dy = transform.getMyt() - tx.getMyt();
+        if (!entry.fctx.equals(fctx) || !transform.is2D() ||
+            transform.getMxx() != tx.getMxx() || transform.getMxy() != tx.getMxy() ||
+            transform.getMyx() != tx.getMyx() || transform.getMyy() != tx.getMyy() ||
+            dx != Math.rint(dx) || dy != Math.rint(dy))
+        {
+            remove(entry);
+            return null;
+        }
+        int idx = (int) dx;
+        int idy = (int) dy;
+        if (entry.clip != null) {
+            Rectangle needed = new Rectangle(entry.bounds);
+            needed.translate(idx, idy);
+            needed.intersectWith(outputClip);
+            Rectangle valid = new Rectangle(entry.clip);
+            valid.translate(idx, idy);
+            if (!needed.isEmpty() && !valid.contains(needed)) {
+                remove(entry);
+                return null;
+            }
+        }
+        if (!entry.locked) {
+            entry.getImage().lock();
+            entry.locked = true;
+        }
+        if (!entry.result.validate(fctx)) {
+            remove(entry);
+            return null;
+        }
+        entry.pool.touchCacheEntry(entry);
+        entry.result.addref();
+        return entry.result.translate(idx, idy);
+    }
+
+    /**
+     * Caches the result of an effect. The result is not cached if it was
+     * computed for the input of another effect, if it is transformed, or
+     * if its image is not pooled.
+     *
+     * @param effect the effect
+     * @param fctx the filter context of the operation
+     * @param transform the transform of the operation
+     * @param outputClip the output clip of the operation, or {@code null}
+     * @param defaultInput the default input of the operation
+     * @param result the result of the operation
+     */
+    public void put(Effect effect, FilterContext fctx,
+                    BaseTransform transform, Rectangle outputClip,
+                    Effect defaultInput, ImageData result)
+    {
+        Entry old = entries.get(effect);
+        if (old != null) {
+            remove(old);
+        }
+        if (inputDepth > 0 || !transform.is2D() ||
+            !result.getTransform().isIdentity() ||
+            !(result.getUntransformedImage() instanceof PoolFilterable img) ||
+            img.getImagePool() == null)
+        {
+            return;
+        }
+        for (Entry e : entries.values()) {
+            if (e.getImage() == img) {
+                // the lock of an image must only be tracked by one entry
+                return;
+            }
+        }
+        Rectangle bounds = new Rectangle(effect.getBounds(transform, defaultInput));
+        Rectangle clip = null;
+        if (outputClip != null && !outputClip.contains(bounds)) {
+            clip = new Rectangle(outputClip);
+        }
+        Entry entry = new Entry(effect, fctx, transform.copy(), clip, bounds,
+                                result, img.getImagePool());
+        long pixels = ((long) img.getPhysicalWidth()) * img.getPhysicalHeight();
+        if (entry.pool.addCacheEntry(entry, pixels)) {
+            result.addref();
+            entries.put(effect, entry);
+        }
+    }
+
+    /**
+     * Marks the start of the filtering of the inputs of an effect, whose
+     * results are not cached.
+     */
+    public void beginInputs() {
+        inputDepth++;
+    }
+
+    /**
+     * Marks the end of the filtering of the inputs of an effect.
+     */
+    public void endInputs() {
+        inputDepth--;
+    }
+
+    /**
+     * Unlocks the images of the cached results at the end of a frame, so
+     * that they can be reclaimed if memory is low.
+     */
+    public void unlock() {
+        for (Entry entry : entries.values()) {
+            if (entry.locked) {
+                entry.getImage().unlock();
+                entry.locked = false;
+            }
+        }
+    }
+
+    /**
+     * Releases all cached results.
+     */
+    public void invalidate() {
+        if (!entries.isEmpty()) {
+            for (Entry entry : new ArrayList<>(entries.values())) {
+                remove(entry);
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.effect);
+        entry.pool.removeCacheEntry(entry);
+        entry.release();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,17 +25,27 @@
 
 package com.sun.scenario.effect.impl;
 
-import java.lang.ref.SoftReference;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import com.sun.scenario.effect.Filterable;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * A simple object pool used to recycle temporary images used by the
  * various {@code EffectPeer} implementations.  Image allocation can be
  * a fairly expensive operation (in terms of footprint and performance),
  * especially for the GPU backends, so image reuse is critical.
+ * <p>
+ * Images are allocated in a small number of size classes, and unused
+ * images are kept in buckets by size class so that a fitting image is
+ * found in constant time.  The unused images of a pool are bounded by
+ * a byte budget ({@code decora.maxPoolBytes}); when it is exceeded, and
+ * on idle pulses, the least recently used images are flushed.
  */
 public class ImagePool {
 
@@ -44,6 +54,13 @@ public class ImagePool {
     static long pixelsCreated;
     static long numAccessed;
     static long pixelsAccessed;
+    static long numReused;
+    static long numTrimmed;
+    static long bytesTrimmed;
+    static long bytesPooled;
+    static long numCached;
+    static long numCacheHits;
+    static long numCacheEvictions;
 
     static {
         if (System.getProperty("decora.showstats") != null) {
@@ -53,6 +70,15 @@ public class ImagePool {
                 }
             });
         }
+        // The event is loaded reflectively so that the pool does not
+        // depend on the jdk.jfr module being present
+        try {
+            Class<?> klass = Class.forName("com.sun.scenario.effect.impl.jfr.JFRImagePoolEvent");
+            klass.getDeclaredMethod("register").invoke(null);
+        } catch (NoClassDefFoundError | ClassNotFoundException | NoSuchMethodException |
+                 IllegalAccessException | InvocationTargetException e) {
+            // Ignore
+        }
     }
 
     static void printStats() {
@@ -61,20 +87,129 @@ public class ImagePool {
         System.out.println("pixels created:    " + pixelsCreated);
         System.out.println("images accessed:   " + numAccessed);
         System.out.println("pixels accessed:   " + pixelsAccessed);
+        System.out.println("images reused:     " + numReused);
+        System.out.println("images trimmed:    " + numTrimmed);
+        System.out.println("bytes trimmed:     " + bytesTrimmed);
+        System.out.println("bytes pooled:      " + bytesPooled);
         if (numEffects != 0) {
             double avgImgs = ((double) numAccessed) / numEffects;
             double avgPxls = ((double) pixelsAccessed) / numEffects;
             System.out.println("images per effect: " + avgImgs);
             System.out.println("pixels per effect: " + avgPxls);
         }
+        System.out.println("results cached:    " + numCached);
+        System.out.println("result cache hits: " + numCacheHits);
+        System.out.println("results evicted:   " + numCacheEvictions);
+    }
+
+    /**
+     * Returns the number of images created by all pools.
+     */
+    public static long getImagesCreated() {
+        return numCreated;
+    }
+
+    /**
+     * Returns the number of bytes of the images created by all pools.
+     */
+    public static long getBytesCreated() {
+        return pixelsCreated * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * Returns the number of checked out images that were reused by all pools.
+     */
+    public static long getImagesReused() {
+        return numReused;
+    }
+
+    /**
+     * Returns the number of unused images flushed by all pools.
+     */
+    public static long getImagesTrimmed() {
+        return numTrimmed;
+    }
+
+    /**
+     * Returns the number of bytes of the unused images flushed by all pools.
+     */
+    public static long getBytesTrimmed() {
+        return bytesTrimmed;
+    }
+
+    /**
+     * Returns the number of bytes of the unused images held by all pools.
+     */
+    public static long getBytesPooled() {
+        return bytesPooled;
     }
 
     static final int QUANT = 32;
+    static final int BYTES_PER_PIXEL = 4;
 
-    private final List<SoftReference<PoolFilterable>> unlocked =
-        new ArrayList<>();
-    private final List<SoftReference<PoolFilterable>> locked =
-        new ArrayList<>();
+    /**
+     * The maximum number of bytes of the unused images that are kept by
+     * a pool for reuse.
+     */
+    static final long MAX_POOL_BYTES =
+        Math.max(0, Long.getLong("decora.maxPoolBytes", 64L * 1024 * 1024));
+
+    /**
+     * The number of idle pulses after which an unused image is flushed.
+     */
+    static final int TRIM_PULSES =
+        Math.max(1, Integer.getInteger("decora.poolTrimPulses", 8));
+
+    /**
+     * The maximum number of pixels of the images that are kept checked out
+     * by all {@link CacheEntry cache entries} of a pool; 0 disables caching.
+     */
+    static final long MAX_CACHED_PIXELS =
+        Math.max(0, Integer.getInteger("decora.maxCachedPixels", 4 * 1024 * 1024));
+
+    /**
+     * A holder of an image that is kept checked out of the pool between
+     * frames, such as the cached result of an effect. The pool evicts the
+     * least recently used entries when their images exceed its budget.
+     */
+    public interface CacheEntry {
+        /**
+         * Releases the cached image. This is called by the pool after the
+         * entry was removed from the pool.
+         */
+        void evict();
+    }
+
+    // unused images by size class, with the most recently used one last
+    private final Map<Long, ArrayDeque<PoolFilterable>> unlocked =
+        new HashMap<>();
+    // unused images in least recently used order
+    private final LinkedHashMap<PoolFilterable, Unused> unused =
+        new LinkedHashMap<>();
+    private long unusedBytes;
+    private long idlePulses;
+    // checked out images, mapped to their size class; they are only weakly
+    // referenced, so that images which are never checked in again are not
+    // kept alive by the pool
+    private final Map<PoolFilterable, Long> locked = new WeakHashMap<>();
+
+    private static final class Unused {
+        final long key;
+        final long bytes;
+        // the number of idle pulses at the time the image was checked in
+        final long pulse;
+
+        Unused(long key, long bytes, long pulse) {
+            this.key = key;
+            this.bytes = bytes;
+            this.pulse = pulse;
+        }
+    }
+
+    // cache entries in access order, mapped to the number of their pixels
+    private final LinkedHashMap<CacheEntry, Long> cacheEntries =
+        new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedPixels;
 
     // On Canmore with the PowerVR SGX chip, there is a driver issue
     // that causes incorrect rendering if one tries to reuse an FBO
@@ -91,9 +226,7 @@ public class ImagePool {
     // slowdowns for certain frames due to increased allocation
     // (where there would normally be reuse).
     private final boolean usePurgatory = Boolean.getBoolean("decora.purgatory");
-    private final List<Filterable> hardPurgatory = new ArrayList<>();
-    private final List<SoftReference<PoolFilterable>> softPurgatory =
-        new ArrayList<>();
+    private final Map<PoolFilterable, Long> purgatory = new LinkedHashMap<>();
 
     /**
      * Package-private constructor.
@@ -101,14 +234,33 @@ public class ImagePool {
     ImagePool() {
     }
 
+    /**
+     * Rounds the given image dimension up to its size class. Small
+     * dimensions are rounded up to a multiple of {@code QUANT}, larger
+     * ones to a quarter of their power of two, so that the images of a
+     * size class waste at most a quarter of their width and height.
+     */
+    static int getSizeClass(int n) {
+        int step = Math.max(QUANT, Integer.highestOneBit(n - 1) >> 2);
+        return ((n + step - 1) / step) * step;
+    }
+
+    private static long getKey(int w, int h) {
+        return (((long) w) << 32) | h;
+    }
+
+    private static long getBytes(PoolFilterable img) {
+        return ((long) img.getPhysicalWidth()) * img.getPhysicalHeight() * BYTES_PER_PIXEL;
+    }
+
     public synchronized PoolFilterable checkOut(Renderer renderer, int w, int h) {
         if (w <= 0 || h <= 0) {
             // if image is empty in any way, return a small non-empty image.
             w = h = 1;
         }
-        // Allocate images rounded up to the nearest quantum size threshold.
-        w = ((w + QUANT - 1) / QUANT) * QUANT;
-        h = ((h + QUANT - 1) / QUANT) * QUANT;
+        // Allocate images rounded up to the nearest size class.
+        w = getSizeClass(w);
+        h = getSizeClass(h);
 
         // Adjust allocation sizes for platform requirements (pow2 etc.)
         w = renderer.getCompatibleWidth(w);
@@ -116,60 +268,29 @@ public class ImagePool {
 
         numAccessed++;
         pixelsAccessed += ((long) w) * h;
-        // first look for an already cached image of sufficient size,
-        // choosing the one that is closest in size to the requested dimensions
-        SoftReference<PoolFilterable> chosenEntry = null;
-        PoolFilterable chosenImage = null;
-        int mindiff = Integer.MAX_VALUE;
-        Iterator<SoftReference<PoolFilterable>> entries = unlocked.iterator();
-        while (entries.hasNext()) {
-            SoftReference<PoolFilterable> entry = entries.next();
-            PoolFilterable eimg = entry.get();
-            if (eimg == null) {
-                entries.remove();
-                continue;
-            }
-            int ew = eimg.getMaxContentWidth();
-            int eh = eimg.getMaxContentHeight();
-            if (ew >= w && eh >= h && ew * eh / 2 <= w * h) {
-                int diff = (ew-w) * (eh-h);
-                if (chosenEntry == null || diff < mindiff) {
-                    eimg.lock();
-                    if (eimg.isLost()) {
-                        entries.remove();
-                        continue;
-                    }
-                    if (chosenImage != null) {
-                        chosenImage.unlock();
-                    }
-                    chosenEntry = entry;
-                    // The following calls to setContentWidth / setContentHeight
-                    // should be uncommented only after the rest of the imagepool
-                    // is fixed to handle a change in content size, and when both the
-                    // SW pipeline and J2D pipeline are able to handle the change.
-//                    eimg.setContentWidth(w);
-//                    eimg.setContentHeight(h);
-                    chosenImage = eimg;
-                    mindiff = diff;
+        // first look for an unused image of the same size class,
+        // choosing the one that was used most recently
+        long key = getKey(w, h);
+        ArrayDeque<PoolFilterable> bucket = unlocked.get(key);
+        if (bucket != null) {
+            PoolFilterable img;
+            while ((img = bucket.pollLast()) != null) {
+                Unused u = unused.remove(img);
+                unusedBytes -= u.bytes;
+                bytesPooled -= u.bytes;
+                img.lock();
+                if (img.isLost()) {
+                    continue;
                 }
+                if (bucket.isEmpty()) {
+                    unlocked.remove(key);
+                }
+                locked.put(img, key);
+                numReused++;
+                renderer.clearImage(img);
+                return img;
             }
-        }
-
-        if (chosenEntry != null) {
-            unlocked.remove(chosenEntry);
-            locked.add(chosenEntry);
-            renderer.clearImage(chosenImage);
-            return chosenImage;
-        }
-
-        // get rid of expired entries from locked list
-        entries = locked.iterator();
-        while (entries.hasNext()) {
-            SoftReference<PoolFilterable> entry = entries.next();
-            Filterable eimg = entry.get();
-            if (eimg == null) {
-                entries.remove();
-            }
+            unlocked.remove(key);
         }
 
         // if all else fails, just create a new one...
@@ -187,7 +308,7 @@ public class ImagePool {
         }
         if (img != null) {
             img.setImagePool(this);
-            locked.add(new SoftReference<>(img));
+            locked.put(img, key);
             numCreated++;
             pixelsCreated += ((long) w) * h;
         }
@@ -195,72 +316,165 @@ public class ImagePool {
     }
 
     public synchronized void checkIn(PoolFilterable img) {
-        SoftReference<PoolFilterable> chosenEntry = null;
-        Filterable chosenImage = null;
-        Iterator<SoftReference<PoolFilterable>> entries = locked.iterator();
+        Long key = locked.remove(img);
+        if (key == null) {
+            return;
+        }
+        img.unlock();
+        if (usePurgatory) {
+            // hold the image in purgatory instead of releasing it back
+            // to the unlocked pool immediately; it will be released
+            // after the next call to releasePurgatory()...
+            purgatory.put(img, key);
+        } else {
+            addUnused(img, key);
+            trimUnused(MAX_POOL_BYTES, Long.MIN_VALUE);
+        }
+    }
+
+    public synchronized void releasePurgatory() {
+        if (usePurgatory && !purgatory.isEmpty()) {
+            // release images kept in purgatory back into the unlocked pool
+            for (Map.Entry<PoolFilterable, Long> e : purgatory.entrySet()) {
+                addUnused(e.getKey(), e.getValue());
+            }
+            purgatory.clear();
+            trimUnused(MAX_POOL_BYTES, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Counts an idle pulse, and flushes the unused images that have not been
+     * used during the last {@code decora.poolTrimPulses} idle pulses.  This
+     * is called on the render thread when no pulses are needed.
+     */
+    public synchronized void trim() {
+        idlePulses++;
+        trimUnused(MAX_POOL_BYTES, idlePulses - TRIM_PULSES + 1);
+    }
+
+    private void addUnused(PoolFilterable img, long key) {
+        unlocked.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(img);
+        long bytes = getBytes(img);
+        unused.put(img, new Unused(key, bytes, idlePulses));
+        unusedBytes += bytes;
+        bytesPooled += bytes;
+    }
+
+    /**
+     * Flushes the least recently used unused images until their bytes no
+     * longer exceed {@code maxBytes} and the remaining images were checked
+     * in at or after the idle pulse {@code minPulse}.
+     */
+    private void trimUnused(long maxBytes, long minPulse) {
+        Iterator<Map.Entry<PoolFilterable, Unused>> entries =
+            unused.entrySet().iterator();
         while (entries.hasNext()) {
-            SoftReference<PoolFilterable> entry = entries.next();
-            Filterable eimg = entry.get();
-            if (eimg == null) {
-                entries.remove();
-            } else if (eimg == img) {
-                chosenEntry = entry;
-                chosenImage = eimg;
-                img.unlock();
+            Map.Entry<PoolFilterable, Unused> e = entries.next();
+            Unused u = e.getValue();
+            if (unusedBytes <= maxBytes && u.pulse >= minPulse) {
                 break;
             }
+            PoolFilterable img = e.getKey();
+            entries.remove();
+            ArrayDeque<PoolFilterable> bucket = unlocked.get(u.key);
+            bucket.removeFirstOccurrence(img);
+            if (bucket.isEmpty()) {
+                unlocked.remove(u.key);
+            }
+            unusedBytes -= u.bytes;
+            bytesPooled -= u.bytes;
+            numTrimmed++;
+            bytesTrimmed += u.bytes;
+            img.flush();
         }
+    }
 
-        if (chosenEntry != null) {
-            locked.remove(chosenEntry);
-            if (usePurgatory) {
-                // hold the entry in purgatory instead of releasing it back
-                // to the unlocked pool immediately; it will be released
-                // after the next call to releasePurgatory()...
-//                System.err.println("==> Adding image to purgatory: " +
-//                    chosenImage.getPhysicalWidth() + "x" +
-//                    chosenImage.getPhysicalHeight());
-                hardPurgatory.add(chosenImage);
-                softPurgatory.add(chosenEntry);
-            } else {
-                unlocked.add(chosenEntry);
+    /**
+     * Adds an entry whose image of the given size is kept checked out between
+     * frames, evicting the least recently used entries if the images of all
+     * entries exceed the budget of the pool.
+     *
+     * @param entry the cache entry
+     * @param pixels the number of pixels of the cached image
+     * @return {@code true} if the entry was added, or {@code false} if the
+     *         image is larger than the budget
+     */
+    public synchronized boolean addCacheEntry(CacheEntry entry, long pixels) {
+        if (pixels > MAX_CACHED_PIXELS) {
+            return false;
+        }
+        removeCacheEntry(entry);
+        cacheEntries.put(entry, pixels);
+        cachedPixels += pixels;
+        numCached++;
+        if (cachedPixels > MAX_CACHED_PIXELS) {
+            List<CacheEntry> evicted = new ArrayList<>();
+            Iterator<Map.Entry<CacheEntry, Long>> entries =
+                cacheEntries.entrySet().iterator();
+            while (cachedPixels > MAX_CACHED_PIXELS) {
+                Map.Entry<CacheEntry, Long> e = entries.next();
+                cachedPixels -= e.getValue();
+                entries.remove();
+                evicted.add(e.getKey());
             }
+            evict(evicted);
         }
+        return true;
     }
 
-    public synchronized void releasePurgatory() {
-        if (usePurgatory && !softPurgatory.isEmpty()) {
-//            System.err.println("==> Releasing " + softPurgatory.size() + " entries from purgatory!");
-            // release images kept in purgatory back into the unlocked pool
-            unlocked.addAll(softPurgatory);
-            softPurgatory.clear();
-            hardPurgatory.clear();
+    /**
+     * Marks a cache entry as the most recently used one.
+     *
+     * @param entry the cache entry
+     */
+    public synchronized void touchCacheEntry(CacheEntry entry) {
+        if (cacheEntries.get(entry) != null) {
+            numCacheHits++;
+        }
+    }
+
+    /**
+     * Removes a cache entry without evicting it.
+     *
+     * @param entry the cache entry
+     */
+    public synchronized void removeCacheEntry(CacheEntry entry) {
+        Long pixels = cacheEntries.remove(entry);
+        if (pixels != null) {
+            cachedPixels -= pixels;
+        }
+    }
+
+    private void evictCacheEntries() {
+        List<CacheEntry> evicted = new ArrayList<>(cacheEntries.keySet());
+        cacheEntries.clear();
+        cachedPixels = 0;
+        evict(evicted);
+    }
+
+    private void evict(List<CacheEntry> evicted) {
+        numCacheEvictions += evicted.size();
+        for (CacheEntry e : evicted) {
+            e.evict();
         }
     }
 
     private void pruneCache() {
+        // evict cached images so that they are returned to the pool
+        evictCacheEntries();
         // flush all unlocked images
-        for (SoftReference<PoolFilterable> r : unlocked) {
-            Filterable image = r.get();
-            if (image != null) {
-                image.flush();
-            }
-        }
-        unlocked.clear();
+        trimUnused(0, Long.MAX_VALUE);
         // this is to help to free up space held by those images that we no
         // longer have references to
         System.gc();
     }
 
     public synchronized void dispose() {
-        for (SoftReference<PoolFilterable> r : unlocked) {
-            Filterable image = r.get();
-            if (image != null) {
-                image.flush();
-            }
-        }
-        unlocked.clear();
+        evictCacheEntries();
+        trimUnused(0, Long.MAX_VALUE);
         // not flushing the locked ones, just clearing references to them
         locked.clear();
+        purgatory.clear();
     }
 }
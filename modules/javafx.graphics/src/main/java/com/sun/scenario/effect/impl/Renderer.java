@@ -167,6 +167,16 @@ public abstract class Renderer {
         imagePool.releasePurgatory();
     }
 
+    /**
+     * Trims the image pools of all renderers on an idle pulse.  See
+     * {@link ImagePool#trim()} for more details.
+     */
+    public static synchronized void trimImagePools() {
+        for (Renderer r : rendererMap.values()) {
+            r.imagePool.trim();
+        }
+    }
+
     /**
      * Mainly used by {@code ImagePool} for the purpose of clearing
      * an image before handing it back to the user.
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.scenario.effect.impl.jfr;
+
+import com.sun.scenario.effect.impl.ImagePool;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+@Name("javafx.ImagePool")
+@Label("JavaFX Effect Image Pool")
+@Category("JavaFX")
+@Description("Statistics of the pools of temporary effect images")
+@StackTrace(false)
+@Enabled(false)
+@Period("1 s")
+public final class JFRImagePoolEvent extends Event {
+    @Label("Images Created")
+    @Description("Number of images created because no unused image of the requested size was pooled")
+    private long imagesCreated;
+
+    @Label("Bytes Created")
+    @DataAmount(DataAmount.BYTES)
+    private long bytesCreated;
+
+    @Label("Images Reused")
+    @Description("Number of requested images that were taken from the pool")
+    private long imagesReused;
+
+    @Label("Images Trimmed")
+    @Description("Number of unused images that were flushed")
+    private long imagesTrimmed;
+
+    @Label("Bytes Trimmed")
+    @DataAmount(DataAmount.BYTES)
+    private long bytesTrimmed;
+
+    @Label("Bytes Pooled")
+    @Description("Size of the unused images currently held for reuse")
+    @DataAmount(DataAmount.BYTES)
+    private long bytesPooled;
+
+    /**
+     * Registers the event as a periodic event if the flight recorder is
+     * initialized. This is called reflectively by {@code ImagePool}.
+     */
+    public static void register() {
+        if (FlightRecorder.isInitialized()) {
+            FlightRecorder.addPeriodicEvent(JFRImagePoolEvent.class, () -> {
+                JFRImagePoolEvent event = new JFRImagePoolEvent();
+                event.imagesCreated = ImagePool.getImagesCreated();
+                event.bytesCreated = ImagePool.getBytesCreated();
+                event.imagesReused = ImagePool.getImagesReused();
+                event.imagesTrimmed = ImagePool.getImagesTrimmed();
+                event.bytesTrimmed = ImagePool.getBytesTrimmed();
+                event.bytesPooled = ImagePool.getBytesPooled();
+                event.commit();
+            });
+        }
+    }
+}
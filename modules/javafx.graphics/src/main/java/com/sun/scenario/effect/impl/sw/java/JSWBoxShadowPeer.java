@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -147,31 +147,32 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
     {
         int hsize = dstw - srcw + 1;
         // amax goes from hsize*255 to 255 as spread goes from 0 to 1
-        int amax = hsize * 255;
-        amax += (255 - amax) * spread;
+        int amax = (int) (hsize * 255 + (255 - hsize * 255) * spread);
         int kscale = 0x7fffffff / amax;
         int amin = (amax / 255);
-        int srcoff = 0;
-        int dstoff = 0;
-        for (int y = 0; y < dsth; y++) {
-            int suma = 0;
-            for (int x = 0; x < dstw; x++) {
-                int rgb;
-                // Un-accumulate the data for col-hsize location into the sums.
-                rgb = (x >= hsize) ? srcPixels[srcoff + x - hsize] : 0;
-                suma -= (rgb >>> 24);
-                // Accumulate the data for this col location into the sums.
-                rgb = (x < srcw) ? srcPixels[srcoff + x] : 0;
-                suma += (rgb >>> 24);
-                // Clamp, scale and convert the sum into a color.
-                dstPixels[dstoff + x] =
-                    ((suma < amin) ? 0
-                     : ((suma >= amax) ? 0xff000000
-                        : (((suma * kscale) >> 23) << 24)));
+        filterBands(dsth, dstw, (y0, y1) -> {
+            int srcoff = y0 * srcscan;
+            int dstoff = y0 * dstscan;
+            for (int y = y0; y < y1; y++) {
+                int suma = 0;
+                for (int x = 0; x < dstw; x++) {
+                    int rgb;
+                    // Un-accumulate the data for col-hsize location into the sums.
+                    rgb = (x >= hsize) ? srcPixels[srcoff + x - hsize] : 0;
+                    suma -= (rgb >>> 24);
+                    // Accumulate the data for this col location into the sums.
+                    rgb = (x < srcw) ? srcPixels[srcoff + x] : 0;
+                    suma += (rgb >>> 24);
+                    // Clamp, scale and convert the sum into a color.
+                    dstPixels[dstoff + x] =
+                        ((suma < amin) ? 0
+                         : ((suma >= amax) ? 0xff000000
+                            : (((suma * kscale) >> 23) << 24)));
+                }
+                srcoff += srcscan;
+                dstoff += dstscan;
             }
-            srcoff += srcscan;
-            dstoff += dstscan;
-        }
+        });
     }
 
     protected void filterVerticalBlack(int dstPixels[], int dstw, int dsth, int dstscan,
@@ -180,32 +181,33 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
     {
         int vsize = dsth - srch + 1;
         // amax goes from hsize*255 to 255 as spread goes from 0 to 1
-        int amax = vsize * 255;
-        amax += (255 - amax) * spread;
+        int amax = (int) (vsize * 255 + (255 - vsize * 255) * spread);
         int kscale = 0x7fffffff / amax;
         int amin = (amax / 255);
         int voff = vsize * srcscan;
-        for (int x = 0; x < dstw; x++) {
-            int suma = 0;
-            int srcoff = x;
-            int dstoff = x;
-            for (int y = 0; y < dsth; y++) {
-                int rgb;
-                // Un-accumulate the data for row-vsize location into the sums.
-                rgb = (srcoff >= voff) ? srcPixels[srcoff - voff] : 0;
-                suma -= (rgb >>> 24);
-                // Accumulate the data for this row location into the sums.
-                rgb = (y < srch) ? srcPixels[srcoff] : 0;
-                suma += (rgb >>> 24);
-                // Clamp, scale and convert the sum into a color.
-                dstPixels[dstoff] =
-                    ((suma < amin) ? 0
-                     : ((suma >= amax) ? 0xff000000
-                        : (((suma * kscale) >> 23) << 24)));
-                srcoff += srcscan;
-                dstoff += dstscan;
+        filterBands(dstw, dsth, (x0, x1) -> {
+            for (int x = x0; x < x1; x++) {
+                int suma = 0;
+                int srcoff = x;
+                int dstoff = x;
+                for (int y = 0; y < dsth; y++) {
+                    int rgb;
+                    // Un-accumulate the data for row-vsize location into the sums.
+                    rgb = (srcoff >= voff) ? srcPixels[srcoff - voff] : 0;
+                    suma -= (rgb >>> 24);
+                    // Accumulate the data for this row location into the sums.
+                    rgb = (y < srch) ? srcPixels[srcoff] : 0;
+                    suma += (rgb >>> 24);
+                    // Clamp, scale and convert the sum into a color.
+                    dstPixels[dstoff] =
+                        ((suma < amin) ? 0
+                         : ((suma >= amax) ? 0xff000000
+                            : (((suma * kscale) >> 23) << 24)));
+                    srcoff += srcscan;
+                    dstoff += dstscan;
+                }
             }
-        }
+        });
     }
 
     protected void filterVertical(int dstPixels[], int dstw, int dsth, int dstscan,
@@ -214,13 +216,12 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
     {
         int vsize = dsth - srch + 1;
         // amax goes from hsize*255 to 255 as spread goes from 0 to 1
-        int amax = vsize * 255;
-        amax += (255 - amax) * spread;
-        int kscalea = 0x7fffffff / amax;
-        int kscaler = (int) (kscalea * shadowColor[0]);
-        int kscaleg = (int) (kscalea * shadowColor[1]);
-        int kscaleb = (int) (kscalea * shadowColor[2]);
-        kscalea *= shadowColor[3];
+        int amax = (int) (vsize * 255 + (255 - vsize * 255) * spread);
+        int kscale = 0x7fffffff / amax;
+        int kscaler = (int) (kscale * shadowColor[0]);
+        int kscaleg = (int) (kscale * shadowColor[1]);
+        int kscaleb = (int) (kscale * shadowColor[2]);
+        int kscalea = (int) (kscale * shadowColor[3]);
         int amin = (amax / 255);
         int voff = vsize * srcscan;
         int shadowRGB =
@@ -228,30 +229,32 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
             (((int) (shadowColor[1] * 255)) <<  8) |
             (((int) (shadowColor[2] * 255))      ) |
             (((int) (shadowColor[3] * 255)) << 24);
-        for (int x = 0; x < dstw; x++) {
-            int suma = 0;
-            int srcoff = x;
-            int dstoff = x;
-            for (int y = 0; y < dsth; y++) {
-                int rgb;
-                // Un-accumulate the data for row-vsize location into the sums.
-                rgb = (srcoff >= voff) ? srcPixels[srcoff - voff] : 0;
-                suma -= (rgb >>> 24);
-                // Accumulate the data for this row location into the sums.
-                rgb = (y < srch) ? srcPixels[srcoff] : 0;
-                suma += (rgb >>> 24);
-                // Clamp, scale and convert the sum into a color.
-                dstPixels[dstoff] =
-                    ((suma < amin) ? 0
-                     : ((suma >= amax) ? shadowRGB
-                        : ((((suma * kscalea) >> 23) << 24) |
-                           (((suma * kscaler) >> 23) << 16) |
-                           (((suma * kscaleg) >> 23) <<  8) |
-                           (((suma * kscaleb) >> 23)      ))));
-                srcoff += srcscan;
-                dstoff += dstscan;
+        filterBands(dstw, dsth, (x0, x1) -> {
+            for (int x = x0; x < x1; x++) {
+                int suma = 0;
+                int srcoff = x;
+                int dstoff = x;
+                for (int y = 0; y < dsth; y++) {
+                    int rgb;
+                    // Un-accumulate the data for row-vsize location into the sums.
+                    rgb = (srcoff >= voff) ? srcPixels[srcoff - voff] : 0;
+                    suma -= (rgb >>> 24);
+                    // Accumulate the data for this row location into the sums.
+                    rgb = (y < srch) ? srcPixels[srcoff] : 0;
+                    suma += (rgb >>> 24);
+                    // Clamp, scale and convert the sum into a color.
+                    dstPixels[dstoff] =
+                        ((suma < amin) ? 0
+                         : ((suma >= amax) ? shadowRGB
+                            : ((((suma * kscalea) >> 23) << 24) |
+                               (((suma * kscaler) >> 23) << 16) |
+                               (((suma * kscaleg) >> 23) <<  8) |
+                               (((suma * kscaleb) >> 23)      ))));
+                    srcoff += srcscan;
+                    dstoff += dstscan;
+                }
             }
-        }
+        });
     }
 
     /*
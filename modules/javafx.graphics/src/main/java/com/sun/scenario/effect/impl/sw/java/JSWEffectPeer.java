@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,17 +25,82 @@
 
 package com.sun.scenario.effect.impl.sw.java;
 
+import com.sun.javafx.util.WorkerPool;
 import com.sun.scenario.effect.FilterContext;
 import com.sun.scenario.effect.impl.EffectPeer;
 import com.sun.scenario.effect.impl.Renderer;
 import com.sun.scenario.effect.impl.state.RenderState;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public abstract class JSWEffectPeer<T extends RenderState> extends EffectPeer<T> {
 
+    /**
+     * The number of threads that filter the bands of a destination image,
+     * including the calling thread; bands are not used if this is 1.
+     * Not final, so that tests can compare the results of different counts.
+     */
+    static int threads = Math.clamp(Integer.getInteger("decora.sw.threads", 1), 1, 64);
+
+    // minimum number of lines filtered by a single thread
+    private static final int MIN_BAND_LINES = 16;
+    // minimum number of pixels worth splitting into bands
+    private static final int MIN_PARALLEL_AREA = 256 * 256;
+
+    private static final WorkerPool pool = new WorkerPool("DecoraFilter-");
+
     protected JSWEffectPeer(FilterContext fctx, Renderer r, String uniqueName) {
         super(fctx, r, uniqueName);
     }
 
+    /**
+     * Filters a band of lines of a destination image.
+     */
+    @FunctionalInterface
+    protected interface BandFilter {
+        /**
+         * Filters the lines in the range {@code [from, to)}.
+         *
+         * @param from the first line of the band
+         * @param to the line after the last line of the band
+         */
+        void filter(int from, int to);
+    }
+
+    /**
+     * Filters {@code lines} lines of {@code length} pixels each, which are
+     * usually the rows of the destination image. If the image is large
+     * enough and {@code decora.sw.threads} is larger than 1, the lines are
+     * split into bands that are filtered in parallel, with the first band
+     * being filtered by the calling thread. Each band must only write the
+     * pixels of its own lines, and must not share mutable state with the
+     * other bands.
+     *
+     * @param lines the number of lines
+     * @param length the number of pixels of a line
+     * @param filter the filter of a band of lines
+     */
+    protected static void filterBands(int lines, int length, BandFilter filter) {
+        final int maxBands = threads;
+        final int bands = Math.min(maxBands, lines / MIN_BAND_LINES);
+        if (bands < 2 || ((long) lines * length) < MIN_PARALLEL_AREA) {
+            filter.filter(0, lines);
+            return;
+        }
+
+        final ForkJoinPool workers = pool.get(maxBands - 1);
+        final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[bands - 1];
+        for (int i = 1; i < bands; i++) {
+            final int from = (int) (((long) lines * i) / bands);
+            final int to = (int) (((long) lines * (i + 1)) / bands);
+            tasks[i - 1] = workers.submit(() -> filter.filter(from, to));
+        }
+        filter.filter(0, lines / bands);
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
     protected final static int FVALS_A = 3;
     protected final static int FVALS_R = 0;
     protected final static int FVALS_G = 1;
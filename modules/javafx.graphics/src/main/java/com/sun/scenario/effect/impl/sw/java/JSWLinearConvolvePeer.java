@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,6 +31,7 @@
 package com.sun.scenario.effect.impl.sw.java;
 
 import java.nio.FloatBuffer;
+import java.util.Arrays;
 import com.sun.scenario.effect.FilterContext;
 import com.sun.scenario.effect.ImageData;
 import com.sun.scenario.effect.Effect;
@@ -177,37 +178,150 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
                                 float deltax, float deltay,
                                 float dxcol, float dycol, float dxrow, float dyrow)
     {
-        int dstrow = 0;
-        float fvals[] = new float[4];
         // srcxy0 point at UL corner, shift them to center of 1st dest pixel:
         srcx0 += (dxrow + dxcol) * 0.5f;
         srcy0 += (dyrow + dycol) * 0.5f;
-        for (int dy = 0; dy < dsth; dy++) {
-            float srcx = srcx0;
-            float srcy = srcy0;
-            for (int dx = 0; dx < dstw; dx++) {
-                fvals[0] = fvals[1] = fvals[2] = fvals[3] = 0.0f;
-                float sampx = srcx + offsetx;
-                float sampy = srcy + offsety;
-                for (int i = 0; i < count; ++i) {
-                    laccumsample(srcPixels, sampx, sampy,
-                                 srcw, srch, srcscan,
-                                 weights[i], fvals);
-                    sampx += deltax;
-                    sampy += deltay;
+        int grid[] = getPixelGrid(dstw, dsth, count,
+                                  srcx0 + offsetx, srcy0 + offsety,
+                                  deltax, deltay,
+                                  dxcol, dycol, dxrow, dyrow);
+        if (grid != null) {
+            filterAligned(dstPixels, dstw, dsth, dstscan,
+                          srcPixels, srcw, srch, srcscan,
+                          weights, count,
+                          grid[0], grid[1], grid[2], grid[3]);
+            return;
+        }
+
+        final float bandx0 = srcx0;
+        final float bandy0 = srcy0;
+        filterBands(dsth, dstw, (y0, y1) -> {
+            int dstrow = y0 * dstscan;
+            float fvals[] = new float[4];
+            float rowx = bandx0 + y0 * dxrow;
+            float rowy = bandy0 + y0 * dyrow;
+            for (int dy = y0; dy < y1; dy++) {
+                float srcx = rowx;
+                float srcy = rowy;
+                for (int dx = 0; dx < dstw; dx++) {
+                    fvals[0] = fvals[1] = fvals[2] = fvals[3] = 0.0f;
+                    float sampx = srcx + offsetx;
+                    float sampy = srcy + offsety;
+                    for (int i = 0; i < count; ++i) {
+                        laccumsample(srcPixels, sampx, sampy,
+                                     srcw, srch, srcscan,
+                                     weights[i], fvals);
+                        sampx += deltax;
+                        sampy += deltay;
+                    }
+                    dstPixels[dstrow + dx] =
+                        (((fvals[FVALS_A] < cmin) ? 0 : ((fvals[FVALS_A] > cmax) ? 255 : ((int) fvals[FVALS_A]))) << 24) +
+                        (((fvals[FVALS_R] < cmin) ? 0 : ((fvals[FVALS_R] > cmax) ? 255 : ((int) fvals[FVALS_R]))) << 16) +
+                        (((fvals[FVALS_G] < cmin) ? 0 : ((fvals[FVALS_G] > cmax) ? 255 : ((int) fvals[FVALS_G]))) <<  8) +
+                        (((fvals[FVALS_B] < cmin) ? 0 : ((fvals[FVALS_B] > cmax) ? 255 : ((int) fvals[FVALS_B])))      );
+                    srcx += dxcol;
+                    srcy += dycol;
                 }
-                dstPixels[dstrow + dx] =
-                    (((fvals[FVALS_A] < cmin) ? 0 : ((fvals[FVALS_A] > cmax) ? 255 : ((int) fvals[FVALS_A]))) << 24) +
-                    (((fvals[FVALS_R] < cmin) ? 0 : ((fvals[FVALS_R] > cmax) ? 255 : ((int) fvals[FVALS_R]))) << 16) +
-                    (((fvals[FVALS_G] < cmin) ? 0 : ((fvals[FVALS_G] > cmax) ? 255 : ((int) fvals[FVALS_G]))) <<  8) +
-                    (((fvals[FVALS_B] < cmin) ? 0 : ((fvals[FVALS_B] > cmax) ? 255 : ((int) fvals[FVALS_B])))      );
-                srcx += dxcol;
-                srcy += dycol;
+                rowx += dxrow;
+                rowy += dyrow;
+                dstrow += dstscan;
             }
-            srcx0 += dxrow;
-            srcy0 += dyrow;
-            dstrow += dstscan;
+        });
+    }
+
+    // the largest tolerated distance of a sample from a pixel center, in pixels
+    private static final float GRID_EPSILON = 1f / 1024f;
+
+    private static boolean isNear(float value, float target, int repeat) {
+        return Math.abs(value - target) * Math.max(repeat, 1) <= GRID_EPSILON;
+    }
+
+    /**
+     * Determines whether all samples of a pass fall on the centers of source
+     * pixels, which is the case for the passes of an untransformed blur.
+     * If so, returns the source pixel of the first sample of the first
+     * destination pixel, followed by the pixel step between the samples;
+     * otherwise returns null.
+     */
+    static int[] getPixelGrid(int dstw, int dsth, int count,
+                              float sampx, float sampy,
+                              float deltax, float deltay,
+                              float dxcol, float dycol, float dxrow, float dyrow)
+    {
+        if (!isNear(dxcol, 1f, dstw) || !isNear(dycol, 0f, dstw) ||
+            !isNear(dxrow, 0f, dsth) || !isNear(dyrow, 1f, dsth))
+        {
+            return null;
         }
+        float stepx = Math.round(deltax);
+        float stepy = Math.round(deltay);
+        if (!isNear(deltax, stepx, count) || !isNear(deltay, stepy, count)) {
+            return null;
+        }
+        float srcx = (float) Math.floor(sampx);
+        float srcy = (float) Math.floor(sampy);
+        if (!isNear(sampx - srcx, 0.5f, 1) || !isNear(sampy - srcy, 0.5f, 1)) {
+            return null;
+        }
+        return new int[] { (int) srcx, (int) srcy, (int) stepx, (int) stepy };
+    }
+
+    /*
+     * A variant of filterVector() for passes whose samples all fall on the
+     * centers of source pixels (see getPixelGrid()), so that no interpolation
+     * is required. The sums for a row of destination pixels are accumulated
+     * one sample at a time in unit-stride loops over the destination columns,
+     * which the JIT compiler can turn into SIMD instructions.
+     */
+    protected void filterAligned(int dstPixels[], int dstw, int dsth, int dstscan,
+                                 int srcPixels[], int srcw, int srch, int srcscan,
+                                 float weights[], int count,
+                                 int srcx, int srcy, int stepx, int stepy)
+    {
+        filterBands(dsth, dstw, (y0, y1) -> {
+            float suma[] = new float[dstw];
+            float sumr[] = new float[dstw];
+            float sumg[] = new float[dstw];
+            float sumb[] = new float[dstw];
+            int dstrow = y0 * dstscan;
+            for (int dy = y0; dy < y1; dy++) {
+                Arrays.fill(suma, 0f);
+                Arrays.fill(sumr, 0f);
+                Arrays.fill(sumg, 0f);
+                Arrays.fill(sumb, 0f);
+                int sx = srcx;
+                int sy = srcy + dy;
+                for (int i = 0; i < count; i++, sx += stepx, sy += stepy) {
+                    if (sy < 0 || sy >= srch) {
+                        continue;
+                    }
+                    // samples outside of the source image contribute nothing
+                    int dx0 = Math.max(0, -sx);
+                    int dx1 = Math.min(dstw, srcw - sx);
+                    int srcoff = sy * srcscan + sx;
+                    float factor = weights[i];
+                    for (int dx = dx0; dx < dx1; dx++) {
+                        int argb = srcPixels[srcoff + dx];
+                        suma[dx] += (argb >>> 24) * factor;
+                        sumr[dx] += ((argb >> 16) & 0xff) * factor;
+                        sumg[dx] += ((argb >>  8) & 0xff) * factor;
+                        sumb[dx] += ((argb      ) & 0xff) * factor;
+                    }
+                }
+                for (int dx = 0; dx < dstw; dx++) {
+                    float a = suma[dx];
+                    float r = sumr[dx];
+                    float g = sumg[dx];
+                    float b = sumb[dx];
+                    dstPixels[dstrow + dx] =
+                        (((a < cmin) ? 0 : ((a > cmax) ? 255 : ((int) a))) << 24) +
+                        (((r < cmin) ? 0 : ((r > cmax) ? 255 : ((int) r))) << 16) +
+                        (((g < cmin) ? 0 : ((g > cmax) ? 255 : ((int) g))) <<  8) +
+                        (((b < cmin) ? 0 : ((b > cmax) ? 255 : ((int) b)))      );
+                }
+                dstrow += dstscan;
+            }
+        });
     }
 
     /*
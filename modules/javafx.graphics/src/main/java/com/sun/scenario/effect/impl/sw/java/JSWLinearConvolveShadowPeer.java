@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,6 +30,7 @@
 
 package com.sun.scenario.effect.impl.sw.java;
 
+import java.util.Arrays;
 import com.sun.scenario.effect.FilterContext;
 import com.sun.scenario.effect.impl.Renderer;
 
@@ -51,44 +52,102 @@ public class JSWLinearConvolveShadowPeer extends JSWLinearConvolvePeer {
                                 float deltax, float deltay,
                                 float dxcol, float dycol, float dxrow, float dyrow)
     {
-        float shadowColor[] = getShadowColor();
-
-        int dstrow = 0;
         // srcxy0 point at UL corner, shift them to center of 1st dest pixel:
         srcx0 += (dxrow + dxcol) * 0.5f;
         srcy0 += (dyrow + dycol) * 0.5f;
-        for (int dy = 0; dy < dsth; dy++) {
-            float srcx = srcx0;
-            float srcy = srcy0;
-            for (int dx = 0; dx < dstw; dx++) {
-                float sum = 0.0f;
-                float sampx = srcx + offsetx;
-                float sampy = srcy + offsety;
-                for (int i = 0; i < count; ++i) {
-                    if (sampx >= 0 && sampy >= 0) {
-                        int ix = (int) sampx;
-                        int iy = (int) sampy;
-                        if (ix < srcw && iy < srch) {
-                            // TODO: Usine linear interpolation here... (JDK-8090445)
-                            int argb = srcPixels[iy * srcscan + ix];
-                            sum += (argb >>> 24) * weights[i];
+        int grid[] = getPixelGrid(dstw, dsth, count,
+                                  srcx0 + offsetx, srcy0 + offsety,
+                                  deltax, deltay,
+                                  dxcol, dycol, dxrow, dyrow);
+        if (grid != null) {
+            filterAligned(dstPixels, dstw, dsth, dstscan,
+                          srcPixels, srcw, srch, srcscan,
+                          weights, count,
+                          grid[0], grid[1], grid[2], grid[3]);
+            return;
+        }
+
+        float shadowColor[] = getShadowColor();
+
+        final float bandx0 = srcx0;
+        final float bandy0 = srcy0;
+        filterBands(dsth, dstw, (y0, y1) -> {
+            int dstrow = y0 * dstscan;
+            float rowx = bandx0 + y0 * dxrow;
+            float rowy = bandy0 + y0 * dyrow;
+            for (int dy = y0; dy < y1; dy++) {
+                float srcx = rowx;
+                float srcy = rowy;
+                for (int dx = 0; dx < dstw; dx++) {
+                    float sum = 0.0f;
+                    float sampx = srcx + offsetx;
+                    float sampy = srcy + offsety;
+                    for (int i = 0; i < count; ++i) {
+                        if (sampx >= 0 && sampy >= 0) {
+                            int ix = (int) sampx;
+                            int iy = (int) sampy;
+                            if (ix < srcw && iy < srch) {
+                                // TODO: Usine linear interpolation here... (JDK-8090445)
+                                int argb = srcPixels[iy * srcscan + ix];
+                                sum += (argb >>> 24) * weights[i];
+                            }
                         }
+                        sampx += deltax;
+                        sampy += deltay;
                     }
-                    sampx += deltax;
-                    sampy += deltay;
+                    sum = (sum < 0f) ? 0f : ((sum > 255f) ? 255f : sum);
+                    dstPixels[dstrow + dx] = ((int) (shadowColor[0] * sum) << 16) |
+                                             ((int) (shadowColor[1] * sum) <<  8) |
+                                             ((int) (shadowColor[2] * sum)      ) |
+                                             ((int) (shadowColor[3] * sum) << 24);
+                    srcx += dxcol;
+                    srcy += dycol;
                 }
-                sum = (sum < 0f) ? 0f : ((sum > 255f) ? 255f : sum);
-                dstPixels[dstrow + dx] = ((int) (shadowColor[0] * sum) << 16) |
-                                         ((int) (shadowColor[1] * sum) <<  8) |
-                                         ((int) (shadowColor[2] * sum)      ) |
-                                         ((int) (shadowColor[3] * sum) << 24);
-                srcx += dxcol;
-                srcy += dycol;
+                rowx += dxrow;
+                rowy += dyrow;
+                dstrow += dstscan;
             }
-            srcx0 += dxrow;
-            srcy0 += dyrow;
-            dstrow += dstscan;
-        }
+        });
+    }
+
+    @Override
+    protected void filterAligned(int dstPixels[], int dstw, int dsth, int dstscan,
+                                 int srcPixels[], int srcw, int srch, int srcscan,
+                                 float weights[], int count,
+                                 int srcx, int srcy, int stepx, int stepy)
+    {
+        float shadowColor[] = getShadowColor();
+
+        filterBands(dsth, dstw, (y0, y1) -> {
+            float sums[] = new float[dstw];
+            int dstrow = y0 * dstscan;
+            for (int dy = y0; dy < y1; dy++) {
+                Arrays.fill(sums, 0f);
+                int sx = srcx;
+                int sy = srcy + dy;
+                for (int i = 0; i < count; i++, sx += stepx, sy += stepy) {
+                    if (sy < 0 || sy >= srch) {
+                        continue;
+                    }
+                    int dx0 = Math.max(0, -sx);
+                    int dx1 = Math.min(dstw, srcw - sx);
+                    int srcoff = sy * srcscan + sx;
+                    float factor = weights[i];
+                    for (int dx = dx0; dx < dx1; dx++) {
+                        sums[dx] += (srcPixels[srcoff + dx] >>> 24) * factor;
+                    }
+                }
+                for (int dx = 0; dx < dstw; dx++) {
+                    float sum = sums[dx];
+                    sum = (sum < 0f) ? 0f : ((sum > 255f) ? 255f : sum);
+                    dstPixels[dstrow + dx] = ((int) (shadowColor[0] * sum) << 16) |
+                                             ((int) (shadowColor[1] * sum) <<  8) |
+                                             ((int) (shadowColor[2] * sum)      ) |
+                                             ((int) (shadowColor[3] * sum) << 24);
+                }
+                dstrow += dstscan;
+            }
+        });
     }
 
     /*
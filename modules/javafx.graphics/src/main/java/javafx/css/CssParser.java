@@ -134,6 +134,11 @@ final public class CssParser {
             public Size parseSize(Token token) {
                 return sizeImpl(token);
             }
+
+            @Override
+            public boolean hasErrors(CssParser parser) {
+                return parser.hasErrors;
+            }
         });
     }
 
@@ -185,6 +190,10 @@ final public class CssParser {
         sourceOfInlineStyle = styleable;
     }
 
+    // Whether an error was reported by this parser, regardless of whether
+    // the errors are collected by the StyleManager.
+    private boolean hasErrors;
+
     private static final PlatformLogger LOGGER = com.sun.javafx.util.Logging.getCSSLogger();
 
     private static final class ParseException extends Exception {
@@ -500,6 +509,7 @@ final public class CssParser {
     }
 
     private void reportError(ParseError error) {
+        hasErrors = true;
         List<ParseError> errors = null;
         if ((errors = StyleManager.getErrors()) != null) {
             errors.add(error);
@@ -515,6 +525,7 @@ final public class CssParser {
     }
 
     private void reportException(Exception exception) {
+        hasErrors = true;
 
         if (LOGGER.isLoggable(Level.WARNING)) {
             final StackTraceElement[] stea = exception.getStackTrace();
@@ -33,6 +33,7 @@ import javafx.collections.ObservableList;
 import com.sun.javafx.collections.TrackableObservableList;
 import com.sun.javafx.css.FontFaceImpl;
 import com.sun.javafx.css.RuleHelper;
+import com.sun.javafx.css.StylesheetHelper;
 import com.sun.javafx.css.media.MediaQueryList;
 import com.sun.javafx.css.media.MediaRule;
 import com.sun.javafx.css.media.TriState;
@@ -46,6 +47,7 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
@@ -62,6 +64,25 @@ import java.util.List;
  */
 public class Stylesheet {
 
+    static {
+        StylesheetHelper.setAccessor(new StylesheetHelper.Accessor() {
+            @Override
+            public int getBinaryVersion() {
+                return BINARY_CSS_VERSION;
+            }
+
+            @Override
+            public Stylesheet loadBinary(InputStream stream, String url) throws IOException {
+                return Stylesheet.loadBinary(stream, url);
+            }
+
+            @Override
+            public void writeBinary(Stylesheet stylesheet, OutputStream stream) throws IOException {
+                Stylesheet.writeBinary(stylesheet, stream);
+            }
+        });
+    }
+
     /**
      * Version number of binary CSS format. The value is incremented whenever the format of the
      * binary stream changes. This number does not correlate with JavaFX versions.
@@ -434,6 +455,12 @@ public class Stylesheet {
         URI sourceURI = source.toURI();
         Stylesheet stylesheet = new CssParser().parseUnmerged(sourceURI.toURL(), true);
 
+        try (FileOutputStream fos = new FileOutputStream(destination)) {
+            writeBinary(stylesheet, fos);
+        }
+    }
+
+    private static void writeBinary(Stylesheet stylesheet, OutputStream stream) throws IOException {
         // first write all the css binary data into the buffer and collect strings on way
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         DataOutputStream dos = new DataOutputStream(baos);
@@ -442,8 +469,7 @@ public class Stylesheet {
         dos.flush();
         dos.close();
 
-        FileOutputStream fos = new FileOutputStream(destination);
-        DataOutputStream os = new DataOutputStream(fos);
+        DataOutputStream os = new DataOutputStream(stream);
 
         // write file version
         os.writeShort(BINARY_CSS_VERSION);
@@ -454,7 +480,6 @@ public class Stylesheet {
         // write binary css
         os.write(baos.toByteArray());
         os.flush();
-        os.close();
     }
 
     void addStylesheetImport(StylesheetImport stylesheetImport) {
@@ -224,6 +224,7 @@ final class CssStyleHelper {
                     parentNode.styleHelper.firstStyleableAncestor = new WeakReference(findFirstStyleableAncestor(parentNode)) ;
                 }
                 parentNode.styleHelper.triggerStates.addAll(triggerState);
+                parentNode.styleHelper.descendantTriggerStates.addAll(triggerState);
 
             }
 
@@ -603,6 +604,124 @@ final class CssStyleHelper {
         return triggerStates.contains(pseudoClass);
     }
 
+    /**
+     * The subset of triggerStates which appear in selectors that match a
+     * descendant of the Node. In the example above, "hover" would be in the
+     * descendantTriggerStates of the StyleHelper associated with the Button
+     * because of the rule ".button:hover *.label". A change to one of these
+     * pseudo-class states requires the Node and all of its children to UPDATE.
+     */
+    private final PseudoClassState descendantTriggerStates = new PseudoClassState();
+
+    /**
+     * The trigger states which are known to affect only the styles of this
+     * Node. Computed lazily by pseudoClassStateAffectsDescendants and valid
+     * as long as no new explicitly inherited property is found.
+     */
+    private PseudoClassState localTriggerStates;
+    private int localTriggerStatesGeneration;
+
+    /**
+     * Names of properties whose value some Node has explicitly asked to
+     * "inherit" from an ancestor. This is not tracked per ancestor since
+     * calculated values, including inherited ones, are shared through the
+     * StyleCache between nodes with the same styles.
+     */
+    private static final Set<String> explicitlyInheritedProperties = new HashSet<>();
+    private static int explicitlyInheritedGeneration;
+
+    /**
+     * Returns true if a change to the given trigger state may change the
+     * styles of any of the Node's descendants. That is the case if the
+     * pseudo-class appears in a selector that matches a descendant, or if a
+     * style of this Node that depends on the pseudo-class might be seen by a
+     * descendant: a looked-up color, an inherited property, or a property
+     * that a descendant has set to "inherit".
+     */
+    boolean pseudoClassStateAffectsDescendants(Node node, PseudoClass pseudoClass) {
+
+        if (descendantTriggerStates.contains(pseudoClass)) return true;
+
+        if (localTriggerStates != null) {
+            if (localTriggerStatesGeneration != explicitlyInheritedGeneration) {
+                localTriggerStates.clear();
+                localTriggerStatesGeneration = explicitlyInheritedGeneration;
+            } else if (localTriggerStates.contains(pseudoClass)) {
+                return false;
+            }
+        }
+
+        final StyleMap styleMap = getStyleMap(node);
+        if (styleMap != null) {
+            final List<CssMetaData<? extends Styleable, ?>> cssMetaData = node.getCssMetaData();
+            for (Entry<String, List<CascadingStyle>> entry : styleMap.getCascadingStyles().entrySet()) {
+                final List<CascadingStyle> styles = entry.getValue();
+                boolean dependsOnState = false;
+                for (int n = 0, nMax = styles.size(); n < nMax; n++) {
+                    if (styles.get(n).getPseudoClasses().contains(pseudoClass)) {
+                        dependsOnState = true;
+                        break;
+                    }
+                }
+                if (dependsOnState && isVisibleToDescendants(entry.getKey(), cssMetaData)) {
+                    return true;
+                }
+            }
+        }
+
+        if (localTriggerStates == null) {
+            localTriggerStates = new PseudoClassState();
+            localTriggerStatesGeneration = explicitlyInheritedGeneration;
+        }
+        localTriggerStates.add(pseudoClass);
+        return false;
+    }
+
+    /*
+     * A style is visible to descendants unless it is the value of a property of
+     * the Node that is not inherited. Anything else is either an inherited
+     * property or a lookup that a descendant's style might resolve.
+     */
+    private static boolean isVisibleToDescendants(String property, List<CssMetaData<? extends Styleable, ?>> cssMetaData) {
+        if (explicitlyInheritedProperties.contains(property)) {
+            return true;
+        }
+        final CssMetaData<? extends Styleable, ?> metaData = findCssMetaData(property, cssMetaData);
+        return metaData == null || metaData.isInherits();
+    }
+
+    /*
+     * Find the CssMetaData, or sub-property CssMetaData, for the given property.
+     * A sub-property of an inherited property is returned as the enclosing CssMetaData.
+     */
+    private static CssMetaData<? extends Styleable, ?> findCssMetaData(
+            String property, List<CssMetaData<? extends Styleable, ?>> cssMetaData) {
+        if (cssMetaData == null) return null;
+        for (int n = 0, nMax = cssMetaData.size(); n < nMax; n++) {
+            final CssMetaData<? extends Styleable, ?> metaData = cssMetaData.get(n);
+            if (property.equals(metaData.getProperty())) {
+                return metaData;
+            }
+            final CssMetaData<? extends Styleable, ?> subMetaData =
+                    findCssMetaData(property, metaData.getSubProperties());
+            if (subMetaData != null) {
+                return metaData.isInherits() ? metaData : subMetaData;
+            }
+        }
+        return null;
+    }
+
+    /*
+     * Remember that a descendant inherits the given property from an ancestor
+     * because the descendant's style value is "inherit".
+     */
+    private static void addExplicitlyInheritedProperty(String property) {
+        if (explicitlyInheritedProperties.add(property)) {
+            // trigger states that were local may no longer be local
+            explicitlyInheritedGeneration++;
+        }
+    }
+
     /**
      * Dynamic pseudo-class state of the node and its parents.
      * Only valid during a pulse.
@@ -1272,7 +1391,7 @@ final class CssStyleHelper {
         // value was "inherit". If so, then we will simply inherit.
         final ParsedValue cssValue = style.getParsedValue();
         if (cssValue != null && "inherit".equals(cssValue.getValue())) {
-            style = getInheritedStyle(styleable, property);
+            style = getInheritedStyle(styleable, property, true);
             if (style == null) return SKIP;
         }
 
@@ -1302,7 +1421,7 @@ final class CssStyleHelper {
 
             }
 
-            CascadingStyle style = getInheritedStyle(styleable, cssMetaData.getProperty());
+            CascadingStyle style = getInheritedStyle(styleable, cssMetaData.getProperty(), false);
             if (style == null) return SKIP;
 
             CalculatedValue cv =
@@ -1324,13 +1443,18 @@ final class CssStyleHelper {
      */
     private CascadingStyle getInheritedStyle(
             final Styleable styleable,
-            final String property) {
+            final String property,
+            final boolean explicit) {
 
         Styleable parent = ((Node)styleable).styleHelper.firstStyleableAncestor.get();
         CssStyleHelper parentStyleHelper = getStyleHelper((Node) parent);
 
         if (parent != null && parentStyleHelper != null) {
 
+            if (explicit) {
+                addExplicitlyInheritedProperty(property);
+            }
+
             StyleMap parentStyleMap = parentStyleHelper.getStyleMap(parent);
             Set<PseudoClass> transitionStates = ((Node)parent).pseudoClassStates;
             CascadingStyle cascadingStyle = parentStyleHelper.getStyle(parent, property, parentStyleMap, transitionStates);
@@ -1340,7 +1464,7 @@ final class CssStyleHelper {
                 final ParsedValue cssValue = cascadingStyle.getParsedValue();
 
                 if ("inherit".equals(cssValue.getValue())) {
-                    return getInheritedStyle(parent, property);
+                    return getInheritedStyle(parent, property, true);
                 }
                 return cascadingStyle;
             }
@@ -9826,16 +9826,20 @@ public abstract sealed class Node
     /**
      * Called when a CSS pseudo-class change would cause styles to be reapplied.
      */
-    private void requestCssStateTransition() {
+    private void requestCssStateTransition(boolean updateChildren) {
         // If there is no scene, then we cannot make it dirty, so we'll leave
         // the flag alone
         if (getScene() == null) return;
         // Don't bother doing anything if the cssFlag is not CLEAN.
         // If the flag indicates a DIRTY_BRANCH, the flag needs to be changed
         // to UPDATE to ensure that NodeHelper.processCSS is called on the node.
+        // If the state change cannot affect the children, UPDATE_NODE is used
+        // so that the CSS pass does not visit clean children.
         if (cssFlag == CssFlags.CLEAN || cssFlag == CssFlags.DIRTY_BRANCH) {
-            cssFlag = CssFlags.UPDATE;
+            cssFlag = updateChildren ? CssFlags.UPDATE : CssFlags.UPDATE_NODE;
             notifyParentsOfInvalidatedCSS();
+        } else if (cssFlag == CssFlags.UPDATE_NODE && updateChildren) {
+            cssFlag = CssFlags.UPDATE;
         }
     }
 
@@ -9876,7 +9880,8 @@ public abstract sealed class Node
         if (modified && styleHelper != null) {
             final boolean isTransition = styleHelper.pseudoClassStateChanged(pseudoClass);
             if (isTransition) {
-                requestCssStateTransition();
+                requestCssStateTransition(!(this instanceof Parent)
+                        || styleHelper.pseudoClassStateAffectsDescendants(this, pseudoClass));
             }
         }
    }
@@ -9946,7 +9951,7 @@ public abstract sealed class Node
         }
 
         // JDK-8095580 - don't reapply CSS in the middle of an update
-        if (cssFlag == CssFlags.UPDATE) {
+        if (cssFlag == CssFlags.UPDATE || cssFlag == CssFlags.UPDATE_NODE) {
             cssFlag = CssFlags.REAPPLY;
             notifyParentsOfInvalidatedCSS();
             return;
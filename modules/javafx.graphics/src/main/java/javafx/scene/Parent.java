@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -47,6 +47,8 @@ import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.PickRay;
 import com.sun.javafx.geom.Point2D;
 import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.SpatialGrid;
+import com.sun.javafx.geom.Vec3d;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.NoninvertibleTransformException;
 import com.sun.javafx.scene.CssFlags;
@@ -85,6 +87,13 @@ public abstract non-sealed class Parent extends Node {
     // parent if it is currently a child of another parent.
     private static final boolean warnOnAutoMove = Boolean.getBoolean("javafx.sg.warn");
 
+    /*
+     * If a parent has at least this many children, picking uses a spatial index
+     * of the bounds of the children to skip the children that cannot be hit.
+     * Set to 0 to disable the index.
+     */
+    private static final int PICK_INDEX_THRESHOLD = Integer.getInteger("javafx.scene.pickIndexThreshold", 1024);
+
     /**
      * Threshold when it's worth to populate list of removed children.
      */
@@ -265,6 +274,9 @@ public abstract non-sealed class Parent extends Node {
 
     void markViewOrderChildrenDirty() {
         viewOrderChildren.clear();
+        if (pickIndex != null) {
+            pickIndex.invalidate();
+        }
         NodeHelper.markDirty(this, DirtyBits.PARENT_CHILDREN_VIEW_ORDER);
     }
 
@@ -327,6 +339,9 @@ public abstract non-sealed class Parent extends Node {
         protected void onChanged(Change<Node> c) {
             // proceed with updating the scene graph
             unmodifiableManagedChildren = null;
+            if (pickIndex != null) {
+                pickIndex.invalidate();
+            }
             boolean relayout = false;
             boolean viewOrderChildrenDirty = false;
             int firstDirtyChildIndex = -1;
@@ -658,9 +673,6 @@ public abstract non-sealed class Parent extends Node {
                     if (oldScene != null) {
                         oldScene.generateMouseExited(old);
                     }
-                    if (dirtyChildren != null) {
-                        dirtyChildren.remove(old);
-                    }
                     if (old.isVisible()) {
                         geomChanged = true;
                         childExcluded(old);
@@ -867,6 +879,20 @@ public abstract non-sealed class Parent extends Node {
 
     boolean pickChildrenNode(PickRay pickRay, PickResultChooser result) {
         List<Node> orderedChildren = getOrderedChildren();
+        SpatialGrid<Node> index = getPickIndex(orderedChildren, pickRay);
+        if (index != null) {
+            // Only the children whose bounds contain the pick point can be hit
+            final Vec3d o = pickRay.getOriginNoClone();
+            index.clearResult();
+            index.query((float) o.x, (float) o.y, (float) o.x, (float) o.y);
+            for (int i = index.sortResult() - 1; i >= 0; i--) {
+                orderedChildren.get(index.getResult(i)).pickNode(pickRay, result);
+                if (result.isClosed()) {
+                    return false;
+                }
+            }
+            return true;
+        }
         for (int i = orderedChildren.size() - 1; i >= 0; i--) {
             orderedChildren.get(i).pickNode(pickRay, result);
             if (result.isClosed()) {
@@ -876,6 +902,45 @@ public abstract non-sealed class Parent extends Node {
         return true;
     }
 
+    /**
+     * The spatial index of the bounds of the children in parent coordinates,
+     * created when picking a parent with many children.
+     */
+    private SpatialGrid<Node> pickIndex;
+
+    /**
+     * The number of children above which this parent keeps a pick index,
+     * which tests can lower for a single parent.
+     */
+    private int pickIndexThreshold = PICK_INDEX_THRESHOLD;
+
+    void setPickIndexThreshold(int threshold) {
+        pickIndexThreshold = threshold;
+        pickIndex = null;
+    }
+
+    /**
+     * Returns an up-to-date spatial index of the given ordered children, or
+     * null if the index is disabled, there are too few children, or the pick
+     * ray is not parallel to the z axis.
+     */
+    private SpatialGrid<Node> getPickIndex(List<Node> orderedChildren, PickRay pickRay) {
+        if (pickIndexThreshold <= 0 || orderedChildren.size() < pickIndexThreshold) {
+            pickIndex = null;
+            return null;
+        }
+        final Vec3d d = pickRay.getDirectionNoClone();
+        if (d.x != 0.0 || d.y != 0.0) {
+            return null;
+        }
+        if (pickIndex == null) {
+            pickIndex = new SpatialGrid<>((node, rect) ->
+                    getChildTransformedBounds(node, BaseTransform.IDENTITY_TRANSFORM, rect).flattenInto(rect));
+        }
+        pickIndex.update(orderedChildren);
+        return pickIndex;
+    }
+
     /*
      * Note: This method MUST only be called via its accessor method.
      */
@@ -1441,6 +1506,10 @@ public abstract non-sealed class Parent extends Node {
             return;
         }
 
+        // If only this node needs to be updated, then children are processed
+        // only if they are dirty themselves.
+        final boolean updateChildren = cssFlag != CssFlags.UPDATE_NODE;
+
         // Let the super implementation handle CSS for this node
         ParentHelper.superProcessCSS(this);
 
@@ -1470,7 +1539,7 @@ public abstract non-sealed class Parent extends Node {
             // If the parent styles are being updated, recalculated or
             // reapplied, then make sure the children get the same treatment.
             // Unless the child is already more dirty than this parent (JDK-8124468).
-            if(CssFlags.UPDATE.compareTo(child.cssFlag) > 0) {
+            if (updateChildren && CssFlags.UPDATE.compareTo(child.cssFlag) > 0) {
                 child.cssFlag = CssFlags.UPDATE;
             }
             NodeHelper.processCSS(child);
@@ -1646,17 +1715,41 @@ public abstract non-sealed class Parent extends Node {
         node.boundsChanged = dirty;
         if (dirty) {
             if (dirtyChildren != null) {
+                if (dirtyChildren.size() > 2 * dirtyChildrenCount + DIRTY_CHILDREN_THRESHOLD) {
+                    compactDirtyChildren();
+                }
                 dirtyChildren.add(node);
             }
             ++dirtyChildrenCount;
         } else {
-            if (dirtyChildren != null) {
-                dirtyChildren.remove(node);
-            }
+            // the node is not removed from dirtyChildren, which would be a linear
+            // operation for every removed child; stale entries are dropped when
+            // the list is compacted
             --dirtyChildrenCount;
         }
     }
 
+    /**
+     * Removes the entries from dirtyChildren that are no longer dirty children
+     * of this parent, as well as duplicate entries of nodes that were excluded
+     * and included again. The order of the remaining entries is retained.
+     */
+    private void compactDirtyChildren() {
+        int dst = 0;
+        for (int src = 0, size = dirtyChildren.size(); src < size; ++src) {
+            Node node = dirtyChildren.get(src);
+            if (node.boundsChanged && node.getParent() == this) {
+                // temporarily clear the flag, so that duplicates are dropped
+                node.boundsChanged = false;
+                dirtyChildren.set(dst++, node);
+            }
+        }
+        dirtyChildren.subList(dst, dirtyChildren.size()).clear();
+        for (int i = 0; i < dst; ++i) {
+            dirtyChildren.get(i).boundsChanged = true;
+        }
+    }
+
     private void childIncluded(final Node node) {
         // assert node.isVisible();
         cachedBoundsInvalid = true;
@@ -1720,6 +1813,10 @@ public abstract non-sealed class Parent extends Node {
             return;
         }
 
+        if (dirtyChildren != null && dirtyChildrenCount > 0) {
+            compactDirtyChildren();
+        }
+
         if ((dirtyChildrenCount == 0) ||
                 !updateCachedBounds(dirtyChildren != null
                                         ? dirtyChildren : children,
@@ -1946,6 +2043,10 @@ public abstract non-sealed class Parent extends Node {
 
         cachedBoundsInvalid = true;
 
+        if (pickIndex != null) {
+            pickIndex.invalidate(node);
+        }
+
         // mark the node such that the parent knows that the child's bounds
         // are not in sync with this parent. In this way, when the bounds
         // need to be computed, we'll come back and figure out the new bounds
@@ -1969,6 +2070,10 @@ public abstract non-sealed class Parent extends Node {
 
         if (node.isVisible()) {
             childIncluded(node);
+            // the index is not notified of bounds changes of invisible children
+            if (pickIndex != null) {
+                pickIndex.invalidate(node);
+            }
         } else {
             childExcluded(node);
         }
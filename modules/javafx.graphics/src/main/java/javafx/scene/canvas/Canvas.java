@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,9 @@
 
 package javafx.scene.canvas;
 
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import javafx.application.Platform;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.DoublePropertyBase;
 import javafx.geometry.NodeOrientation;
@@ -108,6 +111,12 @@ public non-sealed class Canvas extends Node {
 
     private GraphicsContext theContext;
 
+    // true if this canvas only records commands for a DisplayList
+    private final boolean recording;
+
+    // the latest frame passed to submitFrame that has not been drawn yet
+    private final AtomicReference<DisplayList> pendingFrame = new AtomicReference<>();
+
     {
         // To initialize the class helper at the begining each constructor of this class
         CanvasHelper.initHelper(this);
@@ -127,6 +136,11 @@ public non-sealed class Canvas extends Node {
      * @param height height of the canvas
      */
     public Canvas(double width, double height) {
+        this(width, height, false);
+    }
+
+    Canvas(double width, double height, boolean recording) {
+        this.recording = recording;
         this.recentvalsizes = new int[SIZE_HISTORY];
         this.recentobjsizes = new int[SIZE_HISTORY];
         setNodeOrientation(NodeOrientation.LEFT_TO_RIGHT);
@@ -142,6 +156,12 @@ public non-sealed class Canvas extends Node {
     }
 
     GrowableDataBuffer getBuffer() {
+        if (recording) {
+            if (current == null) {
+                current = GrowableDataBuffer.getBuffer(DEFAULT_VAL_BUF_SIZE, DEFAULT_OBJ_BUF_SIZE);
+            }
+            return current;
+        }
         NodeHelper.markDirty(this, DirtyBits.NODE_CONTENTS);
         NodeHelper.markDirty(this, DirtyBits.NODE_FORCE_SYNC);
         if (current == null) {
@@ -157,6 +177,20 @@ public non-sealed class Canvas extends Node {
         return rendererBehind;
     }
 
+    boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Returns the commands recorded by a recording canvas and starts a new
+     * recording.
+     */
+    GrowableDataBuffer takeRecording() {
+        GrowableDataBuffer buf = current;
+        current = null;
+        return buf;
+    }
+
     /**
      * returns the {@code GraphicsContext} associated with this {@code Canvas}.
      * @return the {@code GraphicsContext} associated with this {@code Canvas}
@@ -168,6 +202,48 @@ public non-sealed class Canvas extends Node {
         return theContext;
     }
 
+    /**
+     * Replaces the content of this canvas with the given display list.
+     * <p>
+     * Unlike the other methods that modify a {@code Canvas}, this method can
+     * be called from any thread, even when the canvas is attached to a scene.
+     * Together with {@link DisplayList#record(java.util.function.Consumer)},
+     * which can also be called from any thread, it allows the frames of an
+     * animated canvas to be built on a background thread in parallel with
+     * the pulse.
+     * <p>
+     * The frame is handed off to the JavaFX Application Thread, where the
+     * canvas is cleared and the display list is drawn with the default
+     * rendering attributes, the identity transform and no clip, as part of
+     * the next pulse. If several frames are submitted before that happens,
+     * only the most recent one is drawn. The rendering attributes of the
+     * {@link GraphicsContext} of this canvas are not changed, and commands
+     * that are issued through it on the JavaFX Application Thread are drawn
+     * on top of the frame.
+     *
+     * @param frame the display list that replaces the content of this canvas
+     * @throws NullPointerException if {@code frame} is {@code null}
+     * @throws IllegalStateException if this canvas belongs to a
+     *         {@code GraphicsContext} that records a display list
+     * @since 28
+     */
+    public final void submitFrame(DisplayList frame) {
+        Objects.requireNonNull(frame, "frame cannot be null");
+        if (recording) {
+            throw new IllegalStateException("Cannot submit a frame while recording a display list");
+        }
+        if (pendingFrame.getAndSet(frame) == null) {
+            Platform.runLater(this::drawPendingFrame);
+        }
+    }
+
+    private void drawPendingFrame() {
+        DisplayList frame = pendingFrame.getAndSet(null);
+        if (frame != null) {
+            getGraphicsContext2D().drawFrame(frame);
+        }
+    }
+
     /**
      * Defines the width of the canvas.
      *
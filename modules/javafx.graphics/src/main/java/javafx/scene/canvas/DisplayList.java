@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.canvas;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import com.sun.javafx.sg.prism.GrowableDataBuffer;
+
+/**
+ * An immutable sequence of drawing commands that can be drawn onto any
+ * {@link Canvas} any number of times.
+ * <p>
+ * A display list is created by {@linkplain #record(Consumer) recording} the
+ * calls made on a {@link GraphicsContext}. The calls are encoded once, when
+ * the display list is recorded, and drawing the display list with
+ * {@link GraphicsContext#drawDisplayList(DisplayList)} only adds a reference
+ * to the recorded commands to the canvas. This makes display lists useful
+ * for content that is drawn over and over again, like the background or grid
+ * of a chart that is redrawn every frame.
+ * <p>
+ * The commands are recorded with the default rendering attributes and an
+ * identity transform, and they are drawn with the current transform and clip
+ * of the {@code GraphicsContext} that draws the display list.
+ * Since a display list has no pixels of its own, the
+ * {@link GraphicsContext#getPixelWriter() PixelWriter} is not available while
+ * recording. The effect of {@link GraphicsContext#applyEffect(javafx.scene.effect.Effect)}
+ * applies to the entire canvas that the display list is drawn onto.
+ * <p>
+ * Display lists can be recorded on any thread, and a display list can be
+ * drawn onto canvases on any thread once it has been recorded, subject to the
+ * threading rules of the canvas.
+ *
+ * <p>Example:</p>
+ *
+ * <pre>{@code
+ * DisplayList grid = DisplayList.record(gc -> {
+ *     gc.setStroke(Color.LIGHTGRAY);
+ *     for (int x = 0; x <= 500; x += 10) {
+ *         gc.strokeLine(x, 0, x, 500);
+ *     }
+ * });
+ *
+ * GraphicsContext gc = canvas.getGraphicsContext2D();
+ * gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+ * gc.drawDisplayList(grid);
+ * }</pre>
+ *
+ * @see GraphicsContext#drawDisplayList(DisplayList)
+ * @since 28
+ */
+public final class DisplayList {
+
+    // null if no commands were recorded
+    private final GrowableDataBuffer commands;
+
+    private DisplayList(GrowableDataBuffer commands) {
+        this.commands = commands;
+    }
+
+    /**
+     * Records a display list.
+     * <p>
+     * The specified {@code drawing} function is called once with a
+     * {@code GraphicsContext} that records all calls made on it into the new
+     * display list. The {@code GraphicsContext} must not be used after the
+     * function returns.
+     *
+     * @param drawing the function that draws the content of the display list
+     * @return the new display list
+     * @throws NullPointerException if {@code drawing} is {@code null}
+     */
+    public static DisplayList record(Consumer<? super GraphicsContext> drawing) {
+        Objects.requireNonNull(drawing, "drawing cannot be null");
+        Canvas canvas = new Canvas(0, 0, true);
+        drawing.accept(canvas.getGraphicsContext2D());
+        GrowableDataBuffer buf = canvas.takeRecording();
+        if (buf == null) {
+            return new DisplayList(null);
+        }
+        GrowableDataBuffer commands = buf.isEmpty() ? null : buf.copy();
+        GrowableDataBuffer.returnBuffer(buf);
+        return new DisplayList(commands);
+    }
+
+    GrowableDataBuffer getCommands() {
+        return commands;
+    }
+}
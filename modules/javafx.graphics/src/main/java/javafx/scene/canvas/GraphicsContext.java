@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -738,6 +738,45 @@ public final class GraphicsContext {
         markPathDirty();
     }
 
+    private static boolean checkBatch(double coords[], int count, int coordsPerItem) {
+        if (coords == null || count <= 0) return false;
+        if ((long) count * coordsPerItem > coords.length) {
+            throw new IndexOutOfBoundsException("Not enough coordinates for " + count + " items");
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the shapes of a batch can be rendered together and
+     * still produce the same pixels as rendering them one at a time.
+     * A clip, an effect or a blend mode other than SRC_OVER is applied to
+     * each rendering operation as a whole, so overlapping shapes within a
+     * single operation would be combined differently.
+     */
+    private boolean canBatch() {
+        return curState.blendop == BlendMode.SRC_OVER &&
+               curState.numClipPaths == 0 &&
+               curState.effect == null;
+    }
+
+    private void writeBatch(double coords[], int count, int coordsPerItem,
+                            float extra, byte command)
+    {
+        int n = count * coordsPerItem;
+        // The coordinates are sent as a single packed array so that the
+        // whole batch costs one token in the buffer.
+        float packed[] = new float[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = (float) coords[i];
+        }
+        updateTransform();
+        GrowableDataBuffer buf = getBuffer();
+        buf.putByte(command);
+        buf.putInt(count);
+        buf.putFloat(extra);
+        buf.putObject(packed);
+    }
+
     private void writeImage(Image img,
                             double dx, double dy, double dw, double dh)
     {
@@ -809,6 +848,10 @@ public final class GraphicsContext {
     }
 
     void updateDimensions() {
+        if (theCanvas.isRecording()) {
+            // a display list does not have dimensions of its own
+            return;
+        }
         GrowableDataBuffer buf = getBuffer();
         buf.putByte(NGCanvas.SET_DIMS);
         buf.putFloat((float) theCanvas.getWidth());
@@ -816,6 +859,10 @@ public final class GraphicsContext {
     }
 
     private void reset() {
+        if (theCanvas.isRecording()) {
+            // a display list must not clear the canvas it is drawn onto
+            return;
+        }
         GrowableDataBuffer buf = getBuffer();
         // Only reset if we have a significant amount of data to omit,
         // this prevents a common occurrence of "setFill(bg); fillRect();"
@@ -826,22 +873,43 @@ public final class GraphicsContext {
         if (buf.writeValuePosition() > Canvas.DEFAULT_VAL_BUF_SIZE ||
             theCanvas.isRendererFallingBehind())
         {
-            buf.reset();
-            buf.putByte(NGCanvas.RESET);
-            updateDimensions();
-            txdirty = true;
-            pathDirty = true;
-            State s = this.curState;
-            int numClipPaths = this.curState.numClipPaths;
-            this.curState = new State();
-            for (int i = 0; i < numClipPaths; i++) {
-                Path2D clip = clipStack.get(i);
-                buf.putByte(NGCanvas.PUSH_CLIP);
-                buf.putObject(clip);
-            }
-            this.curState.numClipPaths = numClipPaths;
-            s.restore(this);
+            resetBuffer(null);
+        }
+    }
+
+    /**
+     * Discards all commands in the buffer and clears the canvas, optionally
+     * drawing a display list with the default attributes before the state
+     * of this context is sent again.
+     */
+    private void resetBuffer(GrowableDataBuffer frame) {
+        GrowableDataBuffer buf = getBuffer();
+        buf.reset();
+        buf.putByte(NGCanvas.RESET);
+        updateDimensions();
+        if (frame != null) {
+            buf.putByte(NGCanvas.DRAW_DISPLAY_LIST);
+            buf.putObject(frame);
         }
+        txdirty = true;
+        pathDirty = true;
+        State s = this.curState;
+        int numClipPaths = this.curState.numClipPaths;
+        this.curState = new State();
+        for (int i = 0; i < numClipPaths; i++) {
+            Path2D clip = clipStack.get(i);
+            buf.putByte(NGCanvas.PUSH_CLIP);
+            buf.putObject(clip);
+        }
+        this.curState.numClipPaths = numClipPaths;
+        s.restore(this);
+    }
+
+    /**
+     * Replaces the content of the canvas with the given display list.
+     */
+    void drawFrame(DisplayList frame) {
+        resetBuffer(frame.getCommands());
     }
 
     private void resetIfCovers(Paint p, double x, double y, double w, double h) {
@@ -2647,6 +2715,113 @@ public final class GraphicsContext {
         }
     }
 
+    /**
+     * Fills many rectangles using the current fill paint.
+     * The result is the same as calling {@link #fillRect(double, double, double, double)}
+     * for each rectangle in turn. The rectangles are sent to the canvas and
+     * rendered as a single batch, unless a clip, an effect or a blend mode
+     * other than {@link BlendMode#SRC_OVER SRC_OVER} is set, in which case
+     * they are rendered one at a time.
+     * A {@code null} value for the array will be ignored and nothing will be drawn.
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#fill-attr">fill</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param coords array containing the x, y, width and height of each
+     *        rectangle in turn, or null.
+     * @param nRects the number of rectangles.
+     * @throws IndexOutOfBoundsException if {@code coords} contains fewer
+     *         than {@code 4 * nRects} values
+     * @since 28
+     */
+    public void fillRects(double coords[], int nRects) {
+        if (!checkBatch(coords, nRects, 4)) return;
+        if (canBatch()) {
+            writeBatch(coords, nRects, 4, 0f, NGCanvas.FILL_RECTS);
+        } else {
+            for (int i = 0, n = nRects * 4; i < n; i += 4) {
+                fillRect(coords[i], coords[i + 1], coords[i + 2], coords[i + 3]);
+            }
+        }
+    }
+
+    /**
+     * Strokes many lines using the current stroke paint.
+     * The result is the same as calling {@link #strokeLine(double, double, double, double)}
+     * for each line in turn. The lines are sent to the canvas and rendered
+     * as a single batch, unless a clip, an effect or a blend mode other than
+     * {@link BlendMode#SRC_OVER SRC_OVER} is set, in which case they are
+     * rendered one at a time.
+     * A {@code null} value for the array will be ignored and nothing will be drawn.
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#strk-attr">stroke</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param coords array containing the x1, y1, x2 and y2 coordinates of
+     *        each line in turn, or null.
+     * @param nLines the number of lines.
+     * @throws IndexOutOfBoundsException if {@code coords} contains fewer
+     *         than {@code 4 * nLines} values
+     * @since 28
+     */
+    public void strokeLines(double coords[], int nLines) {
+        if (!checkBatch(coords, nLines, 4)) return;
+        if (canBatch()) {
+            writeBatch(coords, nLines, 4, 0f, NGCanvas.STROKE_LINES);
+        } else {
+            for (int i = 0, n = nLines * 4; i < n; i += 4) {
+                strokeLine(coords[i], coords[i + 1], coords[i + 2], coords[i + 3]);
+            }
+        }
+    }
+
+    /**
+     * Fills a square of the given size centered on each of the given points,
+     * using the current fill paint. This is useful to draw the markers of
+     * scatter plots with many points.
+     * The result is the same as calling
+     * {@link #fillRect(double, double, double, double)} for each square in
+     * turn. The squares are sent to the canvas and rendered as a single
+     * batch, unless a clip, an effect or a blend mode other than
+     * {@link BlendMode#SRC_OVER SRC_OVER} is set, in which case they are
+     * rendered one at a time.
+     * A {@code null} value for the array will be ignored and nothing will be drawn.
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#fill-attr">fill</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param coords array containing the x and y coordinates of each point
+     *        in turn, or null.
+     * @param nPoints the number of points.
+     * @param size the width and height of the square drawn for each point.
+     * @throws IndexOutOfBoundsException if {@code coords} contains fewer
+     *         than {@code 2 * nPoints} values
+     * @since 28
+     */
+    public void fillPoints(double coords[], int nPoints, double size) {
+        if (size <= 0 || !checkBatch(coords, nPoints, 2)) return;
+        if (canBatch()) {
+            writeBatch(coords, nPoints, 2, (float) size, NGCanvas.FILL_POINTS);
+        } else {
+            double half = size / 2;
+            for (int i = 0, n = nPoints * 2; i < n; i += 2) {
+                fillRect(coords[i] - half, coords[i + 1] - half, size, size);
+            }
+        }
+    }
+
     /**
      * Draws an image at the given x, y position using the width
      * and height of the given image.
@@ -2721,6 +2896,33 @@ public final class GraphicsContext {
         writeImage(img, dx, dy, dw, dh, sx, sy, sw, sh);
     }
 
+    /**
+     * Draws the commands of the given display list.
+     * A {@code null} display list value will be ignored.
+     * <p>
+     * The display list is drawn with the current transform and clip of this
+     * {@code GraphicsContext}, so that a transform applied here affects all
+     * of its commands. All other rendering attributes start out with their
+     * default values when the display list is drawn, and none of the
+     * attributes of this {@code GraphicsContext} are changed by it.
+     * The current path is not affected either.
+     * </p>
+     *
+     * @param displayList the display list to be drawn or null.
+     * @see DisplayList#record(java.util.function.Consumer)
+     * @since 28
+     */
+    public void drawDisplayList(DisplayList displayList) {
+        if (displayList == null || displayList.getCommands() == null) return;
+        updateTransform();
+        GrowableDataBuffer buf = getBuffer();
+        buf.putByte(NGCanvas.DRAW_DISPLAY_LIST);
+        buf.putObject(displayList.getCommands());
+        // The display list replaces the PG layer path, so our path needs
+        // to be sent again before it is used.
+        markPathDirty();
+    }
+
     private PixelWriter writer;
     /**
      * Returns a {@link PixelWriter} object that can be used to modify
@@ -2733,8 +2935,13 @@ public final class GraphicsContext {
      *
      * @return the {@code PixelWriter} for modifying the pixels of this
      *         {@code Canvas}
+     * @throws UnsupportedOperationException if this {@code GraphicsContext}
+     *         records a {@link DisplayList}
      */
     public PixelWriter getPixelWriter() {
+        if (theCanvas.isRecording()) {
+            throw new UnsupportedOperationException("Cannot write pixels to a display list");
+        }
         if (writer == null) {
             writer = new PixelWriter() {
                 @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -121,6 +121,9 @@ import com.sun.javafx.logging.PlatformLogger;
  * @since JavaFX 8.0
  */
 public class TriangleMesh extends Mesh {
+    // The maximum number of modified sub-ranges tracked per array
+    private static final int MAX_DIRTY_RANGES = 16;
+
     static {
         TriangleMeshHelper.setTriangleMeshAccessor(new TriangleMeshHelper.TriangleMeshAccessor() {
             @Override
@@ -857,6 +860,15 @@ public class TriangleMesh extends Mesh {
         protected int dirtyRangeFrom;
         protected int dirtyRangeLength;
 
+        /**
+         * The disjoint, ascending sub-ranges of [dirtyRangeFrom, dirtyRangeFrom + dirtyRangeLength)
+         * that were actually modified, so that scattered modifications of a large array only
+         * copy the modified elements when the array is synced. When the number of ranges
+         * reaches MAX_DIRTY_RANGES, the two ranges with the smallest gap are merged.
+         */
+        private final int[] dirtyRanges = new int[MAX_DIRTY_RANGES * 2];
+        private int dirtyRangeCount;
+
         public Listener(T array) {
             this.array = array;
             array.addListener(this);
@@ -870,6 +882,7 @@ public class TriangleMesh extends Mesh {
         protected final void addDirtyRange(int from, int length) {
             if (length > 0 && !dirtyInFull) {
                 markDirty();
+                insertDirtyRange(from, from + length);
                 if (dirtyRangeLength == 0) {
                     dirtyRangeFrom = from;
                     dirtyRangeLength = length;
@@ -882,6 +895,46 @@ public class TriangleMesh extends Mesh {
             }
         }
 
+        private void insertDirtyRange(int from, int to) {
+            final int[] ranges = dirtyRanges;
+
+            // find the first range that ends at or after 'from', and merge all ranges that
+            // overlap or touch [from, to) into it
+            int first = 0;
+            while (first < dirtyRangeCount && ranges[first * 2 + 1] < from) {
+                first++;
+            }
+            int last = first;
+            while (last < dirtyRangeCount && ranges[last * 2] <= to) {
+                from = Math.min(from, ranges[last * 2]);
+                to = Math.max(to, ranges[last * 2 + 1]);
+                last++;
+            }
+
+            final int removed = last - first;
+            if (removed != 1) {
+                System.arraycopy(ranges, last * 2, ranges, (first + 1) * 2, (dirtyRangeCount - last) * 2);
+                dirtyRangeCount += 1 - removed;
+            }
+            ranges[first * 2] = from;
+            ranges[first * 2 + 1] = to;
+
+            if (dirtyRangeCount == MAX_DIRTY_RANGES) {
+                int minGap = Integer.MAX_VALUE;
+                int merge = 0;
+                for (int i = 1; i < dirtyRangeCount; i++) {
+                    int gap = ranges[i * 2] - ranges[i * 2 - 1];
+                    if (gap < minGap) {
+                        minGap = gap;
+                        merge = i;
+                    }
+                }
+                ranges[merge * 2 - 1] = ranges[merge * 2 + 1];
+                System.arraycopy(ranges, (merge + 1) * 2, ranges, merge * 2, (dirtyRangeCount - merge - 1) * 2);
+                dirtyRangeCount--;
+            }
+        }
+
         protected void markDirty() {
             dirty = true;
             TriangleMesh.this.setDirty(true);
@@ -911,6 +964,7 @@ public class TriangleMesh extends Mesh {
                 this.dirty = false;
                 dirtyRangeFrom = dirtyRangeLength = 0;
             }
+            dirtyRangeCount = 0;
         }
 
         @Override
@@ -925,7 +979,10 @@ public class TriangleMesh extends Mesh {
             }
             fromAndLengthIndices[0] = dirtyRangeFrom;
             fromAndLengthIndices[1] = dirtyRangeLength;
-            floatArray.copyTo(dirtyRangeFrom, array, dirtyRangeFrom, dirtyRangeLength);
+            for (int i = 0; i < dirtyRangeCount; i++) {
+                int from = dirtyRanges[i * 2];
+                floatArray.copyTo(from, array, from, dirtyRanges[i * 2 + 1] - from);
+            }
             return array;
         }
 
@@ -941,7 +998,10 @@ public class TriangleMesh extends Mesh {
             }
             fromAndLengthIndices[0] = dirtyRangeFrom;
             fromAndLengthIndices[1] = dirtyRangeLength;
-            intArray.copyTo(dirtyRangeFrom, array, dirtyRangeFrom, dirtyRangeLength);
+            for (int i = 0; i < dirtyRangeCount; i++) {
+                int from = dirtyRanges[i * 2];
+                intArray.copyTo(from, array, from, dirtyRanges[i * 2 + 1] - from);
+            }
             return array;
         }
     }
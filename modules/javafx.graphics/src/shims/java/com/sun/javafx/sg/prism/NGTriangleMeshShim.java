@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -54,6 +54,10 @@ public class NGTriangleMeshShim extends NGTriangleMesh {
         return super.test_getTexCoords();
     }
 
+    public static float[] test_getPoints(NGTriangleMesh triMesh) {
+        return triMesh.test_getPoints();
+    }
+
     public static BaseMesh test_getMesh(NGTriangleMesh triMesh) {
         return (BaseMesh) triMesh.test_getMesh();
     }
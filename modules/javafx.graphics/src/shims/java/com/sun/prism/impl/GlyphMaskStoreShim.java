@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import java.nio.file.Path;
+
+public class GlyphMaskStoreShim {
+
+    public static Object getStrike(Path dir, String key) {
+        return new GlyphMaskStore(dir).getStrike(key);
+    }
+
+    public static Object createStore(Path dir, long maxStrikeBytes, long maxAddedBytes, long maxDirBytes) {
+        return new GlyphMaskStore(dir, maxStrikeBytes, maxAddedBytes, maxDirBytes);
+    }
+
+    public static Object getStrike(Object store, String key) {
+        return ((GlyphMaskStore) store).getStrike(key);
+    }
+
+    public static void prune(Object store) {
+        ((GlyphMaskStore) store).prune();
+    }
+
+    public static void put(Object strike, int glyphCode, int subPixel,
+                           int originX, int originY, int width, int height,
+                           float xAdvance, byte[] data) {
+        ((GlyphMaskStore.Strike) strike).put(glyphCode, subPixel,
+                new GlyphMaskStore.Mask(originX, originY, width, height, xAdvance, 0, data));
+    }
+
+    public static void store(Object strike) {
+        ((GlyphMaskStore.Strike) strike).store();
+    }
+
+    /**
+     * Returns {originX, originY, width, height, xAdvance} of the cached mask,
+     * or null if the glyph is not cached.
+     */
+    public static int[] getMetrics(Object strike, int glyphCode, int subPixel) {
+        GlyphMaskStore.Mask mask = ((GlyphMaskStore.Strike) strike).get(glyphCode, subPixel);
+        if (mask == null) {
+            return null;
+        }
+        return new int[] { mask.originX, mask.originY, mask.width, mask.height, (int) mask.xAdvance };
+    }
+
+    public static byte[] getData(Object strike, int glyphCode, int subPixel) {
+        GlyphMaskStore.Mask mask = ((GlyphMaskStore.Strike) strike).get(glyphCode, subPixel);
+        return mask != null ? mask.data : null;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.sw;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.impl.shape.MaskData;
+import java.util.List;
+
+public class SWContextShim {
+
+    /**
+     * Rasterizes the shape in a single pass over the whole clip and returns
+     * the coverage of the clip, one value per pixel.
+     */
+    public static int[] rasterize(Shape shape, BasicStroke stroke, BaseTransform tr, Rectangle clip) {
+        var renderer = new SWContext.ParallelDMarlinShapeRenderer(1);
+        int[] coverage = new int[clip.width * clip.height];
+        add(coverage, clip, renderer.rasterizeBand(0, shape, stroke, tr, clip, clip, true));
+        return coverage;
+    }
+
+    /**
+     * Rasterizes the shape in the given number of bands and returns the sum
+     * of the coverage of all bands, so that pixels covered by more than one
+     * band show up as a difference to {@link #rasterize}.
+     */
+    public static int[] rasterizeBands(int bands, Shape shape, BasicStroke stroke, BaseTransform tr, Rectangle clip) {
+        var renderer = new SWContext.ParallelDMarlinShapeRenderer(bands);
+        int[] coverage = new int[clip.width * clip.height];
+        if (renderer.computeBounds(shape, stroke, tr, clip)) {
+            List<MaskData> masks = renderer.rasterizeBands(bands, shape, stroke, tr, true);
+            for (MaskData mask : masks) {
+                add(coverage, clip, mask);
+            }
+        }
+        return coverage;
+    }
+
+    private static void add(int[] coverage, Rectangle clip, MaskData mask) {
+        if (mask == null) {
+            return;
+        }
+        byte[] alpha = mask.getMaskBuffer().array();
+        int w = mask.getWidth();
+        for (int y = 0; y < mask.getHeight(); y++) {
+            for (int x = 0; x < w; x++) {
+                int dst = (mask.getOriginY() + y - clip.y) * clip.width + (mask.getOriginX() + x - clip.x);
+                coverage[dst] += alpha[y * w + x] & 0xff;
+            }
+        }
+    }
+}
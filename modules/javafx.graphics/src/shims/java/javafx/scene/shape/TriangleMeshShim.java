@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -33,4 +33,8 @@ public class TriangleMeshShim {
         return mesh.getPGMesh();
     }
 
+    public static void updatePG(Mesh mesh) {
+        mesh.updatePG();
+    }
+
 }
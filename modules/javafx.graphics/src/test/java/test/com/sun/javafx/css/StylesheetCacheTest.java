@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.css;
+
+import com.sun.javafx.css.StylesheetCacheShim;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import javafx.css.Rule;
+import javafx.css.Stylesheet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StylesheetCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeStylesheet(String name, String text) throws IOException {
+        return Files.writeString(tempDir.resolve(name), text);
+    }
+
+    private List<Path> cacheFiles(Path cacheDir) throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.filter(f -> f.toString().endsWith(".bss")).toList();
+        }
+    }
+
+    private static void assertSameRules(Stylesheet expected, Stylesheet actual) {
+        assertEquals(expected.getUrl(), actual.getUrl());
+        assertEquals(expected.getRules().size(), actual.getRules().size());
+        for (int i = 0; i < expected.getRules().size(); i++) {
+            Rule expectedRule = expected.getRules().get(i);
+            Rule actualRule = actual.getRules().get(i);
+            assertEquals(expectedRule.getSelectors(), actualRule.getSelectors());
+            assertEquals(expectedRule.getDeclarations(), actualRule.getDeclarations());
+        }
+    }
+
+    @Test
+    public void testParsedStylesheetIsStoredAndLoadedFromCache() throws IOException {
+        Path cacheDir = Files.createDirectory(tempDir.resolve("cache"));
+        Path css = writeStylesheet("test.css", """
+            .root { -fx-base: red; }
+            .button:hover, .label { -fx-padding: 1 2 3 4; -fx-text-fill: -fx-base; }
+            """);
+
+        Stylesheet parsed = StylesheetCacheShim.parse(css.toUri().toURL(), cacheDir);
+        assertEquals(1, cacheFiles(cacheDir).size());
+
+        Stylesheet cached = StylesheetCacheShim.parse(css.toUri().toURL(), cacheDir);
+        assertEquals(1, cacheFiles(cacheDir).size());
+        assertSameRules(parsed, cached);
+    }
+
+    @Test
+    public void testChangedStylesheetIsNotLoadedFromCache() throws IOException {
+        Path cacheDir = Files.createDirectory(tempDir.resolve("cache"));
+        Path css = writeStylesheet("test.css", ".root { -fx-base: red; }");
+        StylesheetCacheShim.parse(css.toUri().toURL(), cacheDir);
+
+        writeStylesheet("test.css", ".root { -fx-base: red; } .label { -fx-text-fill: blue; }");
+        Stylesheet stylesheet = StylesheetCacheShim.parse(css.toUri().toURL(), cacheDir);
+        assertEquals(2, stylesheet.getRules().size());
+        assertEquals(2, cacheFiles(cacheDir).size());
+    }
+
+    @Test
+    public void testCorruptCacheFileIsReplaced() throws IOException {
+        Path cacheDir = Files.createDirectory(tempDir.resolve("cache"));
+        Path css = writeStylesheet("test.css", ".root { -fx-base: red; }");
+        StylesheetCacheShim.parse(css.toUri().toURL(), cacheDir);
+        Path cacheFile = cacheFiles(cacheDir).get(0);
+        Files.write(cacheFile, new byte[] { 0x7f, 0x7f, 0x7f });
+
+        Stylesheet stylesheet = StylesheetCacheShim.parse(css.toUri().toURL(), cacheDir);
+        assertEquals(1, stylesheet.getRules().size());
+        assertTrue(Files.size(cacheFile) > 3);
+    }
+
+    @Test
+    public void testStylesheetWithImportIsNotCached() throws IOException {
+        Path cacheDir = Files.createDirectory(tempDir.resolve("cache"));
+        writeStylesheet("imported.css", ".label { -fx-text-fill: blue; }");
+        Path css = writeStylesheet("test.css", """
+            @import "imported.css";
+            .root { -fx-base: red; }
+            """);
+
+        Stylesheet stylesheet = StylesheetCacheShim.parse(css.toUri().toURL(), cacheDir);
+        assertEquals(2, stylesheet.getRules().size());
+        assertEquals(0, cacheFiles(cacheDir).size());
+    }
+
+    @Test
+    public void testStylesheetWithParseErrorsIsNotCached() throws IOException {
+        Path cacheDir = Files.createDirectory(tempDir.resolve("cache"));
+        Path css = writeStylesheet("test.css", """
+            .root { -fx-base: red; }
+            .label { -fx-font-size: 12px !!; }
+            """);
+
+        StylesheetCacheShim.parse(css.toUri().toURL(), cacheDir);
+        assertEquals(0, cacheFiles(cacheDir).size());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -195,6 +195,66 @@ public class DirtyRegionContainerTest {
         assertEquals(new RectBounds(0, 0, 50, 50), drc.getDirtyRegion(2));
     }
 
+    @Test
+    public void test_addDirtyRegion_more_than_15_regions() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(31);
+        for (int i = 0; i < 31; i++) {
+            drc.addDirtyRegion(new RectBounds(i * 20, 0, i * 20 + 10, 10));
+        }
+
+        assertEquals(31, drc.size());
+        for (int i = 0; i < 31; i++) {
+            assertEquals(new RectBounds(i * 20, 0, i * 20 + 10, 10), drc.getDirtyRegion(i));
+        }
+
+        drc.addDirtyRegion(new RectBounds(1000, 0, 1010, 10));
+        // compressing halves the number of regions before the new one is added
+        assertEquals(17, drc.size());
+    }
+
+    @Test
+    public void test_addDirtyRegion_merge_nearby() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(4, 100);
+        drc.addDirtyRegion(new RectBounds(0, 0, 10, 10));
+        drc.addDirtyRegion(new RectBounds(12, 0, 20, 10));
+
+        assertEquals(1, drc.size());
+        assertEquals(new RectBounds(0, 0, 20, 10), drc.getDirtyRegion(0));
+    }
+
+    @Test
+    public void test_addDirtyRegion_merge_far_apart() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(4, 100);
+        drc.addDirtyRegion(new RectBounds(0, 0, 10, 10));
+        drc.addDirtyRegion(new RectBounds(50, 50, 60, 60));
+
+        assertEquals(2, drc.size());
+        assertEquals(new RectBounds(0, 0, 10, 10), drc.getDirtyRegion(0));
+        assertEquals(new RectBounds(50, 50, 60, 60), drc.getDirtyRegion(1));
+    }
+
+    @Test
+    public void test_addDirtyRegion_merge_cascades() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(4, 100);
+        drc.addDirtyRegion(new RectBounds(0, 0, 10, 10));
+        drc.addDirtyRegion(new RectBounds(30, 0, 40, 10));
+        assertEquals(2, drc.size());
+
+        // after merging with one neighbour, the union is close enough to the other one
+        drc.addDirtyRegion(new RectBounds(12, 0, 28, 10));
+        assertEquals(1, drc.size());
+        assertEquals(new RectBounds(0, 0, 40, 10), drc.getDirtyRegion(0));
+    }
+
+    @Test
+    public void test_copy_keeps_merge_area() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(4, 100).copy();
+        drc.addDirtyRegion(new RectBounds(0, 0, 10, 10));
+        drc.addDirtyRegion(new RectBounds(12, 0, 20, 10));
+
+        assertEquals(1, drc.size());
+    }
+
     private DirtyRegionContainer getDRC_initialized() {
         DirtyRegionContainer drc = new DirtyRegionContainer(4);
         return drc.deriveWithNewRegions(nonIntersecting_3_Regions);
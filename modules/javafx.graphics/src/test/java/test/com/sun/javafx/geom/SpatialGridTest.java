@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.geom;
+
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.SpatialGrid;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpatialGridTest {
+
+    private final SpatialGrid<RectBounds> grid = new SpatialGrid<>((item, result) -> {
+        result.setBounds(item);
+        return result;
+    });
+
+    private int[] query(float minX, float minY, float maxX, float maxY) {
+        grid.clearResult();
+        grid.query(minX, minY, maxX, maxY);
+        int[] result = new int[grid.sortResult()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = grid.getResult(i);
+        }
+        return result;
+    }
+
+    @Test
+    public void testQueryReturnsIntersectingItemsInOrder() {
+        List<RectBounds> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(new RectBounds(i * 10, 0, i * 10 + 5, 5));
+        }
+        grid.update(items);
+
+        assertEquals(100, grid.size());
+        assertArrayEquals(new int[] {0}, query(0, 0, 0, 0));
+        assertArrayEquals(new int[] {1, 2, 3}, query(12, 2, 32, 3));
+        assertArrayEquals(new int[] {}, query(6, 0, 9, 5));
+        assertArrayEquals(new int[] {99}, query(995, 5, 2000, 2000));
+    }
+
+    @Test
+    @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+    public void testItemsAndQueriesWithUnboundedExtent() {
+        List<RectBounds> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(new RectBounds(i * 10, 0, i * 10 + 5, 5));
+        }
+        grid.update(items);
+
+        // The cell range of these queries is wider than an int in one or
+        // both dimensions
+        assertEquals(100, query(-Float.MAX_VALUE, -Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE).length);
+        assertEquals(100, query(Float.NEGATIVE_INFINITY, 0, Float.POSITIVE_INFINITY, 5).length);
+        assertArrayEquals(new int[] {2}, query(20, Float.NEGATIVE_INFINITY, 25, Float.POSITIVE_INFINITY));
+
+        // Items that grow after the cell size was chosen
+        items.get(5).setBounds(-Float.MAX_VALUE, 0, Float.MAX_VALUE, 5);
+        grid.invalidate(items.get(5));
+        items.get(7).setBounds(70, Float.NEGATIVE_INFINITY, 75, Float.POSITIVE_INFINITY);
+        grid.invalidate(items.get(7));
+        grid.update(items);
+
+        assertArrayEquals(new int[] {1, 5}, query(12, 2, 13, 3));
+        assertArrayEquals(new int[] {5}, query(-1e30f, 1, -1e29f, 2));
+        assertArrayEquals(new int[] {7}, query(71, 1e30f, 72, 1e31f));
+    }
+
+    @Test
+    public void testMultipleQueriesAreMerged() {
+        List<RectBounds> items = List.of(
+                new RectBounds(0, 0, 10, 10),
+                new RectBounds(20, 0, 30, 10),
+                new RectBounds(40, 0, 50, 10));
+        grid.update(items);
+
+        grid.clearResult();
+        grid.query(40, 0, 45, 5);
+        grid.query(0, 0, 5, 5);
+        grid.query(1, 1, 2, 2);
+        assertEquals(2, grid.sortResult());
+        assertEquals(0, grid.getResult(0));
+        assertEquals(2, grid.getResult(1));
+    }
+
+    @Test
+    public void testInvalidatedItemIsMoved() {
+        List<RectBounds> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            items.add(new RectBounds(i * 10, 0, i * 10 + 5, 5));
+        }
+        grid.update(items);
+
+        items.get(3).setBounds(500, 500, 505, 505);
+        grid.invalidate(items.get(3));
+        assertTrue(grid.isValid());
+        grid.update(items);
+
+        assertArrayEquals(new int[] {}, query(30, 0, 35, 5));
+        assertArrayEquals(new int[] {3}, query(500, 500, 500, 500));
+    }
+
+    @Test
+    public void testInvalidatedGridIsRebuilt() {
+        List<RectBounds> items = new ArrayList<>(List.of(
+                new RectBounds(0, 0, 10, 10),
+                new RectBounds(20, 0, 30, 10)));
+        grid.update(items);
+
+        items.add(0, new RectBounds(20, 0, 30, 10));
+        grid.invalidate();
+        assertFalse(grid.isValid());
+        grid.update(items);
+
+        assertTrue(grid.isValid());
+        assertArrayEquals(new int[] {0, 2}, query(25, 5, 25, 5));
+    }
+
+    @Test
+    public void testLargeAndEmptyItems() {
+        List<RectBounds> items = new ArrayList<>();
+        items.add(new RectBounds(-10000, -10000, 10000, 10000));
+        items.add(new RectBounds());
+        for (int i = 0; i < 10; i++) {
+            items.add(new RectBounds(i * 10, 0, i * 10 + 5, 5));
+        }
+        grid.update(items);
+
+        assertArrayEquals(new int[] {0, 2}, query(1, 1, 1, 1));
+        assertArrayEquals(new int[] {0}, query(5000, 5000, 5000, 5000));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,16 +25,35 @@
 
 package test.com.sun.javafx.iio.png;
 
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageLoadListener;
+import com.sun.javafx.iio.ImageLoader;
+import com.sun.javafx.iio.ImageMetadata;
 import com.sun.javafx.iio.png.PNGImageLoader2;
+import com.sun.javafx.iio.png.PNGImageLoader2Shim;
 import test.com.sun.javafx.iio.ImageTestHelper;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class PNGImageLoaderTest {
 
@@ -86,4 +105,89 @@ public class PNGImageLoaderTest {
             testImage(stream);
         });
     }
+
+    private static byte[] createLargeImage(boolean interlaced) throws IOException {
+        // large enough to be inflated on a worker thread in parallel mode
+        BufferedImage bImg = new BufferedImage(1024, 512, BufferedImage.TYPE_INT_RGB);
+        ImageTestHelper.drawImageRandom(bImg);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+            ImageWriteParam iwp = writer.getDefaultWriteParam();
+            iwp.setProgressiveMode(interlaced
+                    ? ImageWriteParam.MODE_DEFAULT
+                    : ImageWriteParam.MODE_DISABLED);
+            writer.setOutput(ios);
+            try {
+                writer.write(null, new IIOImage(bImg, null, null), iwp);
+            } finally {
+                writer.dispose();
+            }
+        }
+        byte[] data = out.toByteArray();
+        assertTrue(1024 * 512 * 3 >= PNGImageLoader2Shim.MIN_PARALLEL_SIZE);
+        return data;
+    }
+
+    private static byte[] loadPixels(byte[] data, boolean parallel) throws IOException {
+        PNGImageLoader2 loader = new PNGImageLoader2(new ByteArrayInputStream(data));
+        PNGImageLoader2Shim.setParallel(loader, parallel);
+        ImageFrame frame = loader.load(0, 0, 0, true, true, 1, 1);
+        ByteBuffer buffer = (ByteBuffer) frame.getImageData();
+        return Arrays.copyOf(buffer.array(), buffer.capacity());
+    }
+
+    private void testParallelDecoding(boolean interlaced) throws IOException {
+        byte[] data = createLargeImage(interlaced);
+        assertArrayEquals(loadPixels(data, false), loadPixels(data, true));
+    }
+
+    @Test
+    public void testParallelDecoding() throws IOException {
+        testParallelDecoding(false);
+    }
+
+    @Test
+    public void testParallelDecodingInterlaced() throws IOException {
+        testParallelDecoding(true);
+    }
+
+    @Test
+    @Timeout(value=10000, unit=TimeUnit.MILLISECONDS)
+    public void testParallelDecodingOfTruncatedImage() throws IOException {
+        byte[] data = createLargeImage(false);
+        byte[] truncated = Arrays.copyOf(data, data.length / 2);
+        assertThrows(IOException.class, () -> loadPixels(truncated, true));
+    }
+
+    private void testProgress(boolean parallel) throws IOException {
+        PNGImageLoader2 loader = new PNGImageLoader2(new ByteArrayInputStream(createLargeImage(false)));
+        PNGImageLoader2Shim.setParallel(loader, parallel);
+        List<Float> progress = new ArrayList<>();
+        loader.addListener(new ImageLoadListener() {
+            @Override
+            public void imageLoadProgress(ImageLoader l, float percentageComplete) {
+                progress.add(percentageComplete);
+            }
+
+            @Override public void imageLoadWarning(ImageLoader l, String message) {}
+            @Override public void imageLoadMetaData(ImageLoader l, ImageMetadata metadata) {}
+        });
+        loader.load(0, 0, 0, true, true, 1, 1);
+        assertTrue(progress.size() > 1);
+        for (int i = 1; i < progress.size(); i++) {
+            assertTrue(progress.get(i) > progress.get(i - 1));
+        }
+        assertEquals(100f, (float) progress.get(progress.size() - 1));
+    }
+
+    @Test
+    public void testProgress() throws IOException {
+        testProgress(false);
+    }
+
+    @Test
+    public void testParallelProgress() throws IOException {
+        testProgress(true);
+    }
 }
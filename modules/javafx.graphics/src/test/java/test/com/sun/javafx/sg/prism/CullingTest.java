@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,6 +32,7 @@ import com.sun.javafx.geom.transform.GeneralTransform3D;
 import com.sun.javafx.sg.prism.NGGroup;
 import com.sun.javafx.sg.prism.NGNode;
 import com.sun.javafx.sg.prism.NGNodeShim;
+import com.sun.prism.impl.PrismSettings;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -233,4 +234,101 @@ public class CullingTest extends NGTestBase {
         assertEquals(2 | (1 << 2), NGNodeShim.cullingBits(gbn));
         assertEquals(1 << 2, NGNodeShim.cullingBits(bn1));
     }
+
+    @Test
+    public void test_rectangle_group_beyond_16_regions() {
+        NGNode bn1 = createRectangle(1, 1, 2, 2);
+        NGNode bn2 = createRectangle(291, 1, 2, 2);
+        NGNode gbn = createGroup(bn1, bn2);
+
+        RectBounds[] regions = new RectBounds[30];
+        for (int i = 0; i < regions.length; i++) {
+            regions[i] = new RectBounds(i * 10, 0, i * 10 + 5, 5);
+        }
+        DirtyRegionContainer drc = new DirtyRegionContainer(regions.length);
+        drc.deriveWithNewRegions(regions);
+        NGNodeShim.markCullRegions(gbn,drc, -1, BaseTransform.IDENTITY_TRANSFORM, new GeneralTransform3D());
+
+        long groupBits = 0;
+        for (int i = 0; i < regions.length; i++) {
+            groupBits |= 1L << (2 * i);
+        }
+        assertEquals(groupBits, NGNodeShim.cullingBits(gbn));
+        assertEquals(2L, NGNodeShim.cullingBits(bn1));
+        assertEquals(2L << 58, NGNodeShim.cullingBits(bn2));
+    }
+
+    private static TestNGRectangle[] createGrid(int columns, int rows) {
+        TestNGRectangle[] rects = new TestNGRectangle[columns * rows];
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < columns; x++) {
+                rects[y * columns + x] = createRectangle(x * 10, y * 10, 5, 5);
+            }
+        }
+        return rects;
+    }
+
+    private static long expectedCullingBits(NGNode node, DirtyRegionContainer drc, BaseTransform tx) {
+        RectBounds bounds = node.getCompleteBounds(new RectBounds(), tx).flattenInto(new RectBounds());
+        long bits = 0;
+        for (int i = 0; i < drc.size(); i++) {
+            RectBounds region = drc.getDirtyRegion(i);
+            if (region.intersects(bounds)) {
+                bits |= (region.contains(bounds) ? 2L : 1L) << (2 * i);
+            }
+        }
+        return bits;
+    }
+
+    private static void assertCullingBits(NGNode[] nodes, DirtyRegionContainer drc, BaseTransform tx) {
+        for (NGNode n : nodes) {
+            assertEquals(expectedCullingBits(n, drc, tx), NGNodeShim.cullingBits(n));
+        }
+    }
+
+    @Test
+    public void test_large_group_marks_intersecting_children() {
+        TestNGRectangle[] rects = createGrid(40, Math.max(20, PrismSettings.cullIndexThreshold / 40 + 1));
+        NGNode gbn = createGroup(rects);
+        BaseTransform tx = BaseTransform.getTranslateInstance(50, 50);
+
+        DirtyRegionContainer drc = new DirtyRegionContainer(2);
+        drc.deriveWithNewRegions(new RectBounds[]{new RectBounds(50, 50, 62, 62), new RectBounds(153, 153, 200, 157)});
+        NGNodeShim.markCullRegions(gbn, drc, -1, tx, new GeneralTransform3D());
+        assertCullingBits(rects, drc, tx);
+        assertEquals(1L << 2, NGNodeShim.cullingBits(rects[10 * 40 + 11]));
+
+        // bits of children that no longer intersect a dirty region are cleared
+        drc.deriveWithNewRegions(new RectBounds[]{new RectBounds(95, 95, 110, 110)});
+        NGNodeShim.markCullRegions(gbn, drc, -1, tx, new GeneralTransform3D());
+        assertCullingBits(rects, drc, tx);
+        assertEquals(0, NGNodeShim.cullingBits(rects[0]));
+
+        // moved children are found at their new position
+        translate(rects[0], 55, 55);
+        translate(rects[1], 1000, 1000);
+        NGNodeShim.markCullRegions(gbn, drc, -1, tx, new GeneralTransform3D());
+        assertCullingBits(rects, drc, tx);
+        assertEquals(2L, NGNodeShim.cullingBits(rects[0]));
+    }
+
+    @Test
+    public void test_large_group_renders_intersecting_children() {
+        TestNGRectangle[] rects = createGrid(40, Math.max(20, PrismSettings.cullIndexThreshold / 40 + 1));
+        NGNode gbn = createGroup(rects);
+
+        DirtyRegionContainer drc = new DirtyRegionContainer(1);
+        drc.deriveWithNewRegions(new RectBounds[]{new RectBounds(12, 12, 33, 23)});
+        NGNodeShim.markCullRegions(gbn, drc, -1, BaseTransform.IDENTITY_TRANSFORM, new GeneralTransform3D());
+
+        TestGraphics g = new TestGraphics();
+        g.setHasPreCullingBits(true);
+        g.setClipRectIndex(0);
+        gbn.render(g);
+        for (int i = 0; i < rects.length; i++) {
+            int x = i % 40, y = i / 40;
+            boolean intersects = x >= 1 && x <= 3 && y >= 1 && y <= 2;
+            assertEquals(intersects, rects[i].rendered(), "child " + i);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -279,6 +279,20 @@ public class GrowableDataBufferTest {
         assertFalse(gdb.hasObjects());
     }
 
+    @Test public void testCopy() {
+        GrowableDataBuffer gdb = GrowableDataBuffer.getBuffer(NUM_BYTES, NUM_VALUES);
+        fill(gdb, true, true);
+        GrowableDataBuffer copy = gdb.copy();
+        assertTrue(copy.valueCapacity() == gdb.writeValuePosition());
+        assertTrue(copy.objectCapacity() == gdb.writeObjectPosition());
+        test(gdb, true, true);
+        assertTrue(copy.hasValues());
+        assertTrue(copy.hasObjects());
+        test(copy, true, true);
+        assertFalse(copy.hasValues());
+        assertFalse(copy.hasObjects());
+    }
+
     @Test public void testWriteAndReadUbytes() {
         GrowableDataBuffer gdb = GrowableDataBuffer.getBuffer(NUM_BYTES, NUM_VALUES);
         putUBytes(gdb);
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.sg.prism;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.sg.prism.RegionImageCacheShim;
+import com.sun.prism.Graphics;
+import com.sun.prism.RTTexture;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RegionImageCacheTest {
+
+    private static final int SIZE = 200;
+
+    private final Graphics g = TestGraphics.TEST_GRAPHICS;
+
+    private Object createCache(int maxPages) {
+        return RegionImageCacheShim.create(g.getResourceFactory(), maxPages);
+    }
+
+    private boolean lookup(Object cache, int key) {
+        return RegionImageCacheShim.getImageLocation(cache, key, new Rectangle(0, 0, SIZE, SIZE), g);
+    }
+
+    /**
+     * Adds images with consecutive keys starting at {@code firstKey} until
+     * one of them does not fit the page of the first one, and returns the
+     * keys that were stored on that page.
+     */
+    private List<Integer> fillPage(Object cache, int firstKey) {
+        List<Integer> keys = new ArrayList<>();
+        assertTrue(lookup(cache, firstKey));
+        RTTexture page = RegionImageCacheShim.getBackingStore(cache);
+        keys.add(firstKey);
+        for (int key = firstKey + 1; ; key++) {
+            assertTrue(lookup(cache, key));
+            if (RegionImageCacheShim.getBackingStore(cache) != page) {
+                return keys;
+            }
+            keys.add(key);
+        }
+    }
+
+    @Test
+    public void testPagesAreAllocatedOnDemand() {
+        Object cache = createCache(2);
+        assertEquals(1, RegionImageCacheShim.getPageCount(cache));
+        RTTexture first = RegionImageCacheShim.getBackingStore(cache);
+
+        List<Integer> keys = fillPage(cache, 0);
+
+        assertTrue(keys.size() > 1);
+        assertEquals(2, RegionImageCacheShim.getPageCount(cache));
+        assertNotSame(first, RegionImageCacheShim.getBackingStore(cache));
+    }
+
+    @Test
+    public void testHitAfterMiss() {
+        Object cache = createCache(1);
+        Rectangle miss = new Rectangle(0, 0, SIZE, SIZE);
+        assertTrue(RegionImageCacheShim.getImageLocation(cache, 1, miss, g));
+        RTTexture page = RegionImageCacheShim.getBackingStore(cache);
+
+        Rectangle hit = new Rectangle(0, 0, SIZE, SIZE);
+        assertFalse(RegionImageCacheShim.getImageLocation(cache, 1, hit, g));
+        assertEquals(miss, hit);
+        assertSame(page, RegionImageCacheShim.getBackingStore(cache));
+    }
+
+    @Test
+    public void testHitsMissesAndFlushesAreCounted() {
+        Object cache = createCache(1);
+        long hits = RegionImageCacheShim.getHits();
+        long misses = RegionImageCacheShim.getMisses();
+        long flushes = RegionImageCacheShim.getFlushes();
+
+        // Add images to the only page until it has to be flushed
+        int key = 0;
+        while (RegionImageCacheShim.getFlushes() == flushes) {
+            assertTrue(lookup(cache, key++));
+        }
+        assertFalse(lookup(cache, key - 1));
+
+        assertEquals(misses + key, RegionImageCacheShim.getMisses());
+        assertEquals(hits + 1, RegionImageCacheShim.getHits());
+        assertEquals(flushes + 1, RegionImageCacheShim.getFlushes());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPageIsEvicted() {
+        Object cache = createCache(2);
+        RTTexture firstStore = RegionImageCacheShim.getBackingStore(cache);
+        List<Integer> firstPage = fillPage(cache, 0);
+        RTTexture secondStore = RegionImageCacheShim.getBackingStore(cache);
+        assertNotSame(firstStore, secondStore);
+
+        // The key that did not fit the first page started the second page;
+        // fill the second page up to the same capacity.
+        int capacity = firstPage.size();
+        int nextKey = capacity;
+        for (int i = 1; i < capacity; i++) {
+            assertTrue(lookup(cache, ++nextKey));
+            assertSame(secondStore, RegionImageCacheShim.getBackingStore(cache));
+        }
+
+        // Use the images of the first page again, so that the second page
+        // holds the least recently used image.
+        for (int key : firstPage) {
+            assertFalse(lookup(cache, key));
+        }
+
+        assertTrue(lookup(cache, ++nextKey));
+        assertSame(secondStore, RegionImageCacheShim.getBackingStore(cache));
+        assertEquals(2, RegionImageCacheShim.getPageCount(cache));
+        for (int key : firstPage) {
+            assertFalse(lookup(cache, key));
+            assertSame(firstStore, RegionImageCacheShim.getBackingStore(cache));
+        }
+        assertTrue(lookup(cache, capacity));
+    }
+}
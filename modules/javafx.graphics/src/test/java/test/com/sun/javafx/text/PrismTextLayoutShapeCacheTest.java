@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.text;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.scene.layout.Region;
+import javafx.scene.text.Font;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.sun.javafx.font.FontStrike;
+import com.sun.javafx.font.PGFont;
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.scene.text.GlyphList;
+import com.sun.javafx.scene.text.TextLine;
+import com.sun.javafx.scene.text.TextSpan;
+import com.sun.javafx.text.GlyphLayout;
+import com.sun.javafx.text.PrismTextLayoutShim;
+import com.sun.javafx.text.TextRun;
+import test.com.sun.javafx.pgstub.StubFontLoader;
+import test.com.sun.javafx.pgstub.StubGlyphLayout;
+import test.com.sun.javafx.pgstub.StubTextLayout;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrismTextLayoutShapeCacheTest {
+
+    private static final String ARABIC = "مرحبا بالعالم";
+    private static final int PARAGRAPHS = 40;
+
+    private PGFont font;
+
+    private static class Span implements TextSpan {
+        private final String text;
+        private final PGFont font;
+
+        Span(String text, PGFont font) {
+            this.text = text;
+            this.font = font;
+        }
+
+        @Override public String getText() { return text; }
+        @Override public Object getFont() { return font; }
+        @Override public RectBounds getBounds() { return null; }
+        @Override public Region getLayoutRootRegion() { return null; }
+    }
+
+    private static class CountingTextLayout extends StubTextLayout {
+        final AtomicInteger shaped = new AtomicInteger();
+
+        CountingTextLayout() {
+        }
+
+        CountingTextLayout(int shapeCacheThreshold) {
+            PrismTextLayoutShim.setShapeCacheThreshold(this, shapeCacheThreshold);
+        }
+
+        @Override
+        protected GlyphLayout glyphLayout() {
+            return new StubGlyphLayout() {
+                @Override
+                public void layout(TextRun run, PGFont font, FontStrike strike, char[] chars) {
+                    shaped.incrementAndGet();
+                    super.layout(run, font, strike, chars);
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        font = new StubFontLoader.StubFont(new Font("Amble", 12));
+    }
+
+    private TextSpan[] createSpans() {
+        TextSpan[] spans = new TextSpan[PARAGRAPHS];
+        for (int i = 0; i < PARAGRAPHS; i++) {
+            spans[i] = new Span(ARABIC + " " + i + "\n", font);
+        }
+        return spans;
+    }
+
+    private static void assertSameLayout(TextLine[] expected, TextLine[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getStart(), actual[i].getStart());
+            assertEquals(expected[i].getLength(), actual[i].getLength());
+            assertEquals(expected[i].getBounds(), actual[i].getBounds());
+            GlyphList[] expectedRuns = expected[i].getRuns();
+            GlyphList[] actualRuns = actual[i].getRuns();
+            assertEquals(expectedRuns.length, actualRuns.length);
+            for (int j = 0; j < expectedRuns.length; j++) {
+                assertEquals(expectedRuns[j].getGlyphCount(), actualRuns[j].getGlyphCount());
+                for (int k = 0; k < expectedRuns[j].getGlyphCount(); k++) {
+                    assertEquals(expectedRuns[j].getGlyphCode(k), actualRuns[j].getGlyphCode(k));
+                    assertEquals(expectedRuns[j].getPosX(k), actualRuns[j].getPosX(k));
+                }
+            }
+        }
+    }
+
+    private TextLine[] referenceLayout(TextSpan[] spans, float wrapWidth) {
+        StubTextLayout layout = new StubTextLayout();
+        PrismTextLayoutShim.setShapeCacheThreshold(layout, 0);
+        layout.setContent(spans);
+        layout.setWrapWidth(wrapWidth);
+        return layout.getLines();
+    }
+
+    @Test
+    public void testShapeCacheIsDisabledByDefault() {
+        CountingTextLayout layout = new CountingTextLayout();
+        TextSpan[] spans = createSpans();
+        layout.setContent(spans);
+        layout.getLines();
+        int shaped = layout.shaped.get();
+        assertTrue(shaped > 0);
+
+        TextSpan[] edited = spans.clone();
+        edited[PARAGRAPHS / 2] = new Span(ARABIC + " edited\n", font);
+        layout.setContent(edited);
+        layout.getLines();
+        assertEquals(2 * shaped, layout.shaped.get());
+    }
+
+    @Test
+    public void testOnlyEditedParagraphIsShapedAgain() {
+        CountingTextLayout layout = new CountingTextLayout(1);
+        TextSpan[] spans = createSpans();
+        layout.setContent(spans);
+        TextLine[] lines = layout.getLines();
+        int shaped = layout.shaped.get();
+        assertTrue(shaped > 0);
+        assertSameLayout(referenceLayout(spans, 0), lines);
+
+        TextSpan[] edited = spans.clone();
+        edited[PARAGRAPHS / 2] = new Span(ARABIC + " edited\n", font);
+        CountingTextLayout uncached = new CountingTextLayout(0);
+        uncached.setContent(edited);
+        uncached.getLines();
+        layout.setContent(edited);
+        lines = layout.getLines();
+        shaped = layout.shaped.get() - shaped;
+        assertTrue(shaped < uncached.shaped.get() / 4, "shaped " + shaped + " runs");
+        assertSameLayout(referenceLayout(edited, 0), lines);
+    }
+
+    @Test
+    public void testWrappedLayoutMatchesUncachedLayout() {
+        CountingTextLayout layout = new CountingTextLayout(1);
+        TextSpan[] spans = createSpans();
+        layout.setContent(spans);
+        layout.getLines();
+
+        layout.setWrapWidth(40);
+        assertSameLayout(referenceLayout(spans, 40), layout.getLines());
+
+        TextSpan[] edited = spans.clone();
+        edited[0] = new Span("abc " + ARABIC + "\n", font);
+        layout.setContent(edited);
+        assertSameLayout(referenceLayout(edited, 40), layout.getLines());
+    }
+}
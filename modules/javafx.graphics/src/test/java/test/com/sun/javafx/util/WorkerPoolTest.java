@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.util;
+
+import com.sun.javafx.util.WorkerPool;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkerPoolTest {
+
+    @Test
+    public void testPoolIsReusedForTheSameParallelism() {
+        WorkerPool pool = new WorkerPool("Test-");
+        ForkJoinPool first = pool.get(2);
+        assertEquals(2, first.getParallelism());
+        assertSame(first, pool.get(2));
+    }
+
+    @Test
+    public void testPoolIsReplacedForADifferentParallelism() {
+        WorkerPool pool = new WorkerPool("Test-");
+        ForkJoinPool first = pool.get(2);
+        ForkJoinPool second = pool.get(3);
+        assertNotSame(first, second);
+        assertEquals(3, second.getParallelism());
+        assertSame(second, pool.get(3));
+    }
+
+    @Test
+    @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+    public void testWorkersAreNamedDaemonThreads() throws Exception {
+        WorkerPool pool = new WorkerPool("Test-");
+        Thread worker = pool.get(1).submit(Thread::currentThread).get();
+        assertTrue(worker.isDaemon());
+        assertTrue(worker.getName().startsWith("Test-"), worker.getName());
+    }
+}
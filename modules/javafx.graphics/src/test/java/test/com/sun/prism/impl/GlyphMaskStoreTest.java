@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.impl;
+
+import com.sun.prism.impl.GlyphMaskStoreShim;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GlyphMaskStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testMasksAreStoredAndLoaded() {
+        Object strike = GlyphMaskStoreShim.getStrike(tempDir, "strike");
+        byte[] mask = { 1, 2, 3, 4, 5, 6 };
+        GlyphMaskStoreShim.put(strike, 42, 0, -1, -7, 2, 3, 8, mask);
+        GlyphMaskStoreShim.put(strike, 43, 0, 0, 0, 0, 0, 4, null);
+        GlyphMaskStoreShim.store(strike);
+        assertTrue(Files.isRegularFile(tempDir.resolve("strike.glyphs")));
+
+        Object loaded = GlyphMaskStoreShim.getStrike(tempDir, "strike");
+        assertArrayEquals(new int[] { -1, -7, 2, 3, 8 }, GlyphMaskStoreShim.getMetrics(loaded, 42, 0));
+        assertArrayEquals(mask, GlyphMaskStoreShim.getData(loaded, 42, 0));
+        assertArrayEquals(new int[] { 0, 0, 0, 0, 4 }, GlyphMaskStoreShim.getMetrics(loaded, 43, 0));
+        assertEquals(0, GlyphMaskStoreShim.getData(loaded, 43, 0).length);
+        assertNull(GlyphMaskStoreShim.getMetrics(loaded, 42, 1));
+        assertNull(GlyphMaskStoreShim.getMetrics(loaded, 44, 0));
+    }
+
+    @Test
+    public void testStoreKeepsPreviouslyCachedMasks() {
+        Object strike = GlyphMaskStoreShim.getStrike(tempDir, "strike");
+        GlyphMaskStoreShim.put(strike, 1, 0, 0, 0, 1, 1, 1, new byte[] { 10 });
+        GlyphMaskStoreShim.store(strike);
+
+        strike = GlyphMaskStoreShim.getStrike(tempDir, "strike");
+        GlyphMaskStoreShim.put(strike, 2, 0, 0, 0, 1, 1, 1, new byte[] { 20 });
+        GlyphMaskStoreShim.store(strike);
+
+        Object loaded = GlyphMaskStoreShim.getStrike(tempDir, "strike");
+        assertArrayEquals(new byte[] { 10 }, GlyphMaskStoreShim.getData(loaded, 1, 0));
+        assertArrayEquals(new byte[] { 20 }, GlyphMaskStoreShim.getData(loaded, 2, 0));
+    }
+
+    @Test
+    public void testStrikeWithoutNewMasksIsNotWritten() {
+        Object strike = GlyphMaskStoreShim.getStrike(tempDir, "strike");
+        assertNull(GlyphMaskStoreShim.getData(strike, 1, 0));
+        GlyphMaskStoreShim.store(strike);
+        assertFalse(Files.exists(tempDir.resolve("strike.glyphs")));
+    }
+
+    @Test
+    public void testCorruptFileIsReplaced() throws IOException {
+        Path file = tempDir.resolve("strike.glyphs");
+        Files.write(file, new byte[] { 0x7f, 0x7f, 0x7f });
+
+        Object strike = GlyphMaskStoreShim.getStrike(tempDir, "strike");
+        assertNull(GlyphMaskStoreShim.getData(strike, 1, 0));
+        GlyphMaskStoreShim.put(strike, 1, 0, 0, 0, 1, 1, 1, new byte[] { 10 });
+        GlyphMaskStoreShim.store(strike);
+
+        Object loaded = GlyphMaskStoreShim.getStrike(tempDir, "strike");
+        assertArrayEquals(new byte[] { 10 }, GlyphMaskStoreShim.getData(loaded, 1, 0));
+    }
+
+    private static void writeEntry(DataOutputStream out, int glyphCode,
+                                   int width, int height, byte[] data) throws IOException {
+        out.writeInt(glyphCode);
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeInt(width);
+        out.writeInt(height);
+        out.writeFloat(1);
+        out.writeFloat(0);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    private void testInvalidMaskSizeDropsFile(int width, int height, byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0x4a464d31);
+            writeEntry(out, 1, 1, 1, new byte[] { 10 });
+            writeEntry(out, 2, width, height, data);
+        }
+        Files.write(tempDir.resolve("strike.glyphs"), bytes.toByteArray());
+
+        Object strike = GlyphMaskStoreShim.getStrike(tempDir, "strike");
+        assertNull(GlyphMaskStoreShim.getData(strike, 1, 0));
+        assertNull(GlyphMaskStoreShim.getData(strike, 2, 0));
+    }
+
+    @Test
+    public void testMaskLargerThanDataDropsFile() throws IOException {
+        testInvalidMaskSizeDropsFile(4, 4, new byte[1]);
+    }
+
+    @Test
+    public void testNegativeMaskSizeDropsFile() throws IOException {
+        testInvalidMaskSizeDropsFile(-4, -4, new byte[16]);
+    }
+
+    @Test
+    public void testOverflowingMaskSizeDropsFile() throws IOException {
+        testInvalidMaskSizeDropsFile(0x10000, 0x10000, new byte[0]);
+    }
+
+    @Test
+    public void testMaskWithInvalidSizeIsNotCached() {
+        Object strike = GlyphMaskStoreShim.getStrike(tempDir, "strike");
+        GlyphMaskStoreShim.put(strike, 1, 0, 0, 0, 4, 4, 1, new byte[1]);
+        assertNull(GlyphMaskStoreShim.getData(strike, 1, 0));
+    }
+
+    @Test
+    public void testStrikeFileSizeIsBounded() {
+        Object store = GlyphMaskStoreShim.createStore(tempDir, 120, 1000, 1000);
+        Object strike = GlyphMaskStoreShim.getStrike(store, "strike");
+        GlyphMaskStoreShim.put(strike, 1, 0, 0, 0, 4, 4, 1, new byte[16]);
+        GlyphMaskStoreShim.put(strike, 2, 0, 0, 0, 4, 4, 1, new byte[16]);
+        GlyphMaskStoreShim.put(strike, 3, 0, 0, 0, 4, 4, 1, new byte[16]);
+        assertArrayEquals(new byte[16], GlyphMaskStoreShim.getData(strike, 1, 0));
+        assertArrayEquals(new byte[16], GlyphMaskStoreShim.getData(strike, 2, 0));
+        assertNull(GlyphMaskStoreShim.getData(strike, 3, 0));
+        GlyphMaskStoreShim.store(strike);
+
+        // the masks in the file count towards the limit
+        Object loaded = GlyphMaskStoreShim.getStrike(store, "strike");
+        GlyphMaskStoreShim.put(loaded, 3, 0, 0, 0, 4, 4, 1, new byte[16]);
+        assertNull(GlyphMaskStoreShim.getData(loaded, 3, 0));
+    }
+
+    @Test
+    public void testAddedMasksAreBoundedAcrossStrikes() {
+        Object store = GlyphMaskStoreShim.createStore(tempDir, 1000, 100, 1000);
+        Object strike1 = GlyphMaskStoreShim.getStrike(store, "strike1");
+        Object strike2 = GlyphMaskStoreShim.getStrike(store, "strike2");
+        GlyphMaskStoreShim.put(strike1, 1, 0, 0, 0, 4, 4, 1, new byte[16]);
+        GlyphMaskStoreShim.put(strike2, 1, 0, 0, 0, 4, 4, 1, new byte[16]);
+        assertArrayEquals(new byte[16], GlyphMaskStoreShim.getData(strike1, 1, 0));
+        assertNull(GlyphMaskStoreShim.getData(strike2, 1, 0));
+
+        // writing a strike releases its masks
+        GlyphMaskStoreShim.store(strike1);
+        GlyphMaskStoreShim.put(strike2, 1, 0, 0, 0, 4, 4, 1, new byte[16]);
+        assertArrayEquals(new byte[16], GlyphMaskStoreShim.getData(strike2, 1, 0));
+    }
+
+    @Test
+    public void testPruneDeletesLeastRecentlyUsedFiles() throws IOException {
+        Object store = GlyphMaskStoreShim.createStore(tempDir, 1000, 1000, 150);
+        long time = System.currentTimeMillis() - 100_000;
+        for (String key : new String[] { "a", "b", "c" }) {
+            Object strike = GlyphMaskStoreShim.getStrike(store, key);
+            GlyphMaskStoreShim.put(strike, 1, 0, 0, 0, 4, 4, 1, new byte[16]);
+            GlyphMaskStoreShim.store(strike);
+            Files.setLastModifiedTime(tempDir.resolve(key + ".glyphs"), FileTime.fromMillis(time += 1000));
+        }
+        Path tmp = Files.createFile(tempDir.resolve("glyphs123.tmp"));
+        Files.setLastModifiedTime(tmp, FileTime.fromMillis(0));
+
+        // reading a strike file marks it as recently used
+        assertArrayEquals(new byte[16], GlyphMaskStoreShim.getData(GlyphMaskStoreShim.getStrike(tempDir, "a"), 1, 0));
+
+        GlyphMaskStoreShim.prune(store);
+        assertTrue(Files.exists(tempDir.resolve("a.glyphs")));
+        assertFalse(Files.exists(tempDir.resolve("b.glyphs")));
+        assertTrue(Files.exists(tempDir.resolve("c.glyphs")));
+        assertFalse(Files.exists(tmp));
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.impl;
+
+import com.sun.javafx.font.FontResource;
+import com.sun.javafx.font.FontStrike;
+import com.sun.javafx.font.Glyph;
+import com.sun.javafx.font.Metrics;
+import com.sun.javafx.geom.Point2D;
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.scene.text.GlyphList;
+import com.sun.javafx.scene.text.TextSpan;
+import com.sun.prism.impl.GlyphPrefetcher;
+import com.sun.prism.impl.GlyphPrefetcherShim;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GlyphPrefetcherTest {
+
+    private static final int MAX_AGE = 2;
+    private static final int MAX_PENDING = 4096;
+
+    @BeforeEach
+    public void setUp() {
+        GlyphPrefetcherShim.setThreads(2);
+        releaseAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        releaseAll();
+        GlyphPrefetcherShim.setThreads(0);
+    }
+
+    private static void releaseAll() {
+        for (int i = 0; i <= MAX_AGE; i++) {
+            GlyphPrefetcher.nextGeneration();
+        }
+    }
+
+    /**
+     * Returns the subpixel position of a glyph as computed by GlyphCache.render.
+     */
+    private static int renderSubPixel(FontStrike strike, GlyphList run, int gi,
+                                      float x, float y, BaseTransform xform) {
+        Point2D pt = new Point2D(x + run.getPosX(gi), y + run.getPosY(gi));
+        xform.transform(pt, pt);
+        return strike.getQuantizedPosition(pt);
+    }
+
+    @Test
+    public void testPrefetchedMasksMatchRenderPositions() {
+        TestStrike strike = new TestStrike();
+        TestGlyphList run = new TestGlyphList(new int[] { 1, 2, 3 }, new float[] { 0f, 10.2f, 20.4f });
+        BaseTransform xform = BaseTransform.getScaleInstance(2, 2);
+        float x = 0.25f, y = 3f;
+
+        // positions quantized in local coordinates would not match
+        Point2D local = new Point2D(x + run.getPosX(0), y);
+        assertNotEquals(strike.getQuantizedPosition(local), renderSubPixel(strike, run, 0, x, y, xform));
+
+        GlyphPrefetcher.prefetch(strike, run, x, y, xform);
+        GlyphPrefetcherShim.awaitRasterization();
+        assertEquals(3, GlyphPrefetcherShim.getPendingCount());
+
+        for (int gi = 0; gi < run.getGlyphCount(); gi++) {
+            int subPixel = renderSubPixel(strike, run, gi, x, y, xform);
+            assertTrue(GlyphPrefetcherShim.take(strike, run.getGlyphCode(gi), subPixel));
+        }
+        assertEquals(0, GlyphPrefetcherShim.getPendingCount());
+    }
+
+    @Test
+    public void testMasksThatAreNotTakenAreReleased() {
+        TestStrike strike = new TestStrike();
+        TestGlyphList run = new TestGlyphList(new int[] { 1, 2, 3 }, new float[] { 0f, 10f, 20f });
+
+        GlyphPrefetcher.prefetch(strike, run, 0, 0, BaseTransform.IDENTITY_TRANSFORM);
+        GlyphPrefetcherShim.awaitRasterization();
+        assertEquals(3, GlyphPrefetcherShim.getPendingCount());
+
+        assertTrue(GlyphPrefetcherShim.take(strike, 1, 0));
+        assertEquals(2, GlyphPrefetcherShim.getPendingCount());
+
+        for (int i = 0; i < MAX_AGE; i++) {
+            GlyphPrefetcher.nextGeneration();
+            assertEquals(2, GlyphPrefetcherShim.getPendingCount());
+        }
+        GlyphPrefetcher.nextGeneration();
+        assertEquals(0, GlyphPrefetcherShim.getPendingCount());
+
+        // released glyphs are prefetched again, taken glyphs are not
+        GlyphPrefetcher.prefetch(strike, run, 0, 0, BaseTransform.IDENTITY_TRANSFORM);
+        GlyphPrefetcherShim.awaitRasterization();
+        assertEquals(2, GlyphPrefetcherShim.getPendingCount());
+        assertFalse(GlyphPrefetcherShim.take(strike, 1, 0));
+        assertTrue(GlyphPrefetcherShim.take(strike, 2, 0));
+        assertTrue(GlyphPrefetcherShim.take(strike, 3, 0));
+    }
+
+    @Test
+    public void testPrefetchingResumesAfterPendingLimitIsReached() {
+        TestStrike strike = new TestStrike();
+        int[] glyphs = new int[MAX_PENDING + 100];
+        float[] positions = new float[glyphs.length];
+        for (int i = 0; i < glyphs.length; i++) {
+            glyphs[i] = i + 1;
+            positions[i] = i * 10;
+        }
+        TestGlyphList run = new TestGlyphList(glyphs, positions);
+
+        GlyphPrefetcher.prefetch(strike, run, 0, 0, BaseTransform.IDENTITY_TRANSFORM);
+        GlyphPrefetcherShim.awaitRasterization();
+        assertEquals(MAX_PENDING, GlyphPrefetcherShim.getPendingCount());
+        assertFalse(GlyphPrefetcherShim.take(strike, glyphs.length, 0));
+
+        releaseAll();
+        assertEquals(0, GlyphPrefetcherShim.getPendingCount());
+
+        TestGlyphList next = new TestGlyphList(new int[] { glyphs.length + 1 }, new float[] { 0f });
+        GlyphPrefetcher.prefetch(strike, next, 0, 0, BaseTransform.IDENTITY_TRANSFORM);
+        GlyphPrefetcherShim.awaitRasterization();
+        assertTrue(GlyphPrefetcherShim.take(strike, glyphs.length + 1, 0));
+    }
+
+    /**
+     * A strike with three subpixel positions in x.
+     */
+    private static final class TestStrike implements FontStrike {
+
+        @Override
+        public int getQuantizedPosition(Point2D point) {
+            float subPixel = point.x - (int) point.x;
+            point.x = (int) point.x;
+            point.y = Math.round(point.y);
+            return subPixel >= 0.66f ? 2 : subPixel >= 0.33f ? 1 : 0;
+        }
+
+        @Override
+        public Glyph getGlyph(int glyphCode) {
+            return new TestGlyph(glyphCode);
+        }
+
+        @Override public FontResource getFontResource() { return null; }
+        @Override public float getSize() { return 12; }
+        @Override public BaseTransform getTransform() { return BaseTransform.IDENTITY_TRANSFORM; }
+        @Override public boolean drawAsShapes() { return false; }
+        @Override public Metrics getMetrics() { return null; }
+        @Override public Glyph getGlyph(char symbol) { return null; }
+        @Override public void clearDesc() {}
+        @Override public int getAAMode() { return FontResource.AA_GREYSCALE; }
+        @Override public float getCharAdvance(char ch) { return 10; }
+        @Override public Shape getOutline(GlyphList gl, BaseTransform transform) { return null; }
+    }
+
+    private record TestGlyph(int glyphCode) implements Glyph {
+        @Override public int getGlyphCode() { return glyphCode; }
+        @Override public RectBounds getBBox() { return new RectBounds(0, 0, 1, 1); }
+        @Override public float getAdvance() { return 10; }
+        @Override public Shape getShape() { return null; }
+        @Override public byte[] getPixelData() { return getPixelData(0); }
+        @Override public byte[] getPixelData(int subPixel) { return new byte[] { (byte) subPixel }; }
+        @Override public float getPixelXAdvance() { return 10; }
+        @Override public float getPixelYAdvance() { return 0; }
+        @Override public boolean isLCDGlyph() { return false; }
+        @Override public int getWidth() { return 1; }
+        @Override public int getHeight() { return 1; }
+        @Override public int getOriginX() { return 0; }
+        @Override public int getOriginY() { return 0; }
+    }
+
+    private record TestGlyphList(int[] glyphs, float[] positions) implements GlyphList {
+        @Override public int getGlyphCount() { return glyphs.length; }
+        @Override public int getGlyphCode(int glyphIndex) { return glyphs[glyphIndex]; }
+        @Override public float getPosX(int glyphIndex) { return positions[glyphIndex]; }
+        @Override public float getPosY(int glyphIndex) { return 0; }
+        @Override public float getWidth() { return 0; }
+        @Override public float getHeight() { return 0; }
+        @Override public RectBounds getLineBounds() { return new RectBounds(); }
+        @Override public Point2D getLocation() { return new Point2D(); }
+        @Override public int getCharOffset(int glyphIndex) { return glyphIndex; }
+        @Override public boolean isComplex() { return false; }
+        @Override public TextSpan getTextSpan() { return null; }
+        @Override public boolean isLinebreak() { return false; }
+        @Override public int getStart() { return 0; }
+        @Override public int getOffsetAtX(float x, AtomicBoolean trailing) { return 0; }
+    }
+}
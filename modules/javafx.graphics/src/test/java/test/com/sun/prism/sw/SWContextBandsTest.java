@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.sw;
+
+import com.sun.javafx.geom.Ellipse2D;
+import com.sun.javafx.geom.Line2D;
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.RoundRectangle2D;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.sw.SWContextShim;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that rasterizing a shape in parallel bands gives the same coverage
+ * as rasterizing it in a single pass, including the anti-aliased edges that
+ * cross the seams between bands.
+ */
+public class SWContextBandsTest {
+
+    private static final Rectangle CLIP = new Rectangle(0, 0, 400, 400);
+
+    private static void assertSameInBands(Shape shape, BasicStroke stroke, BaseTransform tr) {
+        int[] expected = SWContextShim.rasterize(shape, stroke, tr, CLIP);
+        boolean partial = false;
+        for (int alpha : expected) {
+            partial |= alpha > 0 && alpha < 255;
+        }
+        assertTrue(partial, "shape has no anti-aliased edges");
+
+        for (int bands : new int[] { 2, 3, 5, 8 }) {
+            int[] actual = SWContextShim.rasterizeBands(bands, shape, stroke, tr, CLIP);
+            for (int i = 0; i < expected.length; i++) {
+                if (expected[i] != actual[i]) {
+                    int x = CLIP.x + i % CLIP.width;
+                    int y = CLIP.y + i / CLIP.width;
+                    assertEquals(expected[i], actual[i],
+                            "coverage at (" + x + ", " + y + ") with " + bands + " bands");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEllipse() {
+        assertSameInBands(new Ellipse2D(13.3f, 7.7f, 370.4f, 380.1f), null, BaseTransform.IDENTITY_TRANSFORM);
+    }
+
+    @Test
+    public void testShallowEdges() {
+        // nearly horizontal edges cross the seams over a long distance
+        Path2D path = new Path2D();
+        path.moveTo(0.5f, 20.25f);
+        path.lineTo(399.5f, 380.75f);
+        path.lineTo(10.5f, 390.5f);
+        path.closePath();
+        path.moveTo(5.25f, 100.1f);
+        path.lineTo(395.75f, 130.9f);
+        path.lineTo(395.75f, 140.9f);
+        path.closePath();
+        assertSameInBands(path, null, BaseTransform.IDENTITY_TRANSFORM);
+    }
+
+    @Test
+    public void testRotatedRoundRectangle() {
+        assertSameInBands(new RoundRectangle2D(60.5f, 40.25f, 280.3f, 300.7f, 40f, 40f), null,
+                BaseTransform.getRotateInstance(0.3, 200, 200));
+    }
+
+    @Test
+    public void testStrokedLine() {
+        BasicStroke stroke = new BasicStroke(3.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND, 10f);
+        assertSameInBands(new Line2D(10.3f, 5.6f, 390.1f, 395.2f), stroke, BaseTransform.IDENTITY_TRANSFORM);
+    }
+
+    @Test
+    public void testShapeLargerThanClip() {
+        assertSameInBands(new Ellipse2D(-100.5f, -50.25f, 450.7f, 600.3f), null, BaseTransform.IDENTITY_TRANSFORM);
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.scenario.effect.impl;
+
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.scenario.effect.Effect;
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.Filterable;
+import com.sun.scenario.effect.ImageData;
+import com.sun.scenario.effect.impl.EffectCache;
+import com.sun.scenario.effect.impl.EffectPeer;
+import com.sun.scenario.effect.impl.ImagePool;
+import com.sun.scenario.effect.impl.PoolFilterable;
+import com.sun.scenario.effect.impl.Renderer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import test.javafx.util.ReflectionUtils;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EffectCacheTest {
+
+    private final StubRenderer renderer = new StubRenderer();
+    private final FilterContext fctx = new FilterContext(new Object()) {};
+    private final EffectCache cache = new EffectCache();
+    private Map<FilterContext, Renderer> rendererMap;
+
+    @BeforeEach
+    void setup() {
+        rendererMap = ReflectionUtils.getFieldValue(renderer, "rendererMap");
+        rendererMap.put(fctx, renderer);
+    }
+
+    @AfterEach
+    void cleanup() {
+        cache.invalidate();
+        rendererMap.remove(fctx);
+    }
+
+    private ImageData filter(StubEffect effect, BaseTransform transform, Rectangle clip) {
+        ImageData result = cache.get(effect, fctx, transform, clip);
+        if (result == null) {
+            effect.filterCount++;
+            Rectangle bounds = new Rectangle(effect.getBounds(transform, null));
+            if (clip != null) {
+                bounds.intersectWith(clip);
+            }
+            Filterable image = renderer.getCompatibleImage(bounds.width, bounds.height);
+            result = new ImageData(fctx, image, bounds);
+            cache.put(effect, fctx, transform, clip, null, result);
+        }
+        return result;
+    }
+
+    private static StubImage getImage(ImageData data) {
+        return (StubImage) data.getUntransformedImage();
+    }
+
+    @Test
+    void resultIsReusedWhenTranslatedByWholePixels() {
+        StubEffect effect = new StubEffect(100, 50);
+        ImageData first = filter(effect, BaseTransform.getTranslateInstance(10.5, 3), null);
+        ImageData second = filter(effect, BaseTransform.getTranslateInstance(15.5, 1), null);
+        assertEquals(1, effect.filterCount);
+        assertSame(first.getUntransformedImage(), second.getUntransformedImage());
+        Rectangle expected = new Rectangle(first.getUntransformedBounds());
+        expected.translate(5, -2);
+        assertEquals(expected, second.getUntransformedBounds());
+        first.unref();
+        second.unref();
+        assertEquals(1, renderer.checkedOut);
+    }
+
+    @Test
+    void resultIsNotReusedWhenTranslatedBySubpixels() {
+        StubEffect effect = new StubEffect(100, 50);
+        filter(effect, BaseTransform.getTranslateInstance(10, 3), null).unref();
+        filter(effect, BaseTransform.getTranslateInstance(10.5, 3), null).unref();
+        assertEquals(2, effect.filterCount);
+        assertEquals(1, renderer.checkedOut);
+    }
+
+    @Test
+    void resultIsNotReusedWhenScaled() {
+        StubEffect effect = new StubEffect(100, 50);
+        filter(effect, BaseTransform.IDENTITY_TRANSFORM, null).unref();
+        filter(effect, BaseTransform.getScaleInstance(2, 2), null).unref();
+        assertEquals(2, effect.filterCount);
+    }
+
+    @Test
+    void clippedResultIsReusedOnlyWhenItCoversTheClip() {
+        StubEffect effect = new StubEffect(100, 50);
+        Rectangle clip = new Rectangle(0, 0, 200, 200);
+        filter(effect, BaseTransform.getTranslateInstance(150, 0), clip).unref();
+        filter(effect, BaseTransform.getTranslateInstance(160, 0), clip).unref();
+        assertEquals(1, effect.filterCount);
+        filter(effect, BaseTransform.getTranslateInstance(140, 0), clip).unref();
+        assertEquals(2, effect.filterCount);
+    }
+
+    @Test
+    void invalidateReleasesResults() {
+        StubEffect effect = new StubEffect(100, 50);
+        filter(effect, BaseTransform.IDENTITY_TRANSFORM, null).unref();
+        cache.invalidate();
+        assertEquals(0, renderer.checkedOut);
+        filter(effect, BaseTransform.IDENTITY_TRANSFORM, null).unref();
+        assertEquals(2, effect.filterCount);
+    }
+
+    @Test
+    void imagesAreUnlockedBetweenFrames() {
+        StubEffect effect = new StubEffect(100, 50);
+        ImageData first = filter(effect, BaseTransform.IDENTITY_TRANSFORM, null);
+        StubImage image = getImage(first);
+        first.unref();
+        cache.unlock();
+        assertEquals(0, image.lockCount);
+        filter(effect, BaseTransform.getTranslateInstance(1, 1), null).unref();
+        assertEquals(1, image.lockCount);
+        cache.unlock();
+        cache.invalidate();
+        assertEquals(0, image.lockCount);
+        assertEquals(0, renderer.checkedOut);
+    }
+
+    @Test
+    void lostImageIsNotReused() {
+        StubEffect effect = new StubEffect(100, 50);
+        ImageData first = filter(effect, BaseTransform.IDENTITY_TRANSFORM, null);
+        getImage(first).lost = true;
+        first.unref();
+        cache.unlock();
+        filter(effect, BaseTransform.IDENTITY_TRANSFORM, null).unref();
+        assertEquals(2, effect.filterCount);
+        assertEquals(1, renderer.checkedOut);
+    }
+
+    @Test
+    void inputsOfEffectsAreNotCached() {
+        StubEffect effect = new StubEffect(100, 50);
+        cache.beginInputs();
+        filter(effect, BaseTransform.IDENTITY_TRANSFORM, null).unref();
+        cache.endInputs();
+        filter(effect, BaseTransform.IDENTITY_TRANSFORM, null).unref();
+        assertEquals(2, effect.filterCount);
+    }
+
+    @Test
+    void leastRecentlyUsedResultsAreEvictedWhenOverBudget() {
+        // the default budget of the pool holds four of these results
+        StubEffect[] effects = new StubEffect[5];
+        for (int i = 0; i < effects.length; i++) {
+            effects[i] = new StubEffect(1024, 1024);
+            filter(effects[i], BaseTransform.IDENTITY_TRANSFORM, null).unref();
+            if (i == 3) {
+                // use the first result again, so that the second one is evicted
+                filter(effects[0], BaseTransform.IDENTITY_TRANSFORM, null).unref();
+            }
+        }
+        assertEquals(4, renderer.checkedOut);
+        filter(effects[0], BaseTransform.IDENTITY_TRANSFORM, null).unref();
+        assertEquals(1, effects[0].filterCount);
+        filter(effects[1], BaseTransform.IDENTITY_TRANSFORM, null).unref();
+        assertEquals(2, effects[1].filterCount);
+    }
+
+    private static class StubEffect extends Effect {
+        final int width;
+        final int height;
+        int filterCount;
+
+        StubEffect(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public BaseBounds getBounds(BaseTransform transform, Effect defaultInput) {
+            return transformBounds(transform, new RectBounds(0, 0, width, height));
+        }
+
+        @Override
+        public ImageData filter(FilterContext fctx, BaseTransform transform, Rectangle outputClip,
+                                Object renderHelper, Effect defaultInput) {
+            return null;
+        }
+
+        @Override public boolean reducesOpaquePixels() { return false; }
+        @Override public AccelType getAccelType(FilterContext fctx) { return AccelType.NONE; }
+    }
+
+    private static class StubImage implements PoolFilterable {
+        final int width;
+        final int height;
+        ImagePool pool;
+        int lockCount = 1;
+        boolean lost;
+
+        StubImage(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override public void setImagePool(ImagePool pool) { this.pool = pool; }
+        @Override public ImagePool getImagePool() { return pool; }
+        @Override public Object getData() { return null; }
+        @Override public int getContentWidth() { return width; }
+        @Override public int getContentHeight() { return height; }
+        @Override public void setContentWidth(int contentW) {}
+        @Override public void setContentHeight(int contentH) {}
+        @Override public int getMaxContentWidth() { return width; }
+        @Override public int getMaxContentHeight() { return height; }
+        @Override public int getPhysicalWidth() { return width; }
+        @Override public int getPhysicalHeight() { return height; }
+        @Override public float getPixelScale() { return 1f; }
+        @Override public void flush() {}
+        @Override public void lock() { lockCount++; }
+        @Override public void unlock() { lockCount--; }
+        @Override public boolean isLost() { return lost; }
+    }
+
+    private static class StubRenderer extends Renderer {
+        int checkedOut;
+
+        @Override public Effect.AccelType getAccelType() { return Effect.AccelType.NONE; }
+        @Override public int getCompatibleWidth(int w) { return w; }
+        @Override public int getCompatibleHeight(int h) { return h; }
+        @Override public PoolFilterable createCompatibleImage(int w, int h) { return new StubImage(w, h); }
+        @Override public void clearImage(Filterable image) {}
+        @Override public ImageData createImageData(FilterContext fctx, Filterable src) { return null; }
+        @Override public Filterable transform(FilterContext fctx, Filterable original, BaseTransform transform,
+                                              Rectangle origBounds, Rectangle xformBounds) { return null; }
+        @Override public ImageData transform(FilterContext fctx, ImageData original, BaseTransform transform,
+                                             Rectangle origBounds, Rectangle xformBounds) { return null; }
+        @Override public RendererState getRendererState() { return RendererState.OK; }
+        @Override protected Renderer getBackupRenderer() { return this; }
+        @Override protected EffectPeer<?> createPeer(FilterContext fctx, String name, int unrollCount) { return null; }
+
+        @Override
+        public boolean isImageDataCompatible(ImageData id) {
+            Filterable image = id.getUntransformedImage();
+            return image != null && !image.isLost();
+        }
+
+        @Override
+        public PoolFilterable getCompatibleImage(int w, int h) {
+            checkedOut++;
+            return super.getCompatibleImage(w, h);
+        }
+
+        @Override
+        public void releaseCompatibleImage(Filterable image) {
+            checkedOut--;
+            super.releaseCompatibleImage(image);
+        }
+    }
+}
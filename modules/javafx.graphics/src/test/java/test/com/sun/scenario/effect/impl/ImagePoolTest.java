@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.scenario.effect.impl;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.scenario.effect.Effect;
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.Filterable;
+import com.sun.scenario.effect.ImageData;
+import com.sun.scenario.effect.impl.EffectPeer;
+import com.sun.scenario.effect.impl.ImagePool;
+import com.sun.scenario.effect.impl.PoolFilterable;
+import com.sun.scenario.effect.impl.Renderer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import test.javafx.util.ReflectionUtils;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImagePoolTest {
+
+    private static final int TRIM_PULSES = 8;
+
+    private final StubRenderer renderer = new StubRenderer();
+    private final FilterContext fctx = new FilterContext(new Object()) {};
+    private Map<FilterContext, Renderer> rendererMap;
+
+    @BeforeEach
+    void setup() {
+        rendererMap = ReflectionUtils.getFieldValue(renderer, "rendererMap");
+        rendererMap.put(fctx, renderer);
+    }
+
+    @AfterEach
+    void cleanup() {
+        rendererMap.remove(fctx);
+    }
+
+    private StubImage checkOut(int w, int h) {
+        return (StubImage) renderer.getCompatibleImage(w, h);
+    }
+
+    @Test
+    void imagesAreAllocatedInSizeClasses() {
+        StubImage small = checkOut(100, 1);
+        assertEquals(128, small.width);
+        assertEquals(32, small.height);
+        StubImage large = checkOut(300, 1000);
+        assertEquals(320, large.width);
+        assertEquals(1024, large.height);
+        renderer.releaseCompatibleImage(small);
+        renderer.releaseCompatibleImage(large);
+    }
+
+    @Test
+    void unusedImageOfSameSizeClassIsReused() {
+        StubImage first = checkOut(100, 50);
+        renderer.releaseCompatibleImage(first);
+        StubImage second = checkOut(110, 40);
+        assertSame(first, second);
+        assertEquals(1, second.lockCount);
+        assertEquals(1, second.clearCount);
+        renderer.releaseCompatibleImage(second);
+    }
+
+    @Test
+    void imageOfOtherSizeClassIsNotReused() {
+        StubImage first = checkOut(100, 50);
+        renderer.releaseCompatibleImage(first);
+        StubImage second = checkOut(200, 50);
+        assertNotSame(first, second);
+        renderer.releaseCompatibleImage(second);
+    }
+
+    @Test
+    void checkedOutImageIsNotReused() {
+        StubImage first = checkOut(100, 50);
+        StubImage second = checkOut(100, 50);
+        assertNotSame(first, second);
+        renderer.releaseCompatibleImage(first);
+        renderer.releaseCompatibleImage(second);
+    }
+
+    @Test
+    void lostImageIsNotReused() {
+        StubImage first = checkOut(100, 50);
+        renderer.releaseCompatibleImage(first);
+        first.lost = true;
+        StubImage second = checkOut(100, 50);
+        assertNotSame(first, second);
+        renderer.releaseCompatibleImage(second);
+    }
+
+    @Test
+    void leastRecentlyUsedImagesAreFlushedWhenOverBudget() {
+        // the default budget of the pool holds one of these images
+        StubImage first = checkOut(4096, 4096);
+        StubImage second = checkOut(4096, 4096);
+        renderer.releaseCompatibleImage(first);
+        assertFalse(first.flushed);
+        renderer.releaseCompatibleImage(second);
+        assertTrue(first.flushed);
+        assertFalse(second.flushed);
+        assertSame(second, checkOut(4096, 4096));
+    }
+
+    @Test
+    void unusedImagesAreFlushedAfterIdlePulses() {
+        StubImage first = checkOut(100, 50);
+        renderer.releaseCompatibleImage(first);
+        for (int i = 0; i < TRIM_PULSES - 1; i++) {
+            Renderer.trimImagePools();
+        }
+        assertFalse(first.flushed);
+        StubImage second = checkOut(100, 50);
+        assertSame(first, second);
+        renderer.releaseCompatibleImage(second);
+        for (int i = 0; i < TRIM_PULSES; i++) {
+            Renderer.trimImagePools();
+        }
+        assertTrue(second.flushed);
+        assertNotSame(second, checkOut(100, 50));
+    }
+
+    @Test
+    void statisticsAreCounted() {
+        long created = ImagePool.getImagesCreated();
+        long reused = ImagePool.getImagesReused();
+        long pooled = ImagePool.getBytesPooled();
+        StubImage image = checkOut(100, 50);
+        assertEquals(created + 1, ImagePool.getImagesCreated());
+        renderer.releaseCompatibleImage(image);
+        assertEquals(pooled + 128 * 64 * 4, ImagePool.getBytesPooled());
+        renderer.releaseCompatibleImage(checkOut(100, 50));
+        assertEquals(reused + 1, ImagePool.getImagesReused());
+        long trimmed = ImagePool.getImagesTrimmed();
+        for (int i = 0; i < TRIM_PULSES; i++) {
+            Renderer.trimImagePools();
+        }
+        assertEquals(trimmed + 1, ImagePool.getImagesTrimmed());
+        assertEquals(pooled, ImagePool.getBytesPooled());
+    }
+
+    private static class StubImage implements PoolFilterable {
+        final int width;
+        final int height;
+        ImagePool pool;
+        int lockCount = 1;
+        int clearCount;
+        boolean lost;
+        boolean flushed;
+
+        StubImage(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override public void setImagePool(ImagePool pool) { this.pool = pool; }
+        @Override public ImagePool getImagePool() { return pool; }
+        @Override public Object getData() { return null; }
+        @Override public int getContentWidth() { return width; }
+        @Override public int getContentHeight() { return height; }
+        @Override public void setContentWidth(int contentW) {}
+        @Override public void setContentHeight(int contentH) {}
+        @Override public int getMaxContentWidth() { return width; }
+        @Override public int getMaxContentHeight() { return height; }
+        @Override public int getPhysicalWidth() { return width; }
+        @Override public int getPhysicalHeight() { return height; }
+        @Override public float getPixelScale() { return 1f; }
+        @Override public void flush() { flushed = true; }
+        @Override public void lock() { lockCount++; }
+        @Override public void unlock() { lockCount--; }
+        @Override public boolean isLost() { return lost; }
+    }
+
+    private static class StubRenderer extends Renderer {
+        @Override public Effect.AccelType getAccelType() { return Effect.AccelType.NONE; }
+        @Override public int getCompatibleWidth(int w) { return w; }
+        @Override public int getCompatibleHeight(int h) { return h; }
+        @Override public PoolFilterable createCompatibleImage(int w, int h) { return new StubImage(w, h); }
+        @Override public void clearImage(Filterable image) { ((StubImage) image).clearCount++; }
+        @Override public ImageData createImageData(FilterContext fctx, Filterable src) { return null; }
+        @Override public Filterable transform(FilterContext fctx, Filterable original, BaseTransform transform,
+                                              Rectangle origBounds, Rectangle xformBounds) { return null; }
+        @Override public ImageData transform(FilterContext fctx, ImageData original, BaseTransform transform,
+                                             Rectangle origBounds, Rectangle xformBounds) { return null; }
+        @Override public RendererState getRendererState() { return RendererState.OK; }
+        @Override protected Renderer getBackupRenderer() { return this; }
+        @Override protected EffectPeer<?> createPeer(FilterContext fctx, String name, int unrollCount) { return null; }
+        @Override public boolean isImageDataCompatible(ImageData id) { return true; }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.scenario.effect.impl.sw.java;
+
+import com.sun.scenario.effect.impl.prism.PrFilterContext;
+import com.sun.scenario.effect.impl.sw.java.JSWBoxBlurPeer;
+import com.sun.scenario.effect.impl.sw.java.JSWEffectPeerShim;
+import com.sun.scenario.effect.impl.sw.java.JSWLinearConvolvePeer;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Checks that filtering the destination image in parallel bands gives the
+ * same pixels as filtering it on a single thread.
+ */
+public class JSWEffectPeerBandsTest {
+
+    // Large enough to be split into bands
+    private static final int SIZE = 300;
+    private static final int GROW = 4;
+    private static final float[] WEIGHTS = { 0.05f, 0.2f, 0.5f, 0.2f, 0.05f };
+
+    private final int[] src = createSource();
+    private int oldThreads;
+
+    private static int[] createSource() {
+        Random random = new Random(42);
+        int[] pixels = new int[SIZE * SIZE];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt();
+        }
+        return pixels;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        oldThreads = JSWEffectPeerShim.getThreads();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        JSWEffectPeerShim.setThreads(oldThreads);
+    }
+
+    private static void assertSameInBands(Supplier<int[]> filter) {
+        JSWEffectPeerShim.setThreads(1);
+        int[] expected = filter.get();
+        for (int threads : new int[] { 2, 3, 8 }) {
+            JSWEffectPeerShim.setThreads(threads);
+            assertArrayEquals(expected, filter.get(), threads + " bands");
+        }
+    }
+
+    @Test
+    public void testBoxBlurHorizontal() {
+        BoxBlurPeer peer = new BoxBlurPeer();
+        assertSameInBands(() -> {
+            int[] dst = new int[(SIZE + GROW) * SIZE];
+            peer.filterHorizontal(dst, SIZE + GROW, SIZE, SIZE + GROW, src, SIZE, SIZE, SIZE);
+            return dst;
+        });
+    }
+
+    @Test
+    public void testBoxBlurVertical() {
+        BoxBlurPeer peer = new BoxBlurPeer();
+        assertSameInBands(() -> {
+            int[] dst = new int[SIZE * (SIZE + GROW)];
+            peer.filterVertical(dst, SIZE, SIZE + GROW, SIZE, src, SIZE, SIZE, SIZE);
+            return dst;
+        });
+    }
+
+    @Test
+    public void testLinearConvolve() {
+        LinearConvolvePeer peer = new LinearConvolvePeer();
+        assertSameInBands(() -> {
+            int[] dst = new int[SIZE * SIZE];
+            peer.filterVector(dst, SIZE, SIZE, SIZE,
+                              src, SIZE, SIZE, SIZE,
+                              WEIGHTS, WEIGHTS.length,
+                              0f, 0f, -2f, 0f, 1f, 0f,
+                              1f, 0f, 0f, 1f);
+            return dst;
+        });
+    }
+
+    private static class BoxBlurPeer extends JSWBoxBlurPeer {
+        BoxBlurPeer() {
+            super(PrFilterContext.getPrinterContext(new Object()), null, "BoxBlur");
+        }
+
+        @Override
+        public void filterHorizontal(int[] dstPixels, int dstw, int dsth, int dstscan,
+                                     int[] srcPixels, int srcw, int srch, int srcscan) {
+            super.filterHorizontal(dstPixels, dstw, dsth, dstscan,
+                                   srcPixels, srcw, srch, srcscan);
+        }
+
+        @Override
+        public void filterVertical(int[] dstPixels, int dstw, int dsth, int dstscan,
+                                   int[] srcPixels, int srcw, int srch, int srcscan) {
+            super.filterVertical(dstPixels, dstw, dsth, dstscan,
+                                 srcPixels, srcw, srch, srcscan);
+        }
+    }
+
+    private static class LinearConvolvePeer extends JSWLinearConvolvePeer {
+        LinearConvolvePeer() {
+            super(PrFilterContext.getPrinterContext(new Object()), null, "LinearConvolve");
+        }
+
+        @Override
+        public void filterVector(int[] dstPixels, int dstw, int dsth, int dstscan,
+                                 int[] srcPixels, int srcw, int srch, int srcscan,
+                                 float[] weights, int count,
+                                 float srcx0, float srcy0,
+                                 float offsetx, float offsety,
+                                 float deltax, float deltay,
+                                 float dxcol, float dycol, float dxrow, float dyrow) {
+            super.filterVector(dstPixels, dstw, dsth, dstscan,
+                               srcPixels, srcw, srch, srcscan,
+                               weights, count,
+                               srcx0, srcy0,
+                               offsetx, offsety,
+                               deltax, deltay,
+                               dxcol, dycol, dxrow, dyrow);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.scenario.effect.impl.sw.java;
+
+import com.sun.scenario.effect.impl.prism.PrFilterContext;
+import com.sun.scenario.effect.impl.sw.java.JSWLinearConvolvePeer;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSWLinearConvolvePeerTest {
+
+    private static final int SRCW = 23;
+    private static final int SRCH = 9;
+    private static final int SCAN = 25;
+    private static final float[] WEIGHTS = { 0.05f, 0.2f, 0.5f, 0.2f, 0.05f };
+
+    private final TestPeer peer = new TestPeer();
+    private final int[] src = createSource();
+
+    private static int[] createSource() {
+        Random random = new Random(42);
+        int[] pixels = new int[SCAN * SRCH];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt();
+        }
+        return pixels;
+    }
+
+    private int component(int x, int y, int shift) {
+        if (x < 0 || y < 0 || x >= SRCW || y >= SRCH) {
+            return 0;
+        }
+        return (src[y * SCAN + x] >>> shift) & 0xff;
+    }
+
+    private static int clamp(float v) {
+        return (v < 1f) ? 0 : ((v > 254f + 15f/16f) ? 255 : (int) v);
+    }
+
+    private int[] expectedConvolution(int offx, int offy, int stepx, int stepy) {
+        int[] expected = new int[SRCW * SRCH];
+        for (int y = 0; y < SRCH; y++) {
+            for (int x = 0; x < SRCW; x++) {
+                int pixel = 0;
+                for (int shift = 0; shift < 32; shift += 8) {
+                    float sum = 0f;
+                    for (int i = 0; i < WEIGHTS.length; i++) {
+                        sum += component(x + offx + i * stepx, y + offy + i * stepy, shift) * WEIGHTS[i];
+                    }
+                    pixel |= clamp(sum) << shift;
+                }
+                expected[y * SRCW + x] = pixel;
+            }
+        }
+        return expected;
+    }
+
+    private int[] filter(float srcx0, float srcy0, float offsetx, float offsety, float deltax, float deltay) {
+        int[] dst = new int[SRCW * SRCH];
+        peer.filterVector(dst, SRCW, SRCH, SRCW,
+                          src, SRCW, SRCH, SCAN,
+                          WEIGHTS, WEIGHTS.length,
+                          srcx0, srcy0,
+                          offsetx, offsety,
+                          deltax, deltay,
+                          1f, 0f, 0f, 1f);
+        return dst;
+    }
+
+    @Test
+    public void testHorizontalPass() {
+        assertArrayEquals(expectedConvolution(-2, 0, 1, 0), filter(0f, 0f, -2f, 0f, 1f, 0f));
+    }
+
+    @Test
+    public void testVerticalPass() {
+        assertArrayEquals(expectedConvolution(0, -2, 0, 1), filter(0f, 0f, 0f, -2f, 0f, 1f));
+    }
+
+    @Test
+    public void testPassWithSamplesOutsideOfSource() {
+        assertArrayEquals(expectedConvolution(-9, 3, 4, 0), filter(0f, 0f, -9f, 3f, 4f, 0f));
+        assertArrayEquals(expectedConvolution(5, -7, 0, 3), filter(0f, 0f, 5f, -7f, 0f, 3f));
+    }
+
+    @Test
+    public void testPassBetweenPixelCentersIsInterpolated() {
+        int[] dst = filter(0.5f, 0f, -2f, 0f, 1f, 0f);
+        int[] left = expectedConvolution(-2, 0, 1, 0);
+        int[] right = expectedConvolution(-1, 0, 1, 0);
+        for (int i = 0; i < dst.length; i++) {
+            for (int shift = 0; shift < 32; shift += 8) {
+                int average = (((left[i] >>> shift) & 0xff) + ((right[i] >>> shift) & 0xff)) / 2;
+                assertEquals(average, (dst[i] >>> shift) & 0xff, 2);
+            }
+        }
+    }
+
+    private static class TestPeer extends JSWLinearConvolvePeer {
+        TestPeer() {
+            super(PrFilterContext.getPrinterContext(new Object()), null, "LinearConvolve");
+        }
+
+        @Override
+        public void filterVector(int[] dstPixels, int dstw, int dsth, int dstscan,
+                                 int[] srcPixels, int srcw, int srch, int srcscan,
+                                 float[] weights, int count,
+                                 float srcx0, float srcy0,
+                                 float offsetx, float offsety,
+                                 float deltax, float deltay,
+                                 float dxcol, float dycol, float dxrow, float dyrow) {
+            super.filterVector(dstPixels, dstw, dsth, dstscan,
+                               srcPixels, srcw, srch, srcscan,
+                               weights, count,
+                               srcx0, srcy0,
+                               offsetx, offsety,
+                               deltax, deltay,
+                               dxcol, dycol, dxrow, dyrow);
+        }
+    }
+}
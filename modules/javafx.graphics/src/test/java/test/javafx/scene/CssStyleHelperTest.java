@@ -33,10 +33,12 @@ import java.util.List;
 import com.sun.javafx.css.StyleManager;
 import com.sun.javafx.tk.Toolkit;
 import javafx.application.ColorScheme;
+import javafx.css.CssMetaData;
 import javafx.css.CssParser;
 import javafx.css.CssParser.ParseError;
 import javafx.css.CssParser.ParseError.PropertySetError;
 import javafx.css.PseudoClass;
+import javafx.css.Styleable;
 import javafx.css.Stylesheet;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
@@ -965,6 +967,113 @@ public class CssStyleHelperTest {
         assertEquals(List.of(1.0, 2.0, 1.5, 1.0), trace);
     }
 
+    private static class CountingPane extends Pane {
+        int cssMetaDataRequests;
+
+        @Override
+        public List<CssMetaData<? extends Styleable, ?>> getCssMetaData() {
+            cssMetaDataRequests++;
+            return super.getCssMetaData();
+        }
+    }
+
+    @Test
+    public void pseudoClassChangeThatOnlyAffectsParentDoesNotUpdateChildren() throws IOException {
+        Stylesheet stylesheet = new CssParser().parse(
+                "pseudoClassChangeThatOnlyAffectsParentDoesNotUpdateChildren",
+                ".a { -fx-background-color: green; }\n"
+                + ".a:ps1 { -fx-background-color: red; }\n"
+                + ".c { -fx-background-color: yellow; }\n"
+        );
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+        Pane A = new Pane();
+        A.getStyleClass().add("a");
+        CountingPane C = new CountingPane();
+        C.getStyleClass().add("c");
+        A.getChildren().add(C);
+        root.getChildren().add(A);
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+
+        int requests = C.cssMetaDataRequests;
+        A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), true);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.RED, A.getBackground().getFills().get(0).getFill());
+        assertEquals(Color.YELLOW, C.getBackground().getFills().get(0).getFill());
+        assertEquals(requests, C.cssMetaDataRequests);
+    }
+
+    @Test
+    public void pseudoClassChangeOfLookedUpColorUpdatesChildren() throws IOException {
+        Stylesheet stylesheet = new CssParser().parse(
+                "pseudoClassChangeOfLookedUpColorUpdatesChildren",
+                ".a { -my-color: green; }\n"
+                + ".a:ps1 { -my-color: red; }\n"
+                + ".c { -fx-background-color: -my-color; }\n"
+        );
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+        Pane A = new Pane();
+        A.getStyleClass().add("a");
+        Pane C = new Pane();
+        C.getStyleClass().add("c");
+        A.getChildren().add(C);
+        root.getChildren().add(A);
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+        assertEquals(Color.GREEN, C.getBackground().getFills().get(0).getFill());
+
+        A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), true);
+        Toolkit.getToolkit().firePulse();
+        assertEquals(Color.RED, C.getBackground().getFills().get(0).getFill());
+    }
+
+    @Test
+    public void pseudoClassChangeOfInheritedFontUpdatesChildren() throws IOException {
+        Stylesheet stylesheet = new CssParser().parse(
+                "pseudoClassChangeOfInheritedFontUpdatesChildren",
+                ".a:ps1 { -fx-font-style: italic; }\n"
+        );
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+        Pane A = new Pane();
+        A.getStyleClass().add("a");
+        Text C = new Text("C");
+        A.getChildren().add(C);
+        root.getChildren().add(A);
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+        assertEquals("Regular", C.getFont().getStyle());
+
+        A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), true);
+        Toolkit.getToolkit().firePulse();
+        assertEquals("Italic", C.getFont().getStyle());
+    }
+
+    @Test
+    public void pseudoClassChangeOfExplicitlyInheritedPropertyUpdatesChildren() throws IOException {
+        Stylesheet stylesheet = new CssParser().parse(
+                "pseudoClassChangeOfExplicitlyInheritedPropertyUpdatesChildren",
+                ".a { -fx-opacity: 1; }\n"
+                + ".a:ps1 { -fx-opacity: 0.5; }\n"
+                + ".c { -fx-opacity: inherit; }\n"
+        );
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+        Pane A = new Pane();
+        A.getStyleClass().add("a");
+        Pane C = new Pane();
+        C.getStyleClass().add("c");
+        A.getChildren().add(C);
+        root.getChildren().add(A);
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+        assertEquals(1, C.getOpacity());
+
+        A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), true);
+        Toolkit.getToolkit().firePulse();
+        assertEquals(0.5, A.getOpacity());
+        assertEquals(0.5, C.getOpacity());
+    }
+
     private static String toDataURL(String stylesheet) {
         return "data:text/plain;base64," + Base64.getEncoder().encodeToString(stylesheet.getBytes(StandardCharsets.UTF_8));
     }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene;
+
+import com.sun.javafx.geom.PickRay;
+import com.sun.javafx.scene.NodeHelper;
+import com.sun.javafx.scene.input.PickResultChooser;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.ParentShim;
+import javafx.scene.Scene;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class Parent_pickIndex_Test {
+
+    private Group group;
+
+    @BeforeEach
+    public void setUp() {
+        group = new Group();
+        ParentShim.setPickIndexThreshold(group, 2);
+        new Scene(group);
+    }
+
+    private Node pick(double x, double y) {
+        PickResultChooser res = new PickResultChooser();
+        NodeHelper.pickNode(group, new PickRay(x, y, 1, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY), res);
+        return res.getIntersectedNode();
+    }
+
+    @Test
+    public void testPickInGrid() {
+        Rectangle[][] rects = new Rectangle[40][40];
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 40; x++) {
+                rects[y][x] = new Rectangle(x * 10, y * 10, 8, 8);
+                group.getChildren().add(rects[y][x]);
+            }
+        }
+
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 40; x++) {
+                assertSame(rects[y][x], pick(x * 10 + 4, y * 10 + 4));
+            }
+        }
+        assertNull(pick(9, 9));
+        assertNull(pick(-5, 5));
+    }
+
+    @Test
+    public void testPickTopmostOfOverlappingChildren() {
+        Rectangle bottom = new Rectangle(0, 0, 100, 100);
+        Rectangle small = new Rectangle(40, 40, 10, 10);
+        Rectangle top = new Rectangle(45, 45, 100, 100);
+        group.getChildren().addAll(bottom, small, top);
+
+        assertSame(top, pick(46, 46));
+        assertSame(small, pick(41, 41));
+        assertSame(bottom, pick(10, 10));
+        assertSame(top, pick(120, 120));
+    }
+
+    @Test
+    public void testPickAfterChildMoved() {
+        Rectangle r0 = new Rectangle(0, 0, 10, 10);
+        Rectangle r1 = new Rectangle(20, 0, 10, 10);
+        group.getChildren().addAll(r0, r1);
+        assertSame(r1, pick(25, 5));
+
+        r1.setTranslateX(100);
+        assertNull(pick(25, 5));
+        assertSame(r1, pick(125, 5));
+
+        r0.setWidth(200);
+        assertSame(r1, pick(125, 5));
+        assertSame(r0, pick(25, 5));
+    }
+
+    @Test
+    public void testPickAfterChildrenChanged() {
+        Rectangle r0 = new Rectangle(0, 0, 10, 10);
+        Rectangle r1 = new Rectangle(20, 0, 10, 10);
+        group.getChildren().addAll(r0, r1);
+        assertSame(r0, pick(5, 5));
+
+        Rectangle r2 = new Rectangle(0, 0, 10, 10);
+        group.getChildren().add(r2);
+        assertSame(r2, pick(5, 5));
+
+        group.getChildren().remove(r2);
+        assertSame(r0, pick(5, 5));
+
+        r0.toFront();
+        group.getChildren().add(0, r2);
+        assertSame(r0, pick(5, 5));
+    }
+
+    @Test
+    public void testPickWithViewOrder() {
+        Rectangle r0 = new Rectangle(0, 0, 10, 10);
+        Rectangle r1 = new Rectangle(0, 0, 10, 10);
+        Rectangle r2 = new Rectangle(50, 0, 10, 10);
+        group.getChildren().addAll(r0, r1, r2);
+        assertSame(r1, pick(5, 5));
+
+        r1.setViewOrder(1);
+        assertSame(r0, pick(5, 5));
+        assertSame(r2, pick(55, 5));
+    }
+
+    @Test
+    public void testPickChildMovedWhileInvisible() {
+        Rectangle r0 = new Rectangle(0, 0, 10, 10);
+        Rectangle r1 = new Rectangle(20, 0, 10, 10);
+        group.getChildren().addAll(r0, r1);
+        assertSame(r1, pick(25, 5));
+
+        r1.setVisible(false);
+        assertNull(pick(25, 5));
+        r1.setX(100);
+        r1.setVisible(true);
+        assertNull(pick(25, 5));
+        assertSame(r1, pick(105, 5));
+    }
+}
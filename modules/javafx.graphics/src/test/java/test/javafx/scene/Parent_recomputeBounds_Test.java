@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,11 +26,14 @@
 package test.javafx.scene;
 
 import test.com.sun.javafx.test.TestHelper;
+import java.util.ArrayList;
+import java.util.List;
 import javafx.geometry.BoundingBox;
 import javafx.scene.transform.Rotate;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.NodeShim;
 import javafx.scene.ParentShim;
 import javafx.scene.shape.Rectangle;
@@ -611,4 +614,64 @@ public class Parent_recomputeBounds_Test {
 
         return result;
     }
+
+    private static Group createLargeGroup(Rectangle[] rects) {
+        final Group g = new Group();
+        for (int i = 0; i < rects.length; ++i) {
+            rects[i] = new Rectangle(i * 10, 0, 5, 5);
+            g.getChildren().add(rects[i]);
+        }
+        return g;
+    }
+
+    @Test
+    public void shouldRecomputeBoundsAfterRemovingDirtyChildrenFromLargeGroup() {
+        final Rectangle[] rects = new Rectangle[100];
+        final Group g = createLargeGroup(rects);
+        Bounds b;
+
+        b = g.getBoundsInLocal();
+        assertEquals(0, b.getMinX(), 0.0001);
+        assertEquals(995, b.getWidth(), 0.0001);
+
+        rects[10].setY(100);
+        rects[20].setY(-50);
+        rects[11].setY(200);
+
+        final List<Node> toRemove = new ArrayList<>();
+        for (int i = 0; i < rects.length; i += 2) {
+            toRemove.add(rects[i]);
+        }
+        g.getChildren().removeAll(toRemove);
+
+        b = g.getBoundsInLocal();
+        assertEquals(50, g.getChildren().size());
+        assertEquals(10, b.getMinX(), 0.0001);
+        assertEquals(0, b.getMinY(), 0.0001);
+        assertEquals(985, b.getWidth(), 0.0001);
+        assertEquals(205, b.getHeight(), 0.0001);
+    }
+
+    @Test
+    public void shouldRecomputeBoundsAfterRepeatedVisibilityChangesInLargeGroup() {
+        final Rectangle[] rects = new Rectangle[100];
+        final Group g = createLargeGroup(rects);
+        Bounds b;
+
+        b = g.getBoundsInLocal();
+        assertEquals(5, b.getHeight(), 0.0001);
+
+        for (int i = 0; i < 1000; ++i) {
+            rects[50].setVisible(false);
+            rects[50].setVisible(true);
+        }
+        rects[50].setY(300);
+        rects[99].setVisible(false);
+
+        b = g.getBoundsInLocal();
+        assertEquals(0, b.getMinX(), 0.0001);
+        assertEquals(0, b.getMinY(), 0.0001);
+        assertEquals(985, b.getWidth(), 0.0001);
+        assertEquals(305, b.getHeight(), 0.0001);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,8 +28,11 @@ package test.javafx.scene.canvas;
 import javafx.geometry.VPos;
 import test.javafx.scene.NodeTest;
 import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.CanvasShim;
+import javafx.scene.canvas.DisplayList;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.effect.BlendMode;
+import javafx.scene.effect.BoxBlur;
 import test.javafx.scene.image.ImageForTesting;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.ArcType;
@@ -51,6 +54,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CanvasTest {
 
@@ -537,6 +541,68 @@ public class CanvasTest {
         gc.applyEffect(null);
     }
 
+    @Test
+    public void testGCfillRects_basic() {
+        gc.fillRects(new double[] { 0, 0, 10, 10, 20, 20, 5, 5 }, 2);
+        gc.fillRects(new double[] { 0, 0, 10, 10 }, 0);
+        gc.fillRects(null, 2);
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillRects(new double[] { 0, 0, 10 }, 1));
+    }
+
+    @Test
+    public void testGCstrokeLines_basic() {
+        gc.strokeLines(new double[] { 0, 0, 10, 10, 20, 20, 5, 5 }, 2);
+        gc.strokeLines(null, 2);
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.strokeLines(new double[] { 0, 0, 10, 10 }, 2));
+    }
+
+    @Test
+    public void testGCfillPoints_basic() {
+        gc.fillPoints(new double[] { 0, 0, 10, 10, 20, 20 }, 3, 2);
+        gc.fillPoints(new double[] { 0, 0 }, 1, 0);
+        gc.fillPoints(null, 3, 2);
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillPoints(new double[] { 0, 0, 10 }, 2, 2));
+    }
+
+    @Test
+    public void testGCbatchIsSentAsOneObject() {
+        double[] coords = { 0, 0, 10, 10, 5, 5, 10, 10 };
+        int objects = CanvasShim.getBufferObjectCount(canvas);
+        gc.fillRects(coords, 2);
+        gc.strokeLines(coords, 2);
+        gc.fillPoints(coords, 4, 2);
+        assertEquals(objects + 3, CanvasShim.getBufferObjectCount(canvas));
+    }
+
+    @Test
+    public void testGCbatchFallsBackWithBlendMode() {
+        gc.setGlobalBlendMode(BlendMode.MULTIPLY);
+        assertBatchFallsBack();
+    }
+
+    @Test
+    public void testGCbatchFallsBackWithClip() {
+        gc.rect(0, 0, 20, 20);
+        gc.clip();
+        assertBatchFallsBack();
+    }
+
+    @Test
+    public void testGCbatchFallsBackWithEffect() {
+        gc.setEffect(new BoxBlur());
+        assertBatchFallsBack();
+    }
+
+    private void assertBatchFallsBack() {
+        double[] coords = { 0, 0, 10, 10, 5, 5, 10, 10 };
+        int objects = CanvasShim.getBufferObjectCount(canvas);
+        gc.fillRects(coords, 2);
+        gc.strokeLines(coords, 2);
+        gc.fillPoints(coords, 4, 2);
+        assertEquals(objects, CanvasShim.getBufferObjectCount(canvas));
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillRects(coords, 3));
+    }
+
     @Test
     public void testGCdrawImage_Null() {
         gc.drawImage(null, 0 ,0);
@@ -554,6 +620,86 @@ public class CanvasTest {
         gc.drawImage(image, 0, 0, 100, 100, 0, 0, 100, 100);
     }
 
+    @Test
+    public void testGCdrawDisplayList_basic() {
+        DisplayList list = DisplayList.record(g -> {
+            g.save();
+            g.setFill(Color.RED);
+            g.translate(10, 10);
+            g.beginPath();
+            g.rect(0, 0, 10, 10);
+            g.clip();
+            g.fillRect(0, 0, 100, 100);
+            g.fillText("Test", 0, 0);
+            g.restore();
+            g.strokeLine(0, 0, 100, 100);
+        });
+        gc.drawDisplayList(list);
+        gc.translate(50, 50);
+        gc.drawDisplayList(list);
+        gc.drawDisplayList(DisplayList.record(g -> g.drawDisplayList(list)));
+    }
+
+    @Test
+    public void testGCdrawDisplayList_Null() {
+        gc.drawDisplayList(null);
+        gc.drawDisplayList(DisplayList.record(g -> {}));
+    }
+
+    @Test
+    public void testDisplayListRecord_Null() {
+        assertThrows(NullPointerException.class, () -> DisplayList.record(null));
+    }
+
+    @Test
+    public void testDisplayListRecord_PixelWriterUnsupported() {
+        DisplayList.record(g -> {
+            assertThrows(UnsupportedOperationException.class, g::getPixelWriter);
+        });
+    }
+
+    @Test
+    public void testGCdrawDisplayList_AttributesUnchanged() {
+        gc.setFill(Color.BLUE);
+        gc.setLineWidth(5);
+        DisplayList list = DisplayList.record(g -> {
+            assertEquals(Color.BLACK, g.getFill());
+            g.setFill(Color.RED);
+            g.setLineWidth(2);
+        });
+        gc.drawDisplayList(list);
+        assertEquals(Color.BLUE, gc.getFill());
+        assertEquals(5, gc.getLineWidth(), 0);
+    }
+
+    @Test
+    public void testSubmitFrame() {
+        gc.setFill(Color.BLUE);
+        gc.translate(10, 10);
+        DisplayList frame = DisplayList.record(g -> {
+            g.setFill(Color.RED);
+            g.fillRect(0, 0, 10, 10);
+        });
+        canvas.submitFrame(frame);
+        canvas.submitFrame(frame);
+        assertEquals(Color.BLUE, gc.getFill());
+        assertEquals(10, gc.getTransform().getTx(), 0);
+        gc.fillRect(0, 0, 10, 10);
+    }
+
+    @Test
+    public void testSubmitFrame_Null() {
+        assertThrows(NullPointerException.class, () -> canvas.submitFrame(null));
+    }
+
+    @Test
+    public void testSubmitFrame_WhileRecording() {
+        DisplayList frame = DisplayList.record(g -> {});
+        DisplayList.record(g -> {
+            assertThrows(IllegalStateException.class, () -> g.getCanvas().submitFrame(frame));
+        });
+    }
+
     public static void assertMatrix(Transform expected,
             Transform result) {
         assertEquals(expected.getMxx(), result.getMxx(), 0.00001);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,8 +24,11 @@
  */
 package test.javafx.scene.shape;
 
+import com.sun.javafx.sg.prism.NGTriangleMesh;
+import com.sun.javafx.sg.prism.NGTriangleMeshShim;
 import java.util.Arrays;
 import javafx.scene.shape.TriangleMesh;
+import javafx.scene.shape.TriangleMeshShim;
 import javafx.scene.shape.VertexFormat;
 
 import org.junit.jupiter.api.Test;
@@ -467,6 +470,41 @@ public class TriangleMeshTest {
         assertEquals(vf1, vf2);
     }
 
+    @Test
+    public void testScatteredUpdatesOnlyCopyDirtyRanges() {
+        TriangleMesh triMesh = buildTriangleMesh(10, 10);
+        TriangleMeshShim.updatePG(triMesh);
+        NGTriangleMesh ngMesh = TriangleMeshShim.getNGMesh(triMesh);
+        float[] ngPoints = NGTriangleMeshShim.test_getPoints(ngMesh);
+
+        // a value between the two dirty ranges must not be copied again
+        int last = triMesh.getPoints().size() - 1;
+        ngPoints[last / 2] = 42;
+        triMesh.getPoints().set(0, 1);
+        triMesh.getPoints().set(last, 2);
+        TriangleMeshShim.updatePG(triMesh);
+
+        assertEquals(1, ngPoints[0]);
+        assertEquals(2, ngPoints[last]);
+        assertEquals(42, ngPoints[last / 2]);
+    }
+
+    @Test
+    public void testManyScatteredUpdatesAreSynced() {
+        TriangleMesh triMesh = buildTriangleMesh(10, 10);
+        TriangleMeshShim.updatePG(triMesh);
+        NGTriangleMesh ngMesh = TriangleMeshShim.getNGMesh(triMesh);
+
+        for (int i = 0; i < triMesh.getPoints().size(); i += 7) {
+            triMesh.getPoints().set(i, i);
+        }
+        TriangleMeshShim.updatePG(triMesh);
+
+        float[] expected = triMesh.getPoints().toArray(null);
+        float[] actual = NGTriangleMeshShim.test_getPoints(ngMesh);
+        assertArrayEquals(expected, Arrays.copyOf(actual, expected.length));
+    }
+
     TriangleMesh buildTriangleMesh(int subDivX, int subDivY) {
         TriangleMesh triangleMesh = new TriangleMesh();
         final int pointSize = triangleMesh.getPointElementSize();